@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.association.list;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import be.ugent.zeus.hydra.association.event.Event;
+import be.ugent.zeus.hydra.association.event.EventList;
+import be.ugent.zeus.hydra.benchmark.Fixtures;
+import be.ugent.zeus.hydra.common.network.InstanceProvider;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures converting events to the items of the event list, both at once and page by page.
+ *
+ * @author Niko Strijbol
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListConverterBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private final EventListConverter converter = new EventListConverter();
+    private List<Event> events;
+    private List<EventItem> firstHalf;
+    private List<Event> secondHalf;
+
+    @Setup
+    public void setUp() throws IOException {
+        String json = Fixtures.scale("activiteiten.json", scale, Fixtures::shiftEvent);
+        EventList list = InstanceProvider.getMoshi().adapter(EventList.class).fromJson(json);
+        events = new ArrayList<>(list.getPage().getEntries());
+        // The converter requires the events to be sorted.
+        events.sort(Comparator.comparing(Event::getStart));
+        int half = events.size() / 2;
+        firstHalf = converter.apply(events.subList(0, half));
+        secondHalf = events.subList(half, events.size());
+    }
+
+    @Benchmark
+    public List<EventItem> convert() {
+        return converter.apply(events);
+    }
+
+    @Benchmark
+    public List<EventItem> append() {
+        return converter.append(firstHalf, secondHalf);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.BiFunction;
+
+import be.ugent.zeus.hydra.common.network.InstanceProvider;
+import com.squareup.moshi.JsonAdapter;
+import okio.BufferedSource;
+import okio.Okio;
+
+/**
+ * Loads the JSON fixtures of the unit tests, optionally scaled up, for use in benchmarks.
+ * <p>
+ * A fixture is scaled by repeating the elements of its largest array. For a fixture that is an array, this is the
+ * fixture itself. For an object, this is the largest array in the object, e.g. the entries of the news.
+ * Note that numbers are written as floating point numbers after scaling, which Moshi reads as integers if needed.
+ *
+ * @author Niko Strijbol
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * Read a fixture.
+     *
+     * @param name The path of the fixture in the test resources.
+     * @return The content of the fixture.
+     */
+    public static String read(String name) throws IOException {
+        InputStream stream = Fixtures.class.getClassLoader().getResourceAsStream(name);
+        if (stream == null) {
+            throw new IOException("Fixture " + name + " does not exist.");
+        }
+        try (BufferedSource source = Okio.buffer(Okio.source(stream))) {
+            return source.readUtf8();
+        }
+    }
+
+    /**
+     * @see #scale(String, int, BiFunction)
+     */
+    public static String scale(String name, int factor) throws IOException {
+        return scale(name, factor, (copy, element) -> element);
+    }
+
+    /**
+     * Read a fixture and repeat the elements of its largest array.
+     *
+     * @param name   The path of the fixture in the test resources.
+     * @param factor How many times the elements are repeated. A factor of 1 returns the fixture as is.
+     * @param copier Makes the copy of an element for the given copy, starting at 1. Can be used to make the copies
+     *               different from the original, e.g. by shifting dates. Must not modify the element.
+     * @return The scaled fixture.
+     */
+    public static String scale(String name, int factor, BiFunction<Integer, Object, Object> copier) throws IOException {
+        String json = read(name);
+        if (factor == 1) {
+            return json;
+        }
+        JsonAdapter<Object> adapter = InstanceProvider.getMoshi().adapter(Object.class);
+        Object root = adapter.fromJson(json);
+        List<Object> largest = findLargestArray(root);
+        if (largest == null) {
+            throw new IOException("Fixture " + name + " has no array to scale.");
+        }
+        List<Object> original = new ArrayList<>(largest);
+        for (int copy = 1; copy < factor; copy++) {
+            for (Object element : original) {
+                largest.add(copier.apply(copy, element));
+            }
+        }
+        return adapter.toJson(root);
+    }
+
+    /**
+     * Copier for events, which moves each copy a week later. This spreads the copies over time, like real events.
+     *
+     * @see #scale(String, int, BiFunction)
+     */
+    @SuppressWarnings("unchecked")
+    public static Object shiftEvent(int copy, Object element) {
+        Map<String, Object> event = new LinkedHashMap<>((Map<String, Object>) element);
+        for (String field : new String[]{"start_time", "end_time"}) {
+            Object value = event.get(field);
+            if (value instanceof String) {
+                OffsetDateTime shifted = OffsetDateTime.parse((String) value).plusWeeks(copy);
+                event.put(field, DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(shifted));
+            }
+        }
+        return event;
+    }
+
+    /**
+     * Find the largest array. Arrays in arrays are not considered, since the outer array is the one to scale.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> findLargestArray(Object value) {
+        if (value instanceof List) {
+            return (List<Object>) value;
+        }
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        List<Object> largest = null;
+        for (Object child : ((Map<String, Object>) value).values()) {
+            List<Object> candidate = findLargestArray(child);
+            if (candidate != null && (largest == null || candidate.size() > largest.size())) {
+                largest = candidate;
+            }
+        }
+        return largest;
+    }
+}
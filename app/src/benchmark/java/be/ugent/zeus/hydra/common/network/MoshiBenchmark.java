@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import be.ugent.zeus.hydra.association.event.EventList;
+import be.ugent.zeus.hydra.benchmark.Fixtures;
+import be.ugent.zeus.hydra.info.InfoItem;
+import be.ugent.zeus.hydra.library.list.LibraryList;
+import be.ugent.zeus.hydra.news.NewsStream;
+import be.ugent.zeus.hydra.resto.RestoMenu;
+import be.ugent.zeus.hydra.schamper.Article;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Types;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures parsing the responses of the API with the adapters of {@link InstanceProvider#getMoshi()}.
+ *
+ * @author Niko Strijbol
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoshiBenchmark {
+
+    @Param({
+            "activiteiten.json",
+            "ugent_news.json",
+            "all_libraries.json",
+            "info_content.json",
+            "daily_android.json",
+            "resto/menu_default.json"
+    })
+    public String fixture;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private JsonAdapter<Object> adapter;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        adapter = InstanceProvider.getMoshi().adapter(typeOf(fixture));
+        if ("activiteiten.json".equals(fixture)) {
+            json = Fixtures.scale(fixture, scale, Fixtures::shiftEvent);
+        } else {
+            json = Fixtures.scale(fixture, scale);
+        }
+    }
+
+    @Benchmark
+    public Object parse() throws IOException {
+        return adapter.fromJson(json);
+    }
+
+    private static Type typeOf(String fixture) {
+        switch (fixture) {
+            case "activiteiten.json":
+                return EventList.class;
+            case "ugent_news.json":
+                return NewsStream.class;
+            case "all_libraries.json":
+                return LibraryList.class;
+            case "info_content.json":
+                return Types.newParameterizedType(List.class, InfoItem.class);
+            case "daily_android.json":
+                return Types.newParameterizedType(List.class, Article.class);
+            case "resto/menu_default.json":
+                return Types.newParameterizedType(List.class, RestoMenu.class);
+            default:
+                throw new IllegalArgumentException("Unknown fixture " + fixture);
+        }
+    }
+}
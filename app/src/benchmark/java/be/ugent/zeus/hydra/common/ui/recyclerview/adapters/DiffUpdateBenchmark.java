@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the diff calculated when new data is set on a {@link DiffAdapter}, including the dispatch of the changes.
+ * <p>
+ * Every tenth item is replaced, and the first item is moved to the end, which is a typical refresh of a list.
+ *
+ * @author Niko Strijbol
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiffUpdateBenchmark {
+
+    private static final int ITEMS = 30;
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private List<Integer> existing;
+    private List<Integer> updated;
+
+    @Setup
+    public void setUp() {
+        int count = ITEMS * scale;
+        existing = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            existing.add(i);
+        }
+        updated = new ArrayList<>(existing);
+        for (int i = 0; i < count; i += 10) {
+            updated.set(i, count + i);
+        }
+        updated.add(updated.remove(1));
+    }
+
+    @Benchmark
+    public void diff(Blackhole blackhole) {
+        DiffUpdate<Integer> update = new DiffUpdate<>(updated);
+        blackhole.consume(update.getNewData(existing));
+        update.applyUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onDataSetChanged() {
+                blackhole.consume(-1);
+            }
+
+            @Override
+            public void onInserted(int position, int count) {
+                blackhole.consume(position);
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+                blackhole.consume(position);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                blackhole.consume(fromPosition);
+            }
+
+            @Override
+            public void onChanged(int position, int count, Object payload) {
+                blackhole.consume(position);
+            }
+        });
+    }
+}
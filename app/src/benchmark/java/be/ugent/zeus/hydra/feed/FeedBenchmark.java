@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed;
+
+import android.os.Bundle;
+import androidx.annotation.NonNull;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import be.ugent.zeus.hydra.common.request.Result;
+import be.ugent.zeus.hydra.feed.cards.Card;
+import be.ugent.zeus.hydra.feed.cards.dismissal.CardDismissal;
+import be.ugent.zeus.hydra.feed.cards.dismissal.CardIdentifier;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
+import be.ugent.zeus.hydra.feed.commands.MemoryDismissalDao;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the work done by the home feed for each completed operation: hiding dismissed cards, and merging the cards
+ * into the feed.
+ * <p>
+ * The feed has six card types, with 10 cards per type at scale 1.
+ *
+ * @author Niko Strijbol
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedBenchmark {
+
+    private static final int CARDS_PER_TYPE = 10;
+    private static final int[] TYPES = {
+            Card.Type.RESTO,
+            Card.Type.ACTIVITY,
+            Card.Type.SPECIAL_EVENT,
+            Card.Type.SCHAMPER,
+            Card.Type.NEWS_ITEM,
+            Card.Type.LIBRARY
+    };
+
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private final ZonedDateTime now = ZonedDateTime.now();
+    private FeedSegments segments;
+    private List<Card> replacement;
+    private MemoryDismissalDao dismissals;
+
+    @Setup
+    public void setUp() {
+        int count = CARDS_PER_TYPE * scale;
+        segments = FeedSegments.EMPTY;
+        for (int type : TYPES) {
+            segments = segments.replace(type, cards(type, 0, count));
+        }
+        // Half of the news cards are new, the other half remain.
+        replacement = cards(Card.Type.NEWS_ITEM, count / 2, count);
+
+        // Dismiss every tenth news card, and add as many dismissals of cards that no longer exist.
+        dismissals = new MemoryDismissalDao();
+        for (int i = 0; i < count; i += 10) {
+            dismissals.insert(dismissal(String.valueOf(i)));
+            dismissals.insert(dismissal("stale" + i));
+        }
+    }
+
+    @Benchmark
+    public FeedSegments replace() {
+        return segments.replace(Card.Type.NEWS_ITEM, replacement);
+    }
+
+    @Benchmark
+    public FeedSegments rankUnchanged() {
+        return segments.rank(now);
+    }
+
+    @Benchmark
+    public List<Card> filter() {
+        // The index is created for each load of the feed.
+        HideableHomeFeedRequest request = new HideableHomeFeedRequest(new DismissalIndex(dismissals)) {
+            @NonNull
+            @Override
+            protected Result<Stream<Card>> performRequestCards(@NonNull Bundle args) {
+                return Result.Builder.fromData(replacement.stream());
+            }
+
+            @Override
+            public int getCardType() {
+                return Card.Type.NEWS_ITEM;
+            }
+        };
+        return request.execute(Bundle.EMPTY).getData().collect(Collectors.toList());
+    }
+
+    /**
+     * Create ranked cards with the identifiers in [from, to[.
+     */
+    private List<Card> cards(@Card.Type int type, int from, int to) {
+        List<Card> cards = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            BenchmarkCard card = new BenchmarkCard(type, i);
+            card.rank(now);
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private static CardDismissal dismissal(String id) {
+        return new CardDismissal(new CardIdentifier(Card.Type.NEWS_ITEM, id), Instant.EPOCH);
+    }
+
+    /**
+     * Card with a fixed priority, derived from its identifier.
+     */
+    private static final class BenchmarkCard extends Card {
+
+        private final int type;
+        private final int id;
+
+        private BenchmarkCard(int type, int id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public int getCardType() {
+            return type;
+        }
+
+        @Override
+        protected int calculatePriority(ZonedDateTime now) {
+            return (id * 7919 + type * 31) % 1000;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return String.valueOf(id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            BenchmarkCard that = (BenchmarkCard) o;
+            return type == that.type && id == that.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
+}
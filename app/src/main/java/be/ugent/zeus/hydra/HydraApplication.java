@@ -32,6 +32,7 @@ import com.google.android.material.color.DynamicColors;
 import be.ugent.zeus.hydra.common.reporting.Manager;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
 import be.ugent.zeus.hydra.common.reporting.Tracker;
+import be.ugent.zeus.hydra.feed.FeedPrefetchWorker;
 import be.ugent.zeus.hydra.preferences.ThemeFragment;
 import jonathanfinerty.once.Once;
 
@@ -90,6 +91,9 @@ public class HydraApplication extends Application {
         DynamicColors.applyToActivitiesIfAvailable(this);
 
         Once.initialise(this);
+
+        // Keep the caches of the home feed warm.
+        FeedPrefetchWorker.schedule(this);
     }
 
     @SuppressLint("SwitchIntDef")
@@ -72,6 +72,11 @@ public class AssociationListRequest {
         public Duration getCacheDuration() {
             return ChronoUnit.WEEKS.getDuration().multipliedBy(4);
         }
+
+        @Override
+        protected boolean isStaleWhileRevalidate() {
+            return true;
+        }
     }
 
     private static class Mapper implements AssociationMap {
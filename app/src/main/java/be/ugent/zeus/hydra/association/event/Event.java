@@ -34,28 +34,32 @@ import be.ugent.zeus.hydra.association.Association;
 import be.ugent.zeus.hydra.common.converter.DateTypeConverters;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
 import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonClass;
 
 /**
  * Event from an {@link Association}.
+ * <p>
+ * This is decoded by the {@link EventJsonAdapter}, so the fields are package-private.
  *
  * @author Niko Strijbol
  * @author feliciaan
  */
+@JsonClass(generateAdapter = true)
 public final class Event implements Parcelable, Comparable<Event> {
 
-    private long id;
-    private String title;
+    long id;
+    String title;
     @Json(name = "start_time")
-    private OffsetDateTime start;
+    OffsetDateTime start;
     @Json(name = "end_time")
-    private OffsetDateTime end;
-    private String location;
-    private String address;
-    private String description;
+    OffsetDateTime end;
+    String location;
+    String address;
+    String description;
     @Json(name = "infolink")
-    private String url;
-    private String association;
-    private boolean advertise;
+    String url;
+    String association;
+    boolean advertise;
 
     public Event() {
         // Moshi uses this!
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.association.event;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Adapter for {@link Event}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link com.squareup.moshi.JsonClass} annotation on the event.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation, which only supports Kotlin. When
+ * adding a field to the event, it must be added here as well. Like the generated adapters, a JSON null for a primitive
+ * field results in a {@link JsonDataException}.
+ *
+ * @author Niko Strijbol
+ */
+final class EventJsonAdapter extends JsonAdapter<Event> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "id",
+            "title",
+            "start_time",
+            "end_time",
+            "location",
+            "address",
+            "description",
+            "infolink",
+            "association",
+            "advertise"
+    );
+
+    private final JsonAdapter<Long> longAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<OffsetDateTime> dateAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+
+    EventJsonAdapter(Moshi moshi) {
+        this.longAdapter = moshi.adapter(long.class);
+        this.stringAdapter = moshi.adapter(String.class);
+        this.dateAdapter = moshi.adapter(OffsetDateTime.class).nullSafe();
+        this.booleanAdapter = moshi.adapter(boolean.class);
+    }
+
+    @Override
+    public Event fromJson(JsonReader reader) throws IOException {
+        Event event = new Event();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    Long id = longAdapter.fromJson(reader);
+                    if (id == null) {
+                        throw unexpectedNull("id", reader);
+                    }
+                    event.id = id;
+                    break;
+                case 1:
+                    event.title = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    event.start = dateAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    event.end = dateAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    event.location = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    event.address = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    event.description = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    event.url = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    event.association = stringAdapter.fromJson(reader);
+                    break;
+                case 9:
+                    Boolean advertise = booleanAdapter.fromJson(reader);
+                    if (advertise == null) {
+                        throw unexpectedNull("advertise", reader);
+                    }
+                    event.advertise = advertise;
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return event;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable Event value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        longAdapter.toJson(writer, value.id);
+        writer.name("title");
+        stringAdapter.toJson(writer, value.title);
+        writer.name("start_time");
+        dateAdapter.toJson(writer, value.start);
+        writer.name("end_time");
+        dateAdapter.toJson(writer, value.end);
+        writer.name("location");
+        stringAdapter.toJson(writer, value.location);
+        writer.name("address");
+        stringAdapter.toJson(writer, value.address);
+        writer.name("description");
+        stringAdapter.toJson(writer, value.description);
+        writer.name("infolink");
+        stringAdapter.toJson(writer, value.url);
+        writer.name("association");
+        stringAdapter.toJson(writer, value.association);
+        writer.name("advertise");
+        booleanAdapter.toJson(writer, value.advertise);
+        writer.endObject();
+    }
+
+    /**
+     * @return The exception for a null value of a primitive field, with the same message as the generated adapters.
+     */
+    private static JsonDataException unexpectedNull(String name, JsonReader reader) {
+        return new JsonDataException("Non-null value '" + name + "' was null at " + reader.getPath());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(Event)";
+    }
+}
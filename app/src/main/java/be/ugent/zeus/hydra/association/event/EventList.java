@@ -22,6 +22,7 @@
 
 package be.ugent.zeus.hydra.association.event;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,6 +36,18 @@ public final class EventList {
     public EventList() {
     }
 
+    /**
+     * Create a list containing only the given events, e.g. while the full list is still being decoded.
+     *
+     * @param entries The events.
+     * @return The list.
+     */
+    static EventList withEntries(List<Event> entries) {
+        EventList list = new EventList();
+        list.page = EventPage.withEntries(entries);
+        return list;
+    }
+
     public EventPage getPage() {
         return page;
     }
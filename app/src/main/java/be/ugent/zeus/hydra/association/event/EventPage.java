@@ -25,27 +25,66 @@ package be.ugent.zeus.hydra.association.event;
 import java.util.List;
 import java.util.Objects;
 
+import com.squareup.moshi.Json;
+
 /**
+ * One page of events. Besides the events, the page contains the page number and the total number of pages, if the
+ * API provided them.
+ *
  * @author Niko Strijbol
  */
 public final class EventPage {
 
     private List<Event> entries;
+    @Json(name = "page_number")
+    private int pageNumber;
+    @Json(name = "total_pages")
+    private int totalPages;
+
+    static EventPage withEntries(List<Event> entries) {
+        EventPage page = new EventPage();
+        page.entries = entries;
+        return page;
+    }
 
     public List<Event> getEntries() {
         return entries;
     }
 
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    /**
+     * Check if there is a page after this one. If the API did not provide the number of pages, a full page is assumed
+     * to have a next page.
+     *
+     * @param pageSize The requested size of the page.
+     * @return True if there is a next page.
+     */
+    public boolean hasNextPage(int pageSize) {
+        if (totalPages > 0) {
+            return pageNumber < totalPages;
+        }
+        return entries != null && entries.size() >= pageSize;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         EventPage eventPage = (EventPage) o;
-        return Objects.equals(entries, eventPage.entries);
+        return pageNumber == eventPage.pageNumber &&
+                totalPages == eventPage.totalPages &&
+                Objects.equals(entries, eventPage.entries);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(entries);
+        return Objects.hash(entries, pageNumber, totalPages);
     }
 }
@@ -34,27 +34,39 @@ import java.util.function.Function;
 import be.ugent.zeus.hydra.association.list.Filter;
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonOkHttpRequest;
+import be.ugent.zeus.hydra.common.network.StreamingList;
 import be.ugent.zeus.hydra.common.request.Request;
 
 
 /**
- * Get the events for all associations. This will get all events returned by the API, without any filtering.
+ * Get one page of the events for all associations. This will get all events returned by the API, without any filtering.
  * <p>
- * You probably want {@link #create(Context, Filter)} instead.
+ * You probably want {@link #create(Context, Filter)} or {@link #createPage(Context, Filter, int)} instead.
  *
  * @author feliciaan
  * @author Niko Strijbol
  */
 public class RawEventRequest extends JsonOkHttpRequest<EventList> {
 
+    /**
+     * The number of events on one page.
+     */
+    public static final int PAGE_SIZE = 50;
+
     private static final String FILENAME = "activiteiten";
 
     private final Filter params;
+    private final int page;
 
     RawEventRequest(Context context, Filter params) {
+        this(context, params, 1);
+    }
+
+    RawEventRequest(Context context, Filter params, int page) {
         super(context, EventList.class);
         this.params = params;
-        Log.d("EVENT", "RawEventRequest: " + params);
+        this.page = page;
+        Log.d("EVENT", "RawEventRequest: " + params + ", page " + page);
     }
 
     /**
@@ -69,11 +81,27 @@ public class RawEventRequest extends JsonOkHttpRequest<EventList> {
                 .map(eventList -> eventList.getPage().getEntries());
     }
 
+    /**
+     * Get one page of events, starting from 1.
+     *
+     * @param context The context.
+     * @param filter  The filter for the events.
+     * @param page    The number of the page.
+     * @return The request.
+     */
+    public static Request<EventPage> createPage(Context context, Filter filter, int page) {
+        return new RawEventRequest(context, filter, page)
+                .map(EventList::getPage);
+    }
+
     @NonNull
     @Override
     protected String getAPIUrl() {
         Uri.Builder uri = Uri.parse(Endpoints.DSA_V4 + FILENAME).buildUpon();
-        String t = params.appendParams(uri).appendQueryParameter("page_size", "50").build().toString();
+        String t = params.appendParams(uri).appendQueryParameter("page_size", String.valueOf(PAGE_SIZE))
+                .appendQueryParameter("page", String.valueOf(page))
+                .build()
+                .toString();
         Log.d("TAG", "getAPIUrl: " + t);
         return t;
     }
@@ -82,4 +110,14 @@ public class RawEventRequest extends JsonOkHttpRequest<EventList> {
     public Duration getCacheDuration() {
         return Duration.ofHours(1);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected boolean isStaleWhileRevalidate() {
+        return true;
+    }
+
+    @Override
+    protected StreamingList<?, EventList> getStreamingList() {
+        return new StreamingList<>(Event.class, EventList::withEntries, "page", "entries");
+    }
+}
@@ -36,6 +36,7 @@ import androidx.core.view.ViewCompat;
 import androidx.core.view.WindowInsetsCompat;
 import androidx.fragment.app.Fragment;
 import androidx.lifecycle.ViewModelProvider;
+import androidx.recyclerview.widget.LinearLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.swiperefreshlayout.widget.SwipeRefreshLayout;
 
@@ -71,6 +72,10 @@ import static be.ugent.zeus.hydra.common.utils.FragmentUtils.requireBaseActivity
 public class EventFragment extends Fragment implements MainActivity.ScheduledRemovalListener, MainActivity.OnBackPressed {
 
     private static final String TAG = "EventFragment";
+    /**
+     * The next page is loaded when the user scrolls this close to the end of the list.
+     */
+    private static final int NEXT_PAGE_DISTANCE = 10;
 
     private final EventAdapter adapter = new EventAdapter();
     private final Filter.Live filter = new Filter.Live();
@@ -155,6 +160,16 @@ public class EventFragment extends Fragment implements MainActivity.ScheduledRem
         recyclerView.setHasFixedSize(true);
         recyclerView.setAdapter(adapter);
         adapter.registerAdapterDataObserver(new EmptyViewObserver(recyclerView, noData));
+        recyclerView.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                LinearLayoutManager manager = (LinearLayoutManager) recyclerView.getLayoutManager();
+                if (dy > 0 && manager != null
+                        && manager.findLastVisibleItemPosition() >= adapter.getItemCount() - NEXT_PAGE_DISTANCE) {
+                    viewModel.loadNextPage();
+                }
+            }
+        });
 
         int secondaryColour = ColourUtils.resolveColour(requireContext(), R.attr.colorSecondary);
         SwipeRefreshLayout swipeRefreshLayout = view.findViewById(R.id.swipeRefreshLayout);
@@ -51,6 +51,43 @@ class EventListConverter implements Function<List<Event>, List<EventItem>> {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Append events to an already converted list, e.g. when the next page of events is loaded. The new events MUST be
+     * sorted by start date, and may not start before the last event in the existing list. The existing list is not
+     * sorted again: only the last item of the existing list is replaced, if the new events continue its section.
+     *
+     * @param items  The converted list. Will not be modified.
+     * @param events The events to append.
+     * @return A new list with the events appended.
+     */
+    List<EventItem> append(List<EventItem> items, List<Event> events) {
+        if (events.isEmpty()) {
+            return items;
+        }
+
+        List<EventItem> result = new ArrayList<>(items.size() + events.size() * 2);
+        result.addAll(items);
+        LocalDate section = null;
+        if (!result.isEmpty()) {
+            section = result.get(result.size() - 1).getItem().getStart().toLocalDate();
+        }
+
+        for (Event event : events) {
+            LocalDate date = event.getStart().toLocalDate();
+            if (date.equals(section)) {
+                // The previous event is no longer the last of the section. Replace it, since it might be in use.
+                int previous = result.size() - 1;
+                result.set(previous, new EventItem(result.get(previous).getItem(), false));
+            } else {
+                result.add(new EventItem(date));
+                section = date;
+            }
+            result.add(new EventItem(event, true));
+        }
+
+        return result;
+    }
+
     private Stream<EventItem> convert(Map.Entry<LocalDate, List<Event>> entry) {
         List<Event> list = entry.getValue();
         EventItem header = new EventItem(entry.getKey());
@@ -24,20 +24,21 @@ package be.ugent.zeus.hydra.association.list;
 
 import android.app.Application;
 import android.util.Pair;
-import androidx.annotation.NonNull;
 
 import java.util.List;
 
 import be.ugent.zeus.hydra.association.AssociationMap;
-import be.ugent.zeus.hydra.common.request.Request;
-import be.ugent.zeus.hydra.common.ui.RequestViewModel;
+import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.request.Result;
+import be.ugent.zeus.hydra.common.ui.SingleRefreshViewModel;
 
 /**
  * @author Niko Strijbol
  */
-public class EventViewModel extends RequestViewModel<Pair<List<EventItem>, AssociationMap>> {
+public class EventViewModel extends SingleRefreshViewModel<Pair<List<EventItem>, AssociationMap>> {
 
     private Filter filter;
+    private PagedEventLiveData data;
 
     public EventViewModel(Application application) {
         super(application);
@@ -47,9 +48,18 @@ public class EventViewModel extends RequestViewModel<Pair<List<EventItem>, Assoc
         this.filter = filter;
     }
 
-    @NonNull
+    /**
+     * Load the next page of events, if there is one.
+     */
+    public void loadNextPage() {
+        if (data != null) {
+            data.loadNextPage();
+        }
+    }
+
     @Override
-    protected Request<Pair<List<EventItem>, AssociationMap>> getRequest() {
-        return EventItem.request(getApplication(), filter);
+    protected BaseLiveData<Result<Pair<List<EventItem>, AssociationMap>>> constructDataInstance() {
+        data = new PagedEventLiveData(getApplication(), filter);
+        return data;
     }
-}
\ No newline at end of file
+}
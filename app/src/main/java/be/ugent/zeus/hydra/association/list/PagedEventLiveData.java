@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.association.list;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.Pair;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import be.ugent.zeus.hydra.association.AssociationListRequest;
+import be.ugent.zeus.hydra.association.AssociationMap;
+import be.ugent.zeus.hydra.association.event.Event;
+import be.ugent.zeus.hydra.association.event.EventPage;
+import be.ugent.zeus.hydra.association.event.RawEventRequest;
+import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.request.Request;
+import be.ugent.zeus.hydra.common.request.Result;
+
+/**
+ * Live data for the list of events, which is loaded one page at a time.
+ * <p>
+ * Loading (or refreshing) the data loads the first page for the current filter. Next pages are only loaded on demand,
+ * by calling {@link #loadNextPage()}, e.g. when the user scrolls to the end of the list. The events of a new page are
+ * appended to the converted events, without converting and sorting the existing events again.
+ * <p>
+ * If loading a next page fails, no further pages are loaded on demand until the data is loaded again, e.g. when the
+ * user refreshes. Otherwise, each scroll would cause another failing request.
+ * <p>
+ * The pages are fetched with the normal requests, so fetched pages are cached per filter like other requests.
+ *
+ * @author Niko Strijbol
+ */
+class PagedEventLiveData extends BaseLiveData<Result<Pair<List<EventItem>, AssociationMap>>> {
+
+    private static final String TAG = "PagedEventLiveData";
+
+    private final Context applicationContext;
+    private final Filter filter;
+    private final EventListConverter converter = new EventListConverter();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Pages are loaded one after the other, since each page is appended to the previous pages.
+    private final ThreadPoolExecutor coordinator = new ThreadPoolExecutor(1, 1,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+
+    // Only accessed on the coordinator.
+    private final List<Event> events = new ArrayList<>();
+    private List<EventItem> items = Collections.emptyList();
+    private AssociationMap associations;
+    private int loadedPages;
+    private boolean hasNextPage;
+
+    // Only accessed on the main thread.
+    private boolean isLoadingNextPage;
+    private boolean nextPageFailed;
+
+    PagedEventLiveData(Context context, Filter filter) {
+        this.applicationContext = context.getApplicationContext();
+        this.filter = filter;
+        coordinator.allowCoreThreadTimeOut(true);
+        loadData();
+    }
+
+    @Override
+    protected void loadData(@NonNull Bundle bundle) {
+        coordinator.execute(() -> loadFirstPage(bundle));
+    }
+
+    /**
+     * Load the next page of events, if there is one. If a page is already loading, or if loading the next page failed
+     * before, this does nothing.
+     */
+    @MainThread
+    void loadNextPage() {
+        if (isLoadingNextPage || nextPageFailed) {
+            return;
+        }
+        isLoadingNextPage = true;
+        coordinator.execute(this::loadNext);
+    }
+
+    @WorkerThread
+    private void loadFirstPage(@NonNull Bundle bundle) {
+        Request<Pair<EventPage, AssociationMap>> request = RawEventRequest.createPage(applicationContext, filter, 1)
+                .zip(AssociationListRequest.create(applicationContext));
+
+        Result<Pair<EventPage, AssociationMap>> result = request.execute(bundle, partial -> publish(partial.map(
+                pair -> Pair.create(converter.apply(pair.first.getEntries()), pair.second)
+        )));
+
+        events.clear();
+        items = Collections.emptyList();
+        associations = null;
+        loadedPages = 0;
+        hasNextPage = false;
+
+        if (result.hasData()) {
+            EventPage page = result.getData().first;
+            events.addAll(page.getEntries());
+            items = converter.apply(page.getEntries());
+            associations = result.getData().second;
+            loadedPages = 1;
+            hasNextPage = page.hasNextPage(RawEventRequest.PAGE_SIZE);
+        }
+
+        Result<Pair<List<EventItem>, AssociationMap>> published = result.map(pair -> Pair.create(items, pair.second));
+        mainHandler.post(() -> {
+            // Pages are loaded one after the other, so a failure of an earlier next page is posted before this.
+            nextPageFailed = false;
+            setValue(published);
+        });
+    }
+
+    @WorkerThread
+    private void loadNext() {
+        if (!hasNextPage || associations == null) {
+            mainHandler.post(() -> isLoadingNextPage = false);
+            return;
+        }
+
+        int page = loadedPages + 1;
+        Log.d(TAG, "loadNext: loading page " + page);
+        Result<EventPage> result = RawEventRequest.createPage(applicationContext, filter, page).execute();
+
+        Result<Pair<List<EventItem>, AssociationMap>> published;
+        if (result.hasData()) {
+            EventPage eventPage = result.getData();
+            List<Event> newEvents = eventPage.getEntries().stream()
+                    .sorted()
+                    .collect(Collectors.toList());
+            OffsetDateTime last = events.isEmpty() ? null : events.get(events.size() - 1).getStart();
+            events.addAll(newEvents);
+            if (last == null || newEvents.isEmpty() || !newEvents.get(0).getStart().isBefore(last)) {
+                items = converter.append(items, newEvents);
+            } else {
+                // The pages overlap, so we must convert everything again.
+                Log.w(TAG, "loadNext: page " + page + " is not in order, converting all events.");
+                items = converter.apply(events.stream().sorted().collect(Collectors.toList()));
+            }
+            loadedPages = page;
+            hasNextPage = eventPage.hasNextPage(RawEventRequest.PAGE_SIZE);
+            published = Result.Builder.fromData(Pair.create(items, associations));
+        } else {
+            // Keep the existing events, but report the error.
+            published = new Result.Builder<Pair<List<EventItem>, AssociationMap>>()
+                    .withData(Pair.create(items, associations))
+                    .withError(result.getError())
+                    .build();
+        }
+
+        boolean failed = !result.hasData();
+        mainHandler.post(() -> {
+            isLoadingNextPage = false;
+            nextPageFailed = failed;
+            setValue(published);
+        });
+    }
+
+    private void publish(Result<Pair<List<EventItem>, AssociationMap>> result) {
+        mainHandler.post(() -> setValue(result));
+    }
+}
@@ -28,11 +28,11 @@ import androidx.annotation.NonNull;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Locale;
 
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.association.Association;
 import be.ugent.zeus.hydra.common.ui.recyclerview.adapters.MultiSelectSearchableAdapter;
+import be.ugent.zeus.hydra.common.ui.recyclerview.adapters.SearchableAdapter;
 import be.ugent.zeus.hydra.common.utils.ViewUtils;
 
 /**
@@ -41,8 +41,7 @@ import be.ugent.zeus.hydra.common.utils.ViewUtils;
 class SearchableAssociationsAdapter extends MultiSelectSearchableAdapter<Association, AssociationViewHolder> {
 
     SearchableAssociationsAdapter() {
-        super(text -> a -> a.getName().toLowerCase(Locale.getDefault()).contains(text) ||
-                a.getAbbreviation().toLowerCase(Locale.ROOT).contains(text));
+        super(a -> SearchableAdapter.joinForSearch(a.getName(), a.getAbbreviation()));
     }
 
     @NonNull
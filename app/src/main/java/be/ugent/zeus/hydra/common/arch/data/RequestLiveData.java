@@ -22,17 +22,27 @@
 
 package be.ugent.zeus.hydra.common.arch.data;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
-import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
 
 /**
  * Live data for a {@link Request}.
+ * <p>
+ * The request is executed by the {@link RequestScheduler}. If the live data becomes inactive before the request was
+ * started, the request is cancelled and scheduled again once the live data becomes active again.
+ * <p>
+ * Intermediary results of the request (see {@link Request#execute(Bundle, java.util.function.Consumer)}) are
+ * delivered as well, before the final result.
+ * <p>
+ * Loads can overlap, e.g. when the user refreshes while the first load is running. Only the results of the last load
+ * are delivered; results of older loads are dropped, even if they complete later.
  *
  * @author Niko Strijbol
  */
@@ -40,6 +50,16 @@ public class RequestLiveData<M> extends BaseLiveData<Result<M>> {
 
     private final Request<M> request;
     private final Context applicationContext;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    @Nullable
+    private RequestScheduler.Task pendingTask;
+    @Nullable
+    private Bundle pendingArgs;
+    @Nullable
+    private Bundle cancelledArgs;
+    // Incremented for each load; only accessed on the main thread.
+    private int generation;
 
     public RequestLiveData(Context context, Request<M> request) {
         this(context, request, true);
@@ -59,21 +79,52 @@ public class RequestLiveData<M> extends BaseLiveData<Result<M>> {
      * @param bundle The arguments for the request.
      */
     @Override
-    @SuppressLint("StaticFieldLeak")
     protected void loadData(@NonNull Bundle bundle) {
-        new AsyncTask<Void, Void, Result<M>>() {
+        // A new load replaces a load that was cancelled earlier.
+        cancelledArgs = null;
+        pendingArgs = bundle;
+        int loadGeneration = ++generation;
+        String name = getRequest().getClass().getSimpleName();
+        pendingTask = RequestScheduler.getInstance().schedule(getPriority(), name, () -> {
+            Result<M> result = getRequest().execute(bundle, partial -> deliver(loadGeneration, partial));
+            deliver(loadGeneration, result);
+        });
+    }
 
-            @Override
-            protected Result<M> doInBackground(Void... voids) {
-                return getRequest().execute(bundle);
+    private void deliver(int loadGeneration, Result<M> result) {
+        mainHandler.post(() -> {
+            // Drop the result if a newer load was started in the meantime.
+            if (loadGeneration == generation) {
+                setValue(result);
             }
+        });
+    }
 
-            @Override
-            protected void onPostExecute(Result<M> m) {
-                setValue(m);
-            }
+    @Override
+    protected void onActive() {
+        super.onActive();
+        if (cancelledArgs != null) {
+            loadData(cancelledArgs);
         }
-                .execute();
+    }
+
+    @Override
+    protected void onInactive() {
+        super.onInactive();
+        // Nobody is waiting for the data, so let other requests go first.
+        if (pendingTask != null && pendingTask.cancel()) {
+            cancelledArgs = pendingArgs;
+        }
+        pendingTask = null;
+        pendingArgs = null;
+    }
+
+    /**
+     * @return The priority with which the request is scheduled.
+     */
+    @RequestScheduler.Priority
+    protected int getPriority() {
+        return RequestScheduler.Priority.VISIBLE;
     }
 
     protected Context getContext() {
@@ -83,4 +134,4 @@ public class RequestLiveData<M> extends BaseLiveData<Result<M>> {
     protected Request<M> getRequest() {
         return request;
     }
-}
\ No newline at end of file
+}
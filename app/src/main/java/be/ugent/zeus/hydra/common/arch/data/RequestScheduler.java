@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.common.arch.data;
+
+import android.os.SystemClock;
+import android.util.Log;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static be.ugent.zeus.hydra.common.arch.data.RequestScheduler.Priority.*;
+
+/**
+ * Central scheduler for background work that loads data, such as executing requests.
+ * <p>
+ * All work is executed on a shared, sized thread pool. This means work from one screen does not block work from
+ * another screen, as was the case with the serial executor of {@link android.os.AsyncTask}.
+ *
+ * <h1>Priorities</h1>
+ * Work is scheduled with a {@link Priority}. When all threads are busy, work with a higher priority is started before
+ * work with a lower priority. Work with the same priority is started in the order in which it was scheduled.
+ * <p>
+ * The priority of the work that is running on a thread is available with {@link #getCurrentPriority()}, so work that
+ * schedules other work can use the same priority. Code that does not run on the scheduler, such as a worker, can set
+ * the priority for the calling thread with {@link #withPriority(int, Supplier)}.
+ *
+ * <h1>Cancellation</h1>
+ * Work that has not started yet can be cancelled with {@link Task#cancel()}. Work that is running is not interrupted;
+ * most requests are blocking network calls anyway.
+ *
+ * <h1>Metrics</h1>
+ * For every task, the time spent waiting in the queue and the time spent running are recorded per name. These are
+ * available with {@link #getStatistics()}.
+ *
+ * @author Niko Strijbol
+ */
+public final class RequestScheduler {
+
+    private static final String TAG = "RequestScheduler";
+
+    private static final int THREADS = Math.min(8, Math.max(4, Runtime.getRuntime().availableProcessors()));
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    private static final ThreadLocal<Integer> currentPriority = new ThreadLocal<>();
+
+    private static RequestScheduler instance;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Statistics> statistics = new HashMap<>();
+
+    private RequestScheduler() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(THREADS, THREADS,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "hydra-request-" + threadCount.incrementAndGet());
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @return The scheduler.
+     */
+    public static synchronized RequestScheduler getInstance() {
+        if (instance == null) {
+            instance = new RequestScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * @return The priority of the work running on the calling thread, or {@link Priority#VISIBLE} if unknown.
+     */
+    @Priority
+    public static int getCurrentPriority() {
+        Integer priority = currentPriority.get();
+        return priority == null ? VISIBLE : priority;
+    }
+
+    /**
+     * Do some work on the calling thread with the given priority. Work scheduled by this work using
+     * {@link #getCurrentPriority()} will have the same priority.
+     *
+     * @param priority The priority of the work.
+     * @param work     The work itself.
+     * @param <T>      The type of the result.
+     * @return The result of the work.
+     */
+    public static <T> T withPriority(@Priority int priority, @NonNull Supplier<T> work) {
+        Integer previous = currentPriority.get();
+        currentPriority.set(priority);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                currentPriority.remove();
+            } else {
+                currentPriority.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Schedule some work.
+     *
+     * @param priority The priority of the work.
+     * @param name     The name of the work. Used in the metrics, so work of the same kind should have the same name.
+     * @param work     The work itself.
+     * @return The task, which can be used to cancel the work.
+     */
+    @NonNull
+    public Task schedule(@Priority int priority, @NonNull String name, @NonNull Runnable work) {
+        Task task = new Task(priority, sequence.getAndIncrement(), name, work);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Get an executor that schedules all work with the given priority and name.
+     *
+     * @param priority The priority of the work.
+     * @param name     The name of the work.
+     * @return The executor.
+     */
+    @NonNull
+    public Executor asExecutor(@Priority int priority, @NonNull String name) {
+        return work -> schedule(priority, name, work);
+    }
+
+    /**
+     * @return A copy of the statistics, per name of the work.
+     */
+    @NonNull
+    public Map<String, Statistics> getStatistics() {
+        Map<String, Statistics> copy = new HashMap<>();
+        synchronized (statistics) {
+            for (Map.Entry<String, Statistics> entry : statistics.entrySet()) {
+                copy.put(entry.getKey(), new Statistics(entry.getValue()));
+            }
+        }
+        return copy;
+    }
+
+    private void record(Task task, long waitTime, long runTime) {
+        synchronized (statistics) {
+            Statistics stats = statistics.get(task.name);
+            if (stats == null) {
+                stats = new Statistics();
+                statistics.put(task.name, stats);
+            }
+            stats.record(waitTime, runTime);
+        }
+        Log.v(TAG, task.name + " waited " + waitTime + "ms and ran " + runTime + "ms.");
+    }
+
+    private void recordCancel(Task task) {
+        synchronized (statistics) {
+            Statistics stats = statistics.get(task.name);
+            if (stats == null) {
+                stats = new Statistics();
+                statistics.put(task.name, stats);
+            }
+            stats.cancelled++;
+        }
+    }
+
+    /**
+     * The priority of some work. Lower numbers have a higher priority.
+     */
+    @Retention(RetentionPolicy.SOURCE)
+    @IntDef({VISIBLE, PREFETCH, BACKGROUND})
+    public @interface Priority {
+        /**
+         * Work for data that is shown on the screen the user is looking at.
+         */
+        int VISIBLE = 0;
+        /**
+         * Work for data that will probably be shown soon.
+         */
+        int PREFETCH = 1;
+        /**
+         * Work the user is not waiting for.
+         */
+        int BACKGROUND = 2;
+    }
+
+    /**
+     * A unit of scheduled work.
+     */
+    public final class Task implements Runnable, Comparable<Task> {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        @Priority
+        private final int priority;
+        private final long sequence;
+        private final String name;
+        private final Runnable work;
+        private final long scheduledAt = SystemClock.elapsedRealtime();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private Task(@Priority int priority, long sequence, String name, Runnable work) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.name = name;
+            this.work = work;
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                // The task was cancelled.
+                return;
+            }
+            long startedAt = SystemClock.elapsedRealtime();
+            try {
+                withPriority(priority, () -> {
+                    work.run();
+                    return null;
+                });
+            } finally {
+                record(this, startedAt - scheduledAt, SystemClock.elapsedRealtime() - startedAt);
+            }
+        }
+
+        /**
+         * Cancel the work if it has not started yet.
+         *
+         * @return True if the work was cancelled and will not run, false if it is running or has already run.
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(QUEUED, CANCELLED)) {
+                executor.remove(this);
+                recordCancel(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int compareTo(@NonNull Task other) {
+            int result = Integer.compare(priority, other.priority);
+            if (result == 0) {
+                result = Long.compare(sequence, other.sequence);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Timing statistics of work with the same name. All times are in milliseconds.
+     */
+    public static final class Statistics {
+
+        private int count;
+        private int cancelled;
+        private long totalWaitTime;
+        private long totalRunTime;
+        private long maxRunTime;
+
+        private Statistics() {
+        }
+
+        private Statistics(Statistics other) {
+            this.count = other.count;
+            this.cancelled = other.cancelled;
+            this.totalWaitTime = other.totalWaitTime;
+            this.totalRunTime = other.totalRunTime;
+            this.maxRunTime = other.maxRunTime;
+        }
+
+        private void record(long waitTime, long runTime) {
+            count++;
+            totalWaitTime += waitTime;
+            totalRunTime += runTime;
+            maxRunTime = Math.max(maxRunTime, runTime);
+        }
+
+        /**
+         * @return How many times work with this name has run.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return How many times work with this name was cancelled before it started.
+         */
+        public int getCancelled() {
+            return cancelled;
+        }
+
+        public long getAverageWaitTime() {
+            return count == 0 ? 0 : totalWaitTime / count;
+        }
+
+        public long getAverageRunTime() {
+            return count == 0 ? 0 : totalRunTime / count;
+        }
+
+        public long getMaxRunTime() {
+            return maxRunTime;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Statistics{count=" + count + ", cancelled=" + cancelled + ", avgWait=" + getAverageWaitTime()
+                    + "ms, avgRun=" + getAverageRunTime() + "ms, maxRun=" + maxRunTime + "ms}";
+        }
+    }
+}
@@ -100,6 +100,32 @@ public class DateTypeConverters {
         }
     }
 
+    /**
+     * Converts a date to a string in the ISO format (e.g. {@code 2022-10-17}). This format sorts correctly as text.
+     *
+     * @param date The date or {@code null}.
+     * @return The string or {@code null} if the input was {@code null}.
+     */
+    @Nullable
+    @TypeConverter
+    public static String fromLocalDate(@Nullable LocalDate date) {
+        if (date == null) {
+            return null;
+        } else {
+            return date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+    }
+
+    @Nullable
+    @TypeConverter
+    public static LocalDate toLocalDate(@Nullable String value) {
+        if (value == null) {
+            return null;
+        } else {
+            return LocalDate.parse(value, DateTimeFormatter.ISO_LOCAL_DATE);
+        }
+    }
+
     private static String fromLocalZonedDateTime(@LocalZonedDateTime ZonedDateTime zonedDateTime) {
         LocalDateTime dateTime = LocalDateTime.ofInstant(zonedDateTime.toInstant(), LocalZonedDateTime.BRUSSELS);
         return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
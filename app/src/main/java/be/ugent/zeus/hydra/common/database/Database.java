@@ -34,6 +34,8 @@ import be.ugent.zeus.hydra.feed.cards.dismissal.CardDismissal;
 import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
 import be.ugent.zeus.hydra.library.favourites.FavouritesRepository;
 import be.ugent.zeus.hydra.library.favourites.LibraryFavourite;
+import be.ugent.zeus.hydra.resto.storage.MenuRepository;
+import be.ugent.zeus.hydra.resto.storage.StoredMenu;
 
 import static be.ugent.zeus.hydra.common.database.Database.VERSION;
 
@@ -47,6 +49,7 @@ import static be.ugent.zeus.hydra.common.database.Database.VERSION;
 @androidx.room.Database(entities = {
         CardDismissal.class, // Feed stuff
         LibraryFavourite.class, // Library favourites
+        StoredMenu.class, // Resto menus
 }, version = VERSION)
 @TypeConverters(DateTypeConverters.class)
 public abstract class Database extends RoomDatabase {
@@ -55,7 +58,7 @@ public abstract class Database extends RoomDatabase {
      * The current version of the database. When changing this value, you must provide a appropriate migration, or the
      * app will crash.
      */
-    static final int VERSION = 16;
+    static final int VERSION = 17;
     private static final Object LOCK = new Object();
     /**
      * The current name of the database. Should not change.
@@ -79,7 +82,7 @@ public abstract class Database extends RoomDatabase {
                         .allowMainThreadQueries() // TODO
                         .addMigrations(new Migration_6_7(), new Migration_7_8(), new Migration_8_9(), new Migration_9_10(),
                                 new Migration_10_11(), new Migration_11_12(), new Migration_12_13(), new Migration_13_14(),
-                                new Migration_14_15(), new Migration_15_16()
+                                new Migration_14_15(), new Migration_15_16(), new Migration_16_17()
                         )
                         .build();
             }
@@ -103,4 +106,6 @@ public abstract class Database extends RoomDatabase {
     public abstract DismissalDao getCardDao();
 
     public abstract FavouritesRepository getFavouritesRepository();
+
+    public abstract MenuRepository getMenuRepository();
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.database.migrations;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.room.migration.Migration;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+/**
+ * This migration adds a table to store the resto menus, so they are available offline.
+ *
+ * @author Niko Strijbol
+ */
+public class Migration_16_17 extends Migration {
+
+    private static final String TAG = "Migration_16_17";
+
+    public Migration_16_17() {
+        super(16, 17);
+    }
+
+    @Override
+    public void migrate(@NonNull SupportSQLiteDatabase database) {
+
+        Log.i(TAG, "Migrating database from " + this.startVersion + " to " + this.endVersion);
+
+        // We just need to create the new table; it is filled the next time the menus are fetched.
+        database.execSQL(
+                "CREATE TABLE `resto_menus` (`endpoint` TEXT NOT NULL, `date` TEXT NOT NULL, `menu` TEXT NOT NULL, "
+                        + "`fetched_at` TEXT NOT NULL, PRIMARY KEY(`endpoint`, `date`))"
+        );
+
+        Log.i(TAG, "Migration completed.");
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import android.content.Context;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.net.NetworkRequest;
+import android.os.Build;
+import android.util.Log;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.core.content.ContextCompat;
+import androidx.lifecycle.LiveData;
+import androidx.lifecycle.MutableLiveData;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Objects;
+
+import be.ugent.zeus.hydra.common.utils.NetworkUtils;
+
+/**
+ * Process-wide monitor of the network connection.
+ * <p>
+ * Asking the {@link ConnectivityManager} for the state of the connection is a call to another process, which is too
+ * slow to do when binding views. This monitor registers a {@link ConnectivityManager.NetworkCallback} once, and keeps
+ * the state of the default network up to date. Reading the state is then only a field access.
+ * <p>
+ * The state is also available as {@link LiveData}, to react to changes in the connection.
+ *
+ * @author Niko Strijbol
+ */
+public final class ConnectivityMonitor {
+
+    private static final String TAG = "ConnectivityMonitor";
+
+    private static final int LOW_BANDWIDTH_KBPS = 500;
+    private static final int HIGH_BANDWIDTH_KBPS = 5000;
+
+    private static ConnectivityMonitor instance;
+
+    private final MutableLiveData<Status> liveStatus;
+    private volatile Status status;
+
+    private ConnectivityMonitor(Context context) {
+        status = read(context);
+        liveStatus = new MutableLiveData<>(status);
+        register(context);
+    }
+
+    /**
+     * Get the monitor. The first call registers the monitor with the system.
+     *
+     * @param context A context.
+     * @return The monitor.
+     */
+    public static synchronized ConnectivityMonitor get(Context context) {
+        if (instance == null) {
+            instance = new ConnectivityMonitor(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    private void register(Context context) {
+        ConnectivityManager manager = ContextCompat.getSystemService(context, ConnectivityManager.class);
+        if (manager == null) {
+            return;
+        }
+        try {
+            if (Build.VERSION.SDK_INT >= 24) {
+                manager.registerDefaultNetworkCallback(new DefaultNetworkCallback(manager));
+            } else {
+                // There is no callback for the default network, so read the state again on every change.
+                NetworkRequest request = new NetworkRequest.Builder()
+                        .addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                        .build();
+                manager.registerNetworkCallback(request, new ConnectivityManager.NetworkCallback() {
+                    @Override
+                    public void onAvailable(@NonNull Network network) {
+                        update(read(context));
+                    }
+
+                    @Override
+                    public void onLost(@NonNull Network network) {
+                        update(read(context));
+                    }
+
+                    @Override
+                    public void onCapabilitiesChanged(@NonNull Network network,
+                                                      @NonNull NetworkCapabilities capabilities) {
+                        update(read(context));
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            // Some versions of Android throw when registering; in that case we keep the initial state.
+            Log.w(TAG, "Could not register the network callback.", e);
+        }
+    }
+
+    private static Status read(Context context) {
+        return new Status(NetworkUtils.isConnected(context), NetworkUtils.isMeteredConnection(context),
+                Bandwidth.UNKNOWN);
+    }
+
+    private void update(Status newStatus) {
+        if (!newStatus.equals(status)) {
+            status = newStatus;
+            liveStatus.postValue(newStatus);
+        }
+    }
+
+    /**
+     * @return The current state of the connection.
+     */
+    @NonNull
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * @return The state of the connection, updated when it changes. The updates are delivered on the main thread.
+     */
+    public LiveData<Status> getLiveStatus() {
+        return liveStatus;
+    }
+
+    /**
+     * @return True if the device is connected to the internet.
+     * @see NetworkUtils#isConnected(Context)
+     */
+    public boolean isConnected() {
+        return status.isConnected();
+    }
+
+    /**
+     * @return True if the connection is metered.
+     * @see NetworkUtils#isMeteredConnection(Context)
+     */
+    public boolean isMetered() {
+        return status.isMetered();
+    }
+
+    /**
+     * Classify a downstream bandwidth.
+     *
+     * @param kbps The bandwidth in kilobits per second, or 0 if not known.
+     * @return The class.
+     */
+    @VisibleForTesting
+    @Bandwidth
+    static int classify(int kbps) {
+        if (kbps <= 0) {
+            return Bandwidth.UNKNOWN;
+        } else if (kbps < LOW_BANDWIDTH_KBPS) {
+            return Bandwidth.LOW;
+        } else if (kbps < HIGH_BANDWIDTH_KBPS) {
+            return Bandwidth.MEDIUM;
+        } else {
+            return Bandwidth.HIGH;
+        }
+    }
+
+    /**
+     * Callback for the default network. Only available on Android 7 and later.
+     */
+    private final class DefaultNetworkCallback extends ConnectivityManager.NetworkCallback {
+
+        private final ConnectivityManager manager;
+
+        private DefaultNetworkCallback(ConnectivityManager manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public void onAvailable(@NonNull Network network) {
+            // On older versions, the capabilities are not always reported after this.
+            NetworkCapabilities capabilities = manager.getNetworkCapabilities(network);
+            if (capabilities != null) {
+                onCapabilitiesChanged(network, capabilities);
+            }
+        }
+
+        @Override
+        public void onCapabilitiesChanged(@NonNull Network network, @NonNull NetworkCapabilities capabilities) {
+            update(new Status(
+                    capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET),
+                    !capabilities.hasCapability(NetworkCapabilities.NET_CAPABILITY_NOT_METERED),
+                    classify(capabilities.getLinkDownstreamBandwidthKbps())
+            ));
+        }
+
+        @Override
+        public void onLost(@NonNull Network network) {
+            // Like the system, consider no network as metered.
+            update(new Status(false, true, Bandwidth.UNKNOWN));
+        }
+    }
+
+    /**
+     * Classes of bandwidth, based on the estimate of the system.
+     */
+    @IntDef({Bandwidth.UNKNOWN, Bandwidth.LOW, Bandwidth.MEDIUM, Bandwidth.HIGH})
+    @Retention(RetentionPolicy.SOURCE)
+    public @interface Bandwidth {
+        int UNKNOWN = 0;
+        int LOW = 1;
+        int MEDIUM = 2;
+        int HIGH = 3;
+    }
+
+    /**
+     * The state of the connection. This is an immutable class.
+     */
+    public static final class Status {
+
+        private final boolean connected;
+        private final boolean metered;
+        @Bandwidth
+        private final int bandwidth;
+
+        @VisibleForTesting
+        Status(boolean connected, boolean metered, @Bandwidth int bandwidth) {
+            this.connected = connected;
+            this.metered = metered;
+            this.bandwidth = bandwidth;
+        }
+
+        public boolean isConnected() {
+            return connected;
+        }
+
+        public boolean isMetered() {
+            return metered;
+        }
+
+        @Bandwidth
+        public int getBandwidth() {
+            return bandwidth;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Status other = (Status) o;
+            return connected == other.connected && metered == other.metered && bandwidth == other.bandwidth;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(connected, metered, bandwidth);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return "Status{connected=" + connected + ", metered=" + metered + ", bandwidth=" + bandwidth + "}";
+        }
+    }
+}
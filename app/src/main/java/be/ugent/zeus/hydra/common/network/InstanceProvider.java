@@ -28,6 +28,7 @@ import androidx.annotation.VisibleForTesting;
 import java.io.File;
 
 import be.ugent.zeus.hydra.common.converter.*;
+import be.ugent.zeus.hydra.common.network.metrics.NetworkMetrics;
 import com.squareup.moshi.Moshi;
 import okhttp3.Cache;
 import okhttp3.OkHttpClient;
@@ -40,8 +41,12 @@ import okhttp3.OkHttpClient;
 public final class InstanceProvider {
 
     private static final long CACHE_SIZE = 20 * 1024 * 1024; // 20 MiB
+    private static final int MEMORY_CACHE_SIZE = 2 * 1024 * 1024; // 2 MiB
+    private static final long SNAPSHOT_SIZE = 5 * 1024 * 1024; // 5 MiB
     private static OkHttpClient client;
     private static Moshi moshi;
+    private static MemoryCache memoryCache;
+    private static SnapshotStore snapshotStore;
 
     private InstanceProvider() {
     }
@@ -60,7 +65,11 @@ public final class InstanceProvider {
 
     @VisibleForTesting
     public static OkHttpClient.Builder getBuilder(File cacheDir) {
-        return new OkHttpClient.Builder().cache(new Cache(cacheDir, CACHE_SIZE));
+        OkHttpClient.Builder builder = new OkHttpClient.Builder().cache(new Cache(cacheDir, CACHE_SIZE));
+        if (NetworkMetrics.isEnabled()) {
+            builder.eventListenerFactory(NetworkMetrics.get().getEventListenerFactory());
+        }
+        return builder;
     }
 
     /**
@@ -87,9 +96,46 @@ public final class InstanceProvider {
         return moshi;
     }
 
+    /**
+     * Get the cache for decoded responses we use for requests.
+     *
+     * @return The cache.
+     */
+    public static synchronized MemoryCache getMemoryCache() {
+        if (memoryCache == null) {
+            memoryCache = new MemoryCache(MEMORY_CACHE_SIZE);
+        }
+        return memoryCache;
+    }
+
+    @VisibleForTesting
+    public static synchronized void setMemoryCache(MemoryCache memoryCache) {
+        InstanceProvider.memoryCache = memoryCache;
+    }
+
+    /**
+     * Get the store for snapshots of decoded responses.
+     *
+     * @param context A context.
+     * @return The store.
+     */
+    public static synchronized SnapshotStore getSnapshotStore(Context context) {
+        if (snapshotStore == null) {
+            snapshotStore = new SnapshotStore(new File(context.getCacheDir(), "snapshots"), SNAPSHOT_SIZE);
+        }
+        return snapshotStore;
+    }
+
+    @VisibleForTesting
+    public static synchronized void setSnapshotStore(SnapshotStore snapshotStore) {
+        InstanceProvider.snapshotStore = snapshotStore;
+    }
+
     @VisibleForTesting(otherwise = VisibleForTesting.NONE)
     public static void reset() {
         client = null;
         moshi = null;
+        memoryCache = null;
+        snapshotStore = null;
     }
 }
\ No newline at end of file
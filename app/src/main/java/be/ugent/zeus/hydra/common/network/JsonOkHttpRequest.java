@@ -26,6 +26,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.annotation.WorkerThread;
 
@@ -33,15 +34,20 @@ import java.io.IOException;
 import java.lang.reflect.Type;
 import java.net.UnknownServiceException;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.network.metrics.NetworkMetrics;
 import be.ugent.zeus.hydra.common.request.Result;
 import com.squareup.moshi.JsonAdapter;
 import com.squareup.moshi.JsonDataException;
 import okhttp3.CacheControl;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import okio.Okio;
 
 /**
  * Common implementation base for requests that are network requests. This request provides built-in caching on the
@@ -54,9 +60,43 @@ import okhttp3.Response;
  * Additionally, stale data is always used by default if needed.
  * <p>
  * To disable the cache, pass {@link BaseLiveData#REFRESH_COLD} as an argument to the request.
+ * <p>
+ * In front of the HTTP cache, decoded responses are kept in a {@link MemoryCache}, keyed by the URL, the type and the
+ * arguments of the request. These are used for as long as they are fresh according to {@link #getCacheDuration()}, so
+ * the same response is not decoded again when multiple screens request it. As the decoded data is shared, it must not
+ * be modified by the callers. The memory cache is also disabled by {@link BaseLiveData#REFRESH_COLD}.
+ * <p>
+ * The decoded responses are also saved in a {@link SnapshotStore}, under the same key. After the app starts, fresh
+ * snapshots are used instead of the HTTP cache, which avoids decoding the json again. Stale snapshots are used as
+ * the cached data in stale-while-revalidate mode.
+ *
+ * <h1>Concurrent requests</h1>
+ * Concurrent executions of the same request, as identified by the key of the memory cache, share one network call
+ * and one decoded result. For example, when the home feed and the resto tab request the menu at the same time, the
+ * menu is only downloaded and decoded once.
+ *
+ * <h1>Stale-while-revalidate</h1>
+ * Requests can opt in to a stale-while-revalidate mode by overriding {@link #isStaleWhileRevalidate()}. In this mode,
+ * {@link #execute(Bundle, Consumer)} will first report any cached data as an intermediary result, regardless of its
+ * age. Afterwards, the request is executed as normal to get fresh data. This allows screens to show the cached data
+ * immediately. This mode is not used when the cache is disabled.
  *
  * <h1>Decode</h1>
- * The request uses Moshi to decode the json response into Java objects.
+ * The request uses Moshi to decode the json response into Java objects. Models with large responses have a dedicated
+ * adapter, annotated with {@link com.squareup.moshi.JsonClass}, to avoid reflection.
+ * <p>
+ * Requests with a large list in the response can decode it incrementally by overriding {@link #getStreamingList()}.
+ * When executed with {@link #execute(Bundle, Consumer)}, the elements that are already downloaded are then reported as
+ * intermediary results, while the rest is still downloading. As these intermediary results are reported without
+ * going through {@link #execute(Bundle)}, streaming requests should not override that method to modify the data; use
+ * {@link be.ugent.zeus.hydra.common.request.Request#map(java.util.function.Function)} instead. No data is streamed if
+ * cached data was already reported in stale-while-revalidate mode. The response is still decoded only once; the
+ * streamed elements are used in the final result.
+ * <p>
+ * If enabled in debug builds, the decoding time and memory cache hits are recorded in the
+ * {@link be.ugent.zeus.hydra.common.network.metrics.NetworkMetrics}. To measure only the decoding, the body is then
+ * downloaded completely before it is decoded. Streamed responses are decoded while downloading, so their decoding time
+ * is not recorded.
  *
  * @author Niko Strijbol
  */
@@ -66,8 +106,14 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
     private static final String TAG = "JsonOkHttpRequest";
 
     private static final String ALLOW_STALENESS = "be.ugent.zeus.hydra.data.staleness";
+    private static final String ONLY_CACHED = "be.ugent.zeus.hydra.data.cached";
 
     private final Type typeToken;
+    private final MemoryCache memoryCache;
+    private final SnapshotStore snapshots;
+    @Nullable
+    private volatile JsonAdapter<D> adapter;
+    private volatile StreamingList.Decoder<D> streamingDecoder;
 
     /**
      * Construct a new request. As this constructor is not type-safe, it should only be used as a last resort.
@@ -78,6 +124,8 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
     public JsonOkHttpRequest(@NonNull Context context, @NonNull Type token) {
         super(context);
         this.typeToken = token;
+        this.memoryCache = InstanceProvider.getMemoryCache();
+        this.snapshots = InstanceProvider.getSnapshotStore(context);
     }
 
     /**
@@ -97,11 +145,89 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
     @Override
     @WorkerThread
     public Result<D> execute(@NonNull Bundle args) {
+        return executeInternal(args, null);
+    }
+
+    /**
+     * Execute the request, reporting intermediary results. In stale-while-revalidate mode, cached data is reported
+     * first. Otherwise, streaming requests report the data as it is decoded. See the class documentation.
+     */
+    @NonNull
+    @Override
+    @WorkerThread
+    public Result<D> execute(@NonNull Bundle args, @NonNull Consumer<Result<D>> partialListener) {
+        if (isStaleWhileRevalidate() && !args.getBoolean(BaseLiveData.REFRESH_COLD, false)) {
+            String key = getMemoryCacheKey(args);
+            if (getFromMemory(key, false) != null) {
+                // Fresh data is available, which execute() will use.
+                return execute(args);
+            }
+            Result<D> decoded = getFromMemory(key, true);
+            if (decoded == null) {
+                decoded = getFromSnapshot(key, true);
+            }
+            if (decoded != null) {
+                partialListener.accept(decoded.asPartial());
+                return execute(args);
+            }
+            Bundle cachedArgs = new Bundle(args);
+            cachedArgs.putBoolean(ONLY_CACHED, true);
+            try {
+                Result<D> cached = executeRequest(getAdapter(), cachedArgs);
+                if (cached.hasData()) {
+                    partialListener.accept(cached.asPartial());
+                    // Don't stream, as the partial data would be smaller than the cached data.
+                    return execute(args);
+                }
+            } catch (IOException e) {
+                Log.d(TAG, "No cached data available, waiting for network.", e);
+            }
+        }
+        if (getStreamingList() == null) {
+            return execute(args);
+        } else {
+            return executeInternal(args, partialListener);
+        }
+    }
+
+    @NonNull
+    @WorkerThread
+    private Result<D> executeInternal(@NonNull Bundle args, @Nullable Consumer<Result<D>> partialListener) {
+
+        String key = getMemoryCacheKey(args);
+        boolean isCold = args.getBoolean(BaseLiveData.REFRESH_COLD, false);
+        if (isCold) {
+            memoryCache.remove(key);
+        } else {
+            Result<D> decoded = getFromMemory(key, false);
+            if (decoded != null) {
+                if (NetworkMetrics.isEnabled()) {
+                    NetworkMetrics.get().recordMemoryHit(getAPIUrl());
+                }
+                return decoded;
+            }
+            decoded = getFromSnapshot(key, false);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
+        // Share the network call with concurrent executions of the same request.
+        if (isIdempotent(args)) {
+            return executeOnce(isCold ? key + "#cold" : key, () -> executeNetwork(args, partialListener));
+        } else {
+            return executeNetwork(args, partialListener);
+        }
+    }
+
+    @NonNull
+    @WorkerThread
+    private Result<D> executeNetwork(@NonNull Bundle args, @Nullable Consumer<Result<D>> partialListener) {
 
         JsonAdapter<D> adapter = getAdapter();
 
         try {
-            return executeRequest(adapter, args);
+            return executeRequest(adapter, args, partialListener);
         } catch (IOException e) {
 
             // If this exception is for a clear text violation, log it. We want to fix these.
@@ -120,11 +246,11 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
 
             Log.d(TAG, "Error while getting data, try to get stale data.", e);
             // We try to get stale data at this point.
-            args = new Bundle(args);
-            args.putBoolean(ALLOW_STALENESS, true);
+            Bundle staleArgs = new Bundle(args);
+            staleArgs.putBoolean(ALLOW_STALENESS, true);
 
             try {
-                Result<D> staleResult = executeRequest(adapter, args);
+                Result<D> staleResult = executeRequest(adapter, staleArgs);
                 Log.d(TAG, "Stale data was found and used.");
                 // Add the result.
                 return result.updateWith(staleResult);
@@ -136,11 +262,46 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
         }
     }
 
+    /**
+     * Get the adapter to decode the response. The adapter is only resolved once per request.
+     */
     protected JsonAdapter<D> getAdapter() {
-        return moshi.adapter(typeToken);
+        JsonAdapter<D> result = adapter;
+        if (result == null) {
+            result = moshi.adapter(typeToken);
+            adapter = result;
+        }
+        return result;
+    }
+
+    /**
+     * Get the decoder for streaming responses. The decoder is only created once per request.
+     *
+     * @return The decoder, or {@code null} if the response is not streamed.
+     */
+    @Nullable
+    private StreamingList.Decoder<D> getStreamingDecoder() {
+        StreamingList.Decoder<D> result = streamingDecoder;
+        if (result == null) {
+            StreamingList<?, D> streamingList = getStreamingList();
+            if (streamingList == null) {
+                return null;
+            }
+            result = streamingList.decoder(moshi, typeToken);
+            streamingDecoder = result;
+        }
+        return result;
     }
 
     protected Result<D> executeRequest(JsonAdapter<D> adapter, @NonNull Bundle args) throws IOException {
+        return executeRequest(adapter, args, null);
+    }
+
+    private Result<D> executeRequest(
+            JsonAdapter<D> adapter,
+            @NonNull Bundle args,
+            @Nullable Consumer<Result<D>> partialListener
+    ) throws IOException {
         okhttp3.Request request = constructRequest(args).build();
 
         try (Response response = client.newCall(request).execute()) {
@@ -151,16 +312,45 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
                 throw new UnsuccessfulRequestException(response.code());
             }
 
-            if (response.body() == null) {
+            ResponseBody body = response.body();
+            if (body == null) {
                 throw new NullPointerException("Unexpected null body on request response.");
             }
 
-            D result = adapter.fromJson(Objects.requireNonNull(response.body()).source());
+            MemoryCache.CountingSource source = new MemoryCache.CountingSource(body.source());
+            BufferedSource bufferedSource = Okio.buffer(source);
+            StreamingList.Decoder<D> decoder = partialListener == null ? null : getStreamingDecoder();
+            D result;
+            if (decoder != null) {
+                // Decoding overlaps with the download, so it is not recorded separately.
+                result = decoder.decode(bufferedSource, partial -> partialListener.accept(
+                        new Result.Builder<D>().withData(partial).buildPartial()
+                ));
+            } else if (NetworkMetrics.isEnabled()) {
+                // Download the whole body first, so only the decoding itself is measured.
+                bufferedSource.request(Long.MAX_VALUE);
+                long decodeStart = System.nanoTime();
+                result = adapter.fromJson(bufferedSource);
+                NetworkMetrics.get().recordDecode(request.url().toString(), System.nanoTime() - decodeStart);
+            } else {
+                result = adapter.fromJson(bufferedSource);
+            }
 
             if (result == null) {
                 throw new NullPointerException("Null is not a valid value.");
             }
 
+            if (response.networkResponse() != null) {
+                onNetworkData(result);
+            }
+
+            if (isMemoryCacheable(args)) {
+                String key = getMemoryCacheKey(args);
+                long receivedAt = response.receivedResponseAtMillis();
+                memoryCache.put(key, result, source.getCount(), receivedAt + getCacheDuration().toMillis());
+                snapshots.write(key, typeToken, adapter, result, getValidator(response), receivedAt);
+            }
+
             return new Result.Builder<D>()
                     .withData(result)
                     .build();
@@ -176,6 +366,104 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
     @NonNull
     protected abstract String getAPIUrl();
 
+    /**
+     * Get the decoded data from the memory cache.
+     *
+     * @param key        The key.
+     * @param allowStale If expired data may be used.
+     *
+     * @return The data or null if there is no (fresh) data.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private Result<D> getFromMemory(@NonNull String key, boolean allowStale) {
+        MemoryCache.Entry entry = memoryCache.get(key);
+        if (entry == null || (!allowStale && !entry.isFresh(System.currentTimeMillis()))) {
+            return null;
+        }
+        // The key contains the type, so this cast is safe.
+        return Result.Builder.fromData((D) entry.data);
+    }
+
+    /**
+     * Get the decoded data from the snapshot store. Fresh data is also added to the memory cache.
+     *
+     * @param key        The key.
+     * @param allowStale If expired data may be used.
+     *
+     * @return The data or null if there is no (fresh) data.
+     */
+    @Nullable
+    @WorkerThread
+    private Result<D> getFromSnapshot(@NonNull String key, boolean allowStale) {
+        if (getCacheDuration().isZero()) {
+            // Snapshots are only saved for requests with a cache duration.
+            return null;
+        }
+        SnapshotStore.Snapshot<D> snapshot = snapshots.read(key, typeToken, getAdapter());
+        if (snapshot == null) {
+            return null;
+        }
+        long expiresAt = snapshot.receivedAt + getCacheDuration().toMillis();
+        if (System.currentTimeMillis() < expiresAt) {
+            memoryCache.put(key, snapshot.data, snapshot.size, expiresAt);
+        } else if (!allowStale) {
+            return null;
+        }
+        return Result.Builder.fromData(snapshot.data);
+    }
+
+    /**
+     * The validator identifies the version of the response in the HTTP cache. Without ETag or Last-Modified header,
+     * the time the response was received is used, which only changes when a new response is received.
+     */
+    @NonNull
+    private static String getValidator(@NonNull Response response) {
+        String etag = response.header("ETag");
+        if (etag != null) {
+            return etag;
+        }
+        String lastModified = response.header("Last-Modified");
+        if (lastModified != null) {
+            return lastModified;
+        }
+        return String.valueOf(response.receivedResponseAtMillis());
+    }
+
+    /**
+     * Check if the request can be shared with concurrent executions, meaning it does not modify anything.
+     */
+    private boolean isIdempotent(@NonNull Bundle args) {
+        return "GET".equals(constructRequest(args).build().method());
+    }
+
+    /**
+     * Check if a response for the given arguments may be put in the memory cache. Responses that might be stale are
+     * not added, nor are responses of requests without cache duration.
+     */
+    private boolean isMemoryCacheable(@NonNull Bundle args) {
+        return !args.getBoolean(ONLY_CACHED, false)
+                && !args.getBoolean(ALLOW_STALENESS, false)
+                && !getCacheDuration().isZero();
+    }
+
+    /**
+     * The key for the memory cache consists of the URL, the type and the arguments, except the arguments that only
+     * influence the caching.
+     */
+    @NonNull
+    @SuppressWarnings("deprecation")
+    private String getMemoryCacheKey(@NonNull Bundle args) {
+        StringBuilder key = new StringBuilder(getAPIUrl()).append('#').append(typeToken);
+        for (String name : new TreeSet<>(args.keySet())) {
+            if (BaseLiveData.REFRESH_COLD.equals(name) || ALLOW_STALENESS.equals(name) || ONLY_CACHED.equals(name)) {
+                continue;
+            }
+            key.append('&').append(name).append('=').append(args.get(name));
+        }
+        return key.toString();
+    }
+
     protected okhttp3.Request.Builder constructRequest(@NonNull Bundle arguments) {
         return new okhttp3.Request.Builder()
                 .url(getAPIUrl())
@@ -186,6 +474,13 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
     protected CacheControl constructCacheControl(@NonNull Bundle arguments) {
         CacheControl.Builder cacheControl = new CacheControl.Builder();
 
+        // Use the cache, however old the data is, but don't touch the network.
+        if (arguments.getBoolean(ONLY_CACHED, false)) {
+            return cacheControl.onlyIfCached()
+                    .maxStale(Integer.MAX_VALUE, TimeUnit.SECONDS)
+                    .build();
+        }
+
         // TODO: we can simplify this is OkHttp supports the stale-if-error header.
         // Track it at https://github.com/square/okhttp/issues/1083.
         if (arguments.getBoolean(ALLOW_STALENESS, false)) {
@@ -205,6 +500,36 @@ public abstract class JsonOkHttpRequest<D> extends OkHttpRequest<D> {
         return cacheControl.build();
     }
 
+    /**
+     * The list in the response that should be decoded incrementally, if any. See the class documentation.
+     *
+     * @return The list to stream, or null to not stream. Null by default.
+     */
+    @Nullable
+    protected StreamingList<?, D> getStreamingList() {
+        return null;
+    }
+
+    /**
+     * If the request should use the stale-while-revalidate mode. See the class documentation.
+     *
+     * @return True to use the mode, false by default.
+     */
+    protected boolean isStaleWhileRevalidate() {
+        return false;
+    }
+
+    /**
+     * Called with the decoded data if the response was received from the server. It is not called for data from the
+     * memory cache, the snapshots or the HTTP cache. By default, this does nothing.
+     *
+     * @param data The decoded data.
+     */
+    @WorkerThread
+    protected void onNetworkData(@NonNull D data) {
+        // Nothing by default.
+    }
+
     /**
      * How long the result of this request should be cached. By default, things are not cached.
      *
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import android.util.LruCache;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Source;
+
+/**
+ * In-memory cache of decoded responses, in front of the HTTP cache. This avoids parsing the same response multiple
+ * times, e.g. when switching between the home feed and the resto tab.
+ * <p>
+ * The cache is bounded by the size of the decoded responses, as an approximation of the memory used by the decoded
+ * objects. The least recently used entries are evicted first. Expired entries are kept until evicted, as they are
+ * still useful as stale data.
+ * <p>
+ * Since the decoded objects are shared between callers, they must not be modified.
+ *
+ * @author Niko Strijbol
+ */
+public final class MemoryCache {
+
+    @Nullable
+    private final LruCache<String, Entry> entries;
+
+    /**
+     * @param maxSize The maximal size of the cache in bytes. A size of zero disables the cache.
+     */
+    public MemoryCache(int maxSize) {
+        if (maxSize > 0) {
+            this.entries = new LruCache<String, Entry>(maxSize) {
+                @Override
+                protected int sizeOf(String key, Entry value) {
+                    return value.size;
+                }
+            };
+        } else {
+            this.entries = null;
+        }
+    }
+
+    /**
+     * Get an entry from the cache. The entry might be expired.
+     *
+     * @param key The key.
+     * @return The entry or null if there is none.
+     */
+    @Nullable
+    Entry get(@NonNull String key) {
+        if (entries == null) {
+            return null;
+        }
+        return entries.get(key);
+    }
+
+    /**
+     * Add data to the cache.
+     *
+     * @param key       The key.
+     * @param data      The decoded data.
+     * @param size      The size of the undecoded data in bytes.
+     * @param expiresAt When the data expires, in milliseconds since the epoch.
+     */
+    void put(@NonNull String key, @NonNull Object data, long size, long expiresAt) {
+        if (entries == null) {
+            return;
+        }
+        entries.put(key, new Entry(data, (int) Math.min(Integer.MAX_VALUE, Math.max(1, size)), expiresAt));
+    }
+
+    /**
+     * Remove data from the cache.
+     *
+     * @param key The key.
+     */
+    void remove(@NonNull String key) {
+        if (entries != null) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Remove everything from the cache.
+     */
+    public void clear() {
+        if (entries != null) {
+            entries.evictAll();
+        }
+    }
+
+    static final class Entry {
+        final Object data;
+        final int size;
+        final long expiresAt;
+
+        private Entry(Object data, int size, long expiresAt) {
+            this.data = data;
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isFresh(long now) {
+            return now < expiresAt;
+        }
+    }
+
+    /**
+     * Source that counts the number of bytes read from it. Used to determine the size of a response whose length
+     * is not known in advance, e.g. when it is compressed.
+     */
+    static final class CountingSource extends ForwardingSource {
+
+        private long count;
+
+        CountingSource(Source delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public long read(@NonNull Buffer sink, long byteCount) throws IOException {
+            long read = super.read(sink, byteCount);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -39,6 +39,7 @@ import java.net.UnknownServiceException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
@@ -51,6 +52,9 @@ import okhttp3.Response;
 
 /**
  * Common implementation for requests using OkHttp.
+ * <p>
+ * Subclasses can use {@link #executeOnce(String, Supplier)} to share a network call with concurrent executions of
+ * the same request, instead of executing a duplicate call.
  *
  * @author Niko Strijbol
  */
@@ -58,7 +62,9 @@ import okhttp3.Response;
 public abstract class OkHttpRequest<D> implements Request<D> {
 
     private static final String TAG = "OkHttpRequest";
-    
+
+    private static final SingleFlight IN_FLIGHT = new SingleFlight();
+
     protected final Moshi moshi;
     protected final OkHttpClient client;
     protected final Tracker tracker;
@@ -73,4 +79,19 @@ public abstract class OkHttpRequest<D> implements Request<D> {
         this.client = InstanceProvider.getClient(context);
         this.tracker = Reporting.getTracker(context);
     }
+
+    /**
+     * Execute a call, unless a call with the same key is already in progress. In that case, wait for that call and
+     * use its result instead. The key must identify the call completely, e.g. by including the URL and arguments.
+     *
+     * @param key  The key of the call.
+     * @param call The call to execute.
+     * @param <R>  The type of the result.
+     *
+     * @return The result, which might be shared with other requests.
+     */
+    @WorkerThread
+    protected static <R> R executeOnce(@NonNull String key, @NonNull Supplier<R> call) {
+        return IN_FLIGHT.execute(key, call);
+    }
 }
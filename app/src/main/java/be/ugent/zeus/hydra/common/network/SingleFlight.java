@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same call. While a call for a key is in progress, other threads executing
+ * a call for the same key wait for that call and receive its outcome, instead of executing their own call.
+ * <p>
+ * This is used to share one network call and one decoded result between screens requesting the same data at the
+ * same time, e.g. the home feed and the resto tab at launch.
+ *
+ * @author Niko Strijbol
+ */
+final class SingleFlight {
+
+    private final Map<String, Call> calls = new HashMap<>();
+
+    /**
+     * Execute a call, or wait for an in-progress call with the same key.
+     *
+     * @param key      The key identifying the call.
+     * @param supplier The call itself. Executed on the calling thread.
+     * @param <T>      The type of the result.
+     *
+     * @return The result of the call, which might be shared with other callers.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(@NonNull String key, @NonNull Supplier<T> supplier) {
+        Call call;
+        boolean isOwner;
+        synchronized (calls) {
+            call = calls.get(key);
+            isOwner = call == null;
+            if (isOwner) {
+                call = new Call();
+                calls.put(key, call);
+            }
+        }
+
+        if (!isOwner) {
+            try {
+                return (T) call.await();
+            } catch (InterruptedException e) {
+                // Don't wait any longer, just execute it ourselves.
+                Thread.currentThread().interrupt();
+                return supplier.get();
+            }
+        }
+
+        T result = null;
+        Throwable failure = null;
+        try {
+            result = supplier.get();
+            return result;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            // Always complete the call, otherwise the waiting threads would wait forever.
+            synchronized (calls) {
+                calls.remove(key);
+            }
+            call.complete(result, failure);
+        }
+    }
+
+    private static final class Call {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        @Nullable
+        private Object result;
+        @Nullable
+        private Throwable exception;
+
+        void complete(@Nullable Object result, @Nullable Throwable exception) {
+            this.result = result;
+            this.exception = exception;
+            latch.countDown();
+        }
+
+        Object await() throws InterruptedException {
+            latch.await();
+            if (exception instanceof RuntimeException) {
+                throw (RuntimeException) exception;
+            } else if (exception instanceof Error) {
+                throw (Error) exception;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+import androidx.core.util.AtomicFile;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import be.ugent.zeus.hydra.BuildConfig;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.ByteString;
+import okio.Okio;
+
+/**
+ * Persistent store with the last decoded response of requests, to show data immediately after the app starts,
+ * without reading and decoding the HTTP cache.
+ * <p>
+ * A snapshot contains the decoded data in a compact binary format. The data is converted to a tree of JSON values
+ * with the adapter of the request, which is then written with a tag per value. Property names are only written once
+ * per snapshot. Reading a snapshot does the reverse.
+ * <p>
+ * Snapshots are versioned by the format, the version of the app and the type of the data: as the models only change
+ * with the app, a snapshot of another version is discarded. Each snapshot also contains a validator of the response
+ * it was decoded from, meaning the ETag or Last-Modified header. When a response with the same validator is decoded,
+ * the snapshot is not written again, but only marked as received at that time. The time the response was received
+ * is kept as the modification time of the file.
+ * <p>
+ * The snapshots are written on a background thread. When the total size exceeds the maximal size, the oldest
+ * snapshots are removed.
+ *
+ * @author Niko Strijbol
+ */
+public final class SnapshotStore {
+
+    private static final String TAG = "SnapshotStore";
+
+    private static final int MAGIC = 0x4859534e; // HYSN
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int NULL = 0;
+    private static final int TRUE = 1;
+    private static final int FALSE = 2;
+    private static final int LONG = 3;
+    private static final int DOUBLE = 4;
+    private static final int NUMBER = 5;
+    private static final int STRING = 6;
+    private static final int LIST = 7;
+    private static final int MAP = 8;
+
+    @Nullable
+    private final File directory;
+    private final long maxSize;
+    private final Executor writer;
+
+    /**
+     * @param directory The directory for the snapshots, or null to disable the store.
+     * @param maxSize   The maximal size of all snapshots in bytes.
+     */
+    public SnapshotStore(@Nullable File directory, long maxSize) {
+        this(directory, maxSize, new ThreadPoolExecutor(0, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>()));
+    }
+
+    @VisibleForTesting
+    SnapshotStore(@Nullable File directory, long maxSize, Executor writer) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.writer = writer;
+    }
+
+    /**
+     * A decoded snapshot.
+     *
+     * @param <D> The type of the data.
+     */
+    static final class Snapshot<D> {
+        final D data;
+        final long receivedAt;
+        final long size;
+
+        private Snapshot(D data, long receivedAt, long size) {
+            this.data = data;
+            this.receivedAt = receivedAt;
+            this.size = size;
+        }
+    }
+
+    private static final class Header {
+        final String type;
+        final String key;
+        final String validator;
+
+        private Header(String type, String key, String validator) {
+            this.type = type;
+            this.key = key;
+            this.validator = validator;
+        }
+    }
+
+    @Nullable
+    private File fileFor(@NonNull String key) {
+        if (directory == null) {
+            return null;
+        }
+        return new File(directory, ByteString.encodeUtf8(key).sha256().hex());
+    }
+
+    /**
+     * Read the snapshot for a request.
+     *
+     * @param key     The key of the request.
+     * @param type    The type of the data.
+     * @param adapter The adapter for the data.
+     * @param <D>     The type of the data.
+     *
+     * @return The snapshot, or null if there is no valid snapshot.
+     */
+    @Nullable
+    @WorkerThread
+    <D> Snapshot<D> read(@NonNull String key, @NonNull Type type, @NonNull JsonAdapter<D> adapter) {
+        File file = fileFor(key);
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        try (BufferedSource source = Okio.buffer(Okio.source(file))) {
+            Header header = readHeader(source);
+            if (header == null || !header.key.equals(key) || !header.type.equals(type.toString())) {
+                Log.d(TAG, "Discarding outdated snapshot for " + key);
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+                return null;
+            }
+            D data = adapter.fromJsonValue(readValue(source, new ArrayList<>()));
+            if (data == null) {
+                return null;
+            }
+            return new Snapshot<>(data, file.lastModified(), file.length());
+        } catch (IOException | JsonDataException | IllegalArgumentException e) {
+            Log.w(TAG, "Could not read snapshot for " + key, e);
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+            return null;
+        }
+    }
+
+    /**
+     * Save a snapshot for a request in the background.
+     *
+     * @param key        The key of the request.
+     * @param type       The type of the data.
+     * @param adapter    The adapter for the data.
+     * @param data       The data. It must not be modified afterwards.
+     * @param validator  The validator of the response.
+     * @param receivedAt When the response was received, in milliseconds since the epoch.
+     * @param <D>        The type of the data.
+     */
+    <D> void write(
+            @NonNull String key,
+            @NonNull Type type,
+            @NonNull JsonAdapter<D> adapter,
+            @NonNull D data,
+            @NonNull String validator,
+            long receivedAt
+    ) {
+        File file = fileFor(key);
+        if (file == null) {
+            return;
+        }
+        writer.execute(() -> {
+            if (isCurrent(file, key, type, validator) && file.setLastModified(receivedAt)) {
+                return;
+            }
+            writeFile(file, new Header(type.toString(), key, validator), adapter.toJsonValue(data), receivedAt);
+            trim();
+        });
+    }
+
+    @WorkerThread
+    private boolean isCurrent(File file, String key, Type type, String validator) {
+        if (!file.exists()) {
+            return false;
+        }
+        try (BufferedSource source = Okio.buffer(Okio.source(file))) {
+            Header header = readHeader(source);
+            return header != null
+                    && header.key.equals(key)
+                    && header.type.equals(type.toString())
+                    && header.validator.equals(validator);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @WorkerThread
+    private void writeFile(File file, Header header, @Nullable Object value, long receivedAt) {
+        //noinspection ConstantConditions
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Log.w(TAG, "Could not create the snapshot directory.");
+            return;
+        }
+        AtomicFile atomicFile = new AtomicFile(file);
+        FileOutputStream stream = null;
+        try {
+            stream = atomicFile.startWrite();
+            // The stream is closed by the atomic file.
+            BufferedSink sink = Okio.buffer(Okio.sink(stream));
+            sink.writeInt(MAGIC);
+            sink.writeInt(FORMAT_VERSION);
+            sink.writeInt(BuildConfig.VERSION_CODE);
+            writeString(sink, header.type);
+            writeString(sink, header.key);
+            writeString(sink, header.validator);
+            writeValue(sink, value, new HashMap<>());
+            sink.flush();
+            atomicFile.finishWrite(stream);
+            //noinspection ResultOfMethodCallIgnored
+            file.setLastModified(receivedAt);
+        } catch (IOException | IllegalArgumentException e) {
+            Log.w(TAG, "Could not write snapshot for " + header.key, e);
+            if (stream != null) {
+                atomicFile.failWrite(stream);
+            }
+        }
+    }
+
+    /**
+     * Remove the oldest snapshots until the total size is below the maximum.
+     */
+    @WorkerThread
+    private void trim() {
+        //noinspection ConstantConditions
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+        if (total <= maxSize) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (total <= maxSize) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            }
+        }
+    }
+
+    @Nullable
+    private static Header readHeader(BufferedSource source) throws IOException {
+        if (source.readInt() != MAGIC
+                || source.readInt() != FORMAT_VERSION
+                || source.readInt() != BuildConfig.VERSION_CODE) {
+            return null;
+        }
+        return new Header(readString(source), readString(source), readString(source));
+    }
+
+    private static void writeValue(BufferedSink sink, @Nullable Object value, Map<String, Integer> names)
+            throws IOException {
+        if (value == null) {
+            sink.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            sink.writeByte((Boolean) value ? TRUE : FALSE);
+        } else if (value instanceof Long || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            sink.writeByte(LONG);
+            sink.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            sink.writeByte(DOUBLE);
+            sink.writeLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Number) {
+            sink.writeByte(NUMBER);
+            writeString(sink, value.toString());
+        } else if (value instanceof String) {
+            sink.writeByte(STRING);
+            writeString(sink, (String) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            sink.writeByte(LIST);
+            writeVarint(sink, list.size());
+            for (Object element : list) {
+                writeValue(sink, element, names);
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            sink.writeByte(MAP);
+            writeVarint(sink, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                // A known name is written as its index + 1, a new name as 0 followed by the name.
+                String name = String.valueOf(entry.getKey());
+                Integer index = names.get(name);
+                if (index == null) {
+                    writeVarint(sink, 0);
+                    writeString(sink, name);
+                    names.put(name, names.size());
+                } else {
+                    writeVarint(sink, index + 1);
+                }
+                writeValue(sink, entry.getValue(), names);
+            }
+        } else {
+            throw new IllegalArgumentException("Unexpected JSON value of type " + value.getClass());
+        }
+    }
+
+    @Nullable
+    private static Object readValue(BufferedSource source, List<String> names) throws IOException {
+        int tag = source.readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return true;
+            case FALSE:
+                return false;
+            case LONG:
+                return source.readLong();
+            case DOUBLE:
+                return Double.longBitsToDouble(source.readLong());
+            case NUMBER:
+            case STRING:
+                return readString(source);
+            case LIST:
+                int size = readVarint(source);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(source, names));
+                }
+                return list;
+            case MAP:
+                int entries = readVarint(source);
+                Map<String, Object> map = new LinkedHashMap<>(entries * 4 / 3 + 1);
+                for (int i = 0; i < entries; i++) {
+                    int index = readVarint(source);
+                    String name;
+                    if (index == 0) {
+                        name = readString(source);
+                        names.add(name);
+                    } else {
+                        name = names.get(index - 1);
+                    }
+                    map.put(name, readValue(source, names));
+                }
+                return map;
+            default:
+                throw new IOException("Unknown tag " + tag);
+        }
+    }
+
+    private static void writeString(BufferedSink sink, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(sink, bytes.length);
+        sink.write(bytes);
+    }
+
+    private static String readString(BufferedSource source) throws IOException {
+        return source.readUtf8(readVarint(source));
+    }
+
+    private static void writeVarint(BufferedSink sink, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            sink.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        sink.writeByte(value);
+    }
+
+    private static int readVarint(BufferedSource source) throws IOException {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = source.readByte();
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.squareup.moshi.*;
+import okio.BufferedSource;
+
+/**
+ * Describes a list in a response that can be decoded incrementally. While the response is downloading, the elements
+ * of the list are decoded as they arrive, and partial data is reported in chunks of increasing size. This allows
+ * showing the first elements before the whole response is available.
+ * <p>
+ * The list is found by following the names of the properties in the path, starting from the root of the response.
+ * Without path, the response itself must be the list. The partial data is created from the decoded elements by the
+ * partial factory; it only needs to contain the list.
+ * <p>
+ * The response is decoded only once: the {@link Decoder} decodes the whole response as usual, but decodes the list
+ * itself element by element, reporting the partial data along the way. The elements are then used in the result.
+ *
+ * @param <T> The type of the elements.
+ * @param <D> The type of the response.
+ *
+ * @author Niko Strijbol
+ */
+public final class StreamingList<T, D> {
+
+    /**
+     * The size of the first chunk. The size of each next chunk is doubled.
+     */
+    private static final int FIRST_CHUNK = 10;
+
+    /**
+     * The shared adapters, by Moshi instance, response type, element type and path.
+     */
+    private static final Map<List<Object>, SharedAdapter> ADAPTERS = new ConcurrentHashMap<>();
+
+    private final Type elementType;
+    private final Function<List<T>, D> partialFactory;
+    private final String[] path;
+
+    /**
+     * @param elementType    The type of the elements in the list.
+     * @param partialFactory Creates the partial data from the elements decoded so far.
+     * @param path           The names of the properties leading to the list.
+     */
+    public StreamingList(@NonNull Class<T> elementType, @NonNull Function<List<T>, D> partialFactory, String... path) {
+        this.elementType = elementType;
+        this.partialFactory = partialFactory;
+        this.path = path;
+    }
+
+    /**
+     * Stream a response that is a list itself.
+     *
+     * @param elementType The type of the elements in the list.
+     * @param <T>         The type of the elements in the list.
+     *
+     * @return The streaming list.
+     */
+    public static <T> StreamingList<T, List<T>> of(@NonNull Class<T> elementType) {
+        return new StreamingList<>(elementType, Function.identity());
+    }
+
+    /**
+     * Create a decoder for the response. The adapters are shared by the decoders for all lists with the same path and
+     * types, so they are only resolved once, even if each request creates a new streaming list.
+     *
+     * @param moshi The Moshi instance to get the adapters from.
+     * @param type  The type of the response.
+     *
+     * @return The decoder. It can be re-used, also by multiple threads at the same time.
+     */
+    @NonNull
+    Decoder<D> decoder(@NonNull Moshi moshi, @NonNull Type type) {
+        StringBuilder location = new StringBuilder("$");
+        for (String property : path) {
+            location.append('.').append(property);
+        }
+        String listPath = location.toString();
+        List<Object> key = Arrays.asList(moshi, type, elementType, listPath);
+        SharedAdapter adapter = ADAPTERS.computeIfAbsent(
+                key,
+                k -> new SharedAdapter(moshi, type, elementType, listPath)
+        );
+        return new Decoder<>(this, adapter);
+    }
+
+    /**
+     * Decodes a response in one pass, reporting the partial data while the list is decoded.
+     *
+     * @param <D> The type of the response.
+     */
+    static final class Decoder<D> {
+
+        private final StreamingList<?, D> list;
+        private final SharedAdapter adapter;
+
+        private Decoder(StreamingList<?, D> list, SharedAdapter adapter) {
+            this.list = list;
+            this.adapter = adapter;
+        }
+
+        /**
+         * Decode the response.
+         *
+         * @param source   The source of the response.
+         * @param listener Receives the partial data.
+         *
+         * @return The decoded response.
+         * @throws IOException If the response could not be read.
+         * @throws JsonDataException If the response has an unexpected format.
+         */
+        @Nullable
+        @SuppressWarnings("unchecked")
+        D decode(@NonNull BufferedSource source, @NonNull Consumer<D> listener) throws IOException {
+            return (D) adapter.decode(source, elements -> listener.accept(partial(list, elements)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T, D> D partial(StreamingList<T, D> list, List<?> elements) {
+            return list.partialFactory.apply((List<T>) elements);
+        }
+    }
+
+    /**
+     * The adapter for the response, which decodes the list element by element. The elements decoded so far are
+     * reported to the listener of the thread that is decoding.
+     */
+    private static final class SharedAdapter {
+
+        private final ThreadLocal<Consumer<List<?>>> listener = new ThreadLocal<>();
+        private final JsonAdapter<?> adapter;
+
+        private SharedAdapter(Moshi moshi, Type type, Type elementType, String path) {
+            Type listType = Types.newParameterizedType(List.class, elementType);
+            Factory factory = new Factory(elementType, listType, path);
+            this.adapter = moshi.newBuilder().add(factory).build().adapter(type);
+        }
+
+        @Nullable
+        private Object decode(@NonNull BufferedSource source, @NonNull Consumer<List<?>> listener) throws IOException {
+            this.listener.set(listener);
+            try {
+                return adapter.fromJson(source);
+            } finally {
+                this.listener.remove();
+            }
+        }
+
+        /**
+         * Provides the adapter for the list.
+         */
+        private final class Factory implements JsonAdapter.Factory {
+
+            private final Type elementType;
+            private final Type listType;
+            private final String path;
+
+            private Factory(Type elementType, Type listType, String path) {
+                this.elementType = elementType;
+                this.listType = listType;
+                this.path = path;
+            }
+
+            @Nullable
+            @Override
+            public JsonAdapter<?> create(@NonNull Type type,
+                                         @NonNull Set<? extends Annotation> annotations,
+                                         @NonNull Moshi moshi) {
+                if (!annotations.isEmpty() || !Types.equals(type, listType)) {
+                    return null;
+                }
+                JsonAdapter<List<Object>> delegate = moshi.nextAdapter(this, type, annotations);
+                return new ListAdapter(path, delegate, moshi.adapter(elementType));
+            }
+        }
+
+        /**
+         * Decodes the list element by element if it is at the expected location. Other lists with the same type are
+         * decoded normally.
+         */
+        private final class ListAdapter extends JsonAdapter<List<Object>> {
+
+            private final String path;
+            private final JsonAdapter<List<Object>> delegate;
+            private final JsonAdapter<Object> elementAdapter;
+
+            private ListAdapter(String path, JsonAdapter<List<Object>> delegate, JsonAdapter<Object> elementAdapter) {
+                this.path = path;
+                this.delegate = delegate;
+                this.elementAdapter = elementAdapter;
+            }
+
+            @Nullable
+            @Override
+            public List<Object> fromJson(@NonNull JsonReader reader) throws IOException {
+                Consumer<List<?>> current = listener.get();
+                if (current == null || !isStreamed(reader)) {
+                    return delegate.fromJson(reader);
+                }
+                List<Object> elements = new ArrayList<>();
+                int nextChunk = FIRST_CHUNK;
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    elements.add(elementAdapter.fromJson(reader));
+                    if (elements.size() >= nextChunk) {
+                        current.accept(new ArrayList<>(elements));
+                        nextChunk *= 2;
+                    }
+                }
+                reader.endArray();
+                return elements;
+            }
+
+            @Override
+            public void toJson(@NonNull JsonWriter writer, @Nullable List<Object> value) throws IOException {
+                delegate.toJson(writer, value);
+            }
+
+            private boolean isStreamed(JsonReader reader) throws IOException {
+                return reader.peek() == JsonReader.Token.BEGIN_ARRAY && path.equals(reader.getPath());
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network.metrics;
+
+import androidx.annotation.NonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The metrics of one endpoint.
+ *
+ * @author Niko Strijbol
+ */
+public final class EndpointMetrics {
+
+    /**
+     * The measured phases of a request.
+     */
+    public enum Phase {
+        /**
+         * Looking up the host name.
+         */
+        DNS,
+        /**
+         * Setting up the connection, including the TLS handshake.
+         */
+        CONNECT,
+        /**
+         * The TLS handshake.
+         */
+        TLS,
+        /**
+         * From sending the request until the headers of the response arrive.
+         */
+        TTFB,
+        /**
+         * Downloading the body of the response.
+         */
+        BODY,
+        /**
+         * Decoding the response with Moshi, after the body was downloaded. Not recorded for streamed responses, as
+         * those are decoded while downloading.
+         */
+        DECODE,
+        /**
+         * The complete call, including the download of the body but not the decoding that happens after it.
+         */
+        TOTAL
+    }
+
+    /**
+     * How a request was answered.
+     */
+    public enum CacheStatus {
+        /**
+         * The decoded response was in the memory cache, so no call was made.
+         */
+        MEMORY,
+        /**
+         * The response was in the HTTP cache.
+         */
+        HIT,
+        /**
+         * The HTTP cache was validated with the server.
+         */
+        CONDITIONAL_HIT,
+        /**
+         * The response came from the network.
+         */
+        MISS,
+        /**
+         * The response was only allowed to come from the cache, but was not cached.
+         */
+        UNSATISFIED
+    }
+
+    private final String name;
+    private final Map<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+    private final AtomicLongArray cache = new AtomicLongArray(CacheStatus.values().length);
+    private final AtomicLongArray outcomes = new AtomicLongArray(2);
+
+    EndpointMetrics(@NonNull String name) {
+        this.name = name;
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new Histogram());
+        }
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    public Histogram get(@NonNull Phase phase) {
+        //noinspection ConstantConditions
+        return phases.get(phase);
+    }
+
+    void record(@NonNull Phase phase, long nanos) {
+        get(phase).record(nanos);
+    }
+
+    void record(@NonNull CacheStatus status) {
+        cache.incrementAndGet(status.ordinal());
+    }
+
+    void recordCall(boolean success) {
+        outcomes.incrementAndGet(success ? 0 : 1);
+    }
+
+    public long getCount(@NonNull CacheStatus status) {
+        return cache.get(status.ordinal());
+    }
+
+    public long getCalls() {
+        return outcomes.get(0) + outcomes.get(1);
+    }
+
+    public long getFailedCalls() {
+        return outcomes.get(1);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network.metrics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.CacheStatus;
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.Phase;
+import okhttp3.*;
+
+/**
+ * Records the timings of one call in the {@link NetworkMetrics}.
+ * <p>
+ * OkHttp reports the events of a call sequentially, so no synchronisation is needed. Phases that do not happen, such
+ * as the DNS lookup on a reused connection, are not recorded.
+ *
+ * @author Niko Strijbol
+ */
+final class MetricsEventListener extends EventListener {
+
+    private final EndpointMetrics endpoint;
+
+    private long callStart;
+    private long dnsStart;
+    private long connectStart;
+    private long secureConnectStart;
+    private long requestStart;
+    private long bodyStart;
+
+    private MetricsEventListener(EndpointMetrics endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    static EventListener.Factory factory(NetworkMetrics metrics) {
+        return call -> new MetricsEventListener(metrics.forUrl(call.request().url().toString()));
+    }
+
+    private static long since(long start) {
+        return start == 0 ? -1 : System.nanoTime() - start;
+    }
+
+    @Override
+    public void callStart(@NonNull Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(@NonNull Call call, @NonNull String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(@NonNull Call call, @NonNull String domainName, @NonNull List<InetAddress> inetAddressList) {
+        endpoint.record(Phase.DNS, since(dnsStart));
+    }
+
+    @Override
+    public void connectStart(@NonNull Call call, @NonNull InetSocketAddress inetSocketAddress, @NonNull Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(@NonNull Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(@NonNull Call call, @Nullable Handshake handshake) {
+        endpoint.record(Phase.TLS, since(secureConnectStart));
+    }
+
+    @Override
+    public void connectEnd(
+            @NonNull Call call,
+            @NonNull InetSocketAddress inetSocketAddress,
+            @NonNull Proxy proxy,
+            @Nullable Protocol protocol
+    ) {
+        endpoint.record(Phase.CONNECT, since(connectStart));
+    }
+
+    @Override
+    public void requestHeadersStart(@NonNull Call call) {
+        requestStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseHeadersStart(@NonNull Call call) {
+        endpoint.record(Phase.TTFB, since(requestStart));
+    }
+
+    @Override
+    public void responseBodyStart(@NonNull Call call) {
+        bodyStart = System.nanoTime();
+    }
+
+    @Override
+    public void responseBodyEnd(@NonNull Call call, long byteCount) {
+        endpoint.record(Phase.BODY, since(bodyStart));
+    }
+
+    @Override
+    public void cacheHit(@NonNull Call call, @NonNull Response response) {
+        endpoint.record(CacheStatus.HIT);
+    }
+
+    @Override
+    public void cacheConditionalHit(@NonNull Call call, @NonNull Response cachedResponse) {
+        endpoint.record(CacheStatus.CONDITIONAL_HIT);
+    }
+
+    @Override
+    public void cacheMiss(@NonNull Call call) {
+        endpoint.record(CacheStatus.MISS);
+    }
+
+    @Override
+    public void satisfactionFailure(@NonNull Call call, @NonNull Response response) {
+        endpoint.record(CacheStatus.UNSATISFIED);
+    }
+
+    @Override
+    public void callEnd(@NonNull Call call) {
+        endpoint.record(Phase.TOTAL, since(callStart));
+        endpoint.recordCall(true);
+    }
+
+    @Override
+    public void callFailed(@NonNull Call call, @NonNull IOException ioe) {
+        endpoint.record(Phase.TOTAL, since(callStart));
+        endpoint.recordCall(false);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network.metrics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import be.ugent.zeus.hydra.BuildConfig;
+import be.ugent.zeus.hydra.common.network.Endpoints;
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.CacheStatus;
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.Phase;
+import okhttp3.EventListener;
+
+/**
+ * Collects timings of the network requests per endpoint, to find out which endpoints are slow.
+ * <p>
+ * The timings of the calls are recorded by an {@link EventListener} on the OkHttp client, while the decoding and the
+ * memory cache are recorded by the requests themselves. The metrics are only collected in debug builds with the
+ * {@code hydra.debug.network.metrics} property enabled. It is disabled by default.
+ * <p>
+ * An endpoint is a URL without query, where numbers in the path are replaced by {@code #}. This way, for example, the
+ * menus of all days are counted as one endpoint. Known hosts are replaced by a short name.
+ *
+ * @author Niko Strijbol
+ */
+public final class NetworkMetrics {
+
+    private static final Map<String, String> HOSTS = new LinkedHashMap<>();
+
+    static {
+        HOSTS.put(Endpoints.DSA_V4, "DSA ");
+        HOSTS.put(Endpoints.ZEUS_V1, "Zeus 1.0 ");
+        HOSTS.put(Endpoints.ZEUS_V2, "Zeus 2.0 ");
+        HOSTS.put(Endpoints.TAP, "Tap ");
+        HOSTS.put(Endpoints.TAB, "Tab ");
+        HOSTS.put(Endpoints.MATTERMORE, "Mattermore ");
+        HOSTS.put(Endpoints.KELDER, "Kelder ");
+        HOSTS.put(Endpoints.LIBRARY, "Library ");
+    }
+
+    private static NetworkMetrics instance;
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private volatile Instant since = Instant.now();
+
+    @VisibleForTesting
+    NetworkMetrics() {
+    }
+
+    public static synchronized NetworkMetrics get() {
+        if (instance == null) {
+            instance = new NetworkMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * @return True if metrics should be collected.
+     */
+    public static boolean isEnabled() {
+        return BuildConfig.DEBUG && BuildConfig.DEBUG_NETWORK_METRICS;
+    }
+
+    /**
+     * @return The factory for the event listener that records the calls of an OkHttp client.
+     */
+    @NonNull
+    public EventListener.Factory getEventListenerFactory() {
+        return MetricsEventListener.factory(this);
+    }
+
+    @NonNull
+    static String endpointOf(@NonNull String url) {
+        int end = url.length();
+        int query = url.indexOf('?');
+        if (query >= 0) {
+            end = query;
+        }
+        int fragment = url.indexOf('#');
+        if (fragment >= 0 && fragment < end) {
+            end = fragment;
+        }
+        String path = url.substring(0, end);
+        String prefix = "";
+        for (Map.Entry<String, String> host : HOSTS.entrySet()) {
+            if (path.startsWith(host.getKey())) {
+                prefix = host.getValue();
+                path = path.substring(host.getKey().length());
+                break;
+            }
+        }
+        return prefix + path.replaceAll("\\d+", "#");
+    }
+
+    @NonNull
+    EndpointMetrics forUrl(@NonNull String url) {
+        return endpoints.computeIfAbsent(endpointOf(url), EndpointMetrics::new);
+    }
+
+    /**
+     * Record the time it took to decode a response.
+     *
+     * @param url   The URL of the request.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void recordDecode(@NonNull String url, long nanos) {
+        forUrl(url).record(Phase.DECODE, nanos);
+    }
+
+    /**
+     * Record that a request was answered from the memory cache.
+     *
+     * @param url The URL of the request.
+     */
+    public void recordMemoryHit(@NonNull String url) {
+        forUrl(url).record(CacheStatus.MEMORY);
+    }
+
+    /**
+     * @return The endpoints, sorted by the total time spent in their calls and decoding their responses, slowest first.
+     */
+    @NonNull
+    public List<EndpointMetrics> getEndpoints() {
+        List<EndpointMetrics> result = new ArrayList<>(endpoints.values());
+        result.sort(Comparator.comparingLong((EndpointMetrics e) -> e.get(Phase.TOTAL).getTotalMillis()
+                + e.get(Phase.DECODE).getTotalMillis()).reversed());
+        return result;
+    }
+
+    /**
+     * Forget all collected metrics.
+     */
+    public void reset() {
+        endpoints.clear();
+        since = Instant.now();
+    }
+
+    /**
+     * Write a plain text report of the metrics. All times are in milliseconds; the percentiles are upper bounds.
+     *
+     * @param writer The writer.
+     */
+    public void dump(@NonNull PrintWriter writer) {
+        List<EndpointMetrics> all = getEndpoints();
+        writer.printf(Locale.ROOT, "Network metrics since %s (%d endpoints)%n", since, all.size());
+        for (EndpointMetrics endpoint : all) {
+            writer.println();
+            writer.println(endpoint.getName());
+            writer.printf(
+                    Locale.ROOT,
+                    "  calls %d (failed %d); memory %d, hit %d, conditional %d, miss %d, unsatisfied %d%n",
+                    endpoint.getCalls(),
+                    endpoint.getFailedCalls(),
+                    endpoint.getCount(CacheStatus.MEMORY),
+                    endpoint.getCount(CacheStatus.HIT),
+                    endpoint.getCount(CacheStatus.CONDITIONAL_HIT),
+                    endpoint.getCount(CacheStatus.MISS),
+                    endpoint.getCount(CacheStatus.UNSATISFIED)
+            );
+            writer.printf(Locale.ROOT, "  %-8s %6s %9s %7s %7s %7s%n", "phase", "count", "mean", "p50", "p90", "max");
+            for (Phase phase : Phase.values()) {
+                Histogram histogram = endpoint.get(phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                writer.printf(
+                        Locale.ROOT,
+                        "  %-8s %6d %9.1f %7d %7d %7d%n",
+                        phase.name().toLowerCase(Locale.ROOT),
+                        histogram.getCount(),
+                        histogram.getMeanMillis(),
+                        histogram.getPercentileMillis(0.5),
+                        histogram.getPercentileMillis(0.9),
+                        histogram.getMaxMillis()
+                );
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * @return The report from {@link #dump(PrintWriter)} as a string.
+     */
+    @NonNull
+    public String getReport() {
+        StringWriter writer = new StringWriter();
+        dump(new PrintWriter(writer));
+        return writer.toString();
+    }
+}
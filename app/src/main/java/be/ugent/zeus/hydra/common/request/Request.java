@@ -26,6 +26,7 @@ import android.os.Bundle;
 import android.util.Pair;
 import androidx.annotation.NonNull;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -58,12 +59,31 @@ public interface Request<T> {
         return execute(Bundle.EMPTY);
     }
 
+    /**
+     * Identical to {@link #execute(Bundle)}, but the request may report intermediary results before returning the
+     * final result. For example, a request can report cached data while it is fetching fresh data.
+     * <p>
+     * Intermediary results are never done (see {@link Result#isDone()}), and are reported on a background thread.
+     * Normally, this is the thread executing the request, but combined requests such as {@link #zip(Request)} can
+     * also report them from the thread executing the other request. The listener must thus be thread-safe. By
+     * default, no intermediary results are reported.
+     *
+     * @param args            The arguments for this request. Can be {@link Bundle#EMPTY}.
+     * @param partialListener Receives the intermediary results.
+     * @return The data.
+     */
+    @NonNull
+    default Result<T> execute(@NonNull Bundle args, @NonNull Consumer<Result<T>> partialListener) {
+        return execute(args);
+    }
+
     /**
      * This is similar to {@link Result#map(Function)}, but this method allows transforming the request's result
      * without executing the request now.
      * <p>
      * Unless otherwise specified, the resulting request can use this request and inherits this request's properties.
-     * For example, if this request is cached, the resulting request will be cached.
+     * For example, if this request is cached, the resulting request will be cached. Intermediary results are mapped
+     * as well.
      *
      * @param function The function to apply to the result of the original request.
      * @param <R>      The type of the resulting request's result.
@@ -71,7 +91,20 @@ public interface Request<T> {
      */
     @NonNull
     default <R> Request<R> map(@NonNull Function<T, R> function) {
-        return args -> execute(args).map(function);
+        Request<T> original = this;
+        return new Request<R>() {
+            @NonNull
+            @Override
+            public Result<R> execute(@NonNull Bundle args) {
+                return original.execute(args).map(function);
+            }
+
+            @NonNull
+            @Override
+            public Result<R> execute(@NonNull Bundle args, @NonNull Consumer<Result<R>> partialListener) {
+                return original.execute(args, partial -> partialListener.accept(partial.map(function))).map(function);
+            }
+        };
     }
 
     /**
@@ -87,6 +120,8 @@ public interface Request<T> {
      * if request A cannot be executed in a background thread and request B
      * must be executed on a background thread, the resulting request will not
      * be executable.
+     * <p>
+     * The resulting request does not report intermediary results.
      *
      * @param second The second request to execute.
      * @param <S>    The result type of the second request.
@@ -96,4 +131,26 @@ public interface Request<T> {
     default <S> Request<Pair<T, S>> andThen(@NonNull Request<S> second) {
         return args -> execute(args).andThen(second.execute(args));
     }
+
+    /**
+     * Execute this request and another, independent request at the same time. This is useful if you need the data
+     * of both requests, but the requests do not depend on each other.
+     * <p>
+     * The errors are handled in the same way as {@link #andThen(Request)}: if this request errors, the produced error
+     * is returned. If the other request errors, that error is returned while the result of this request is discarded.
+     * If both succeed, the data is wrapped in a Pair and returned.
+     * <p>
+     * The other request is executed on a background thread, so it must support that. This request is executed on
+     * the thread that executes the resulting request. Intermediary results of either request are combined with the
+     * latest result of the other request, if there is one. These are reported on the thread of the request that
+     * produced them, so not necessarily on the thread executing the resulting request.
+     *
+     * @param other The other request to execute.
+     * @param <S>   The result type of the other request.
+     * @return A new combined request.
+     */
+    @NonNull
+    default <S> Request<Pair<T, S>> zip(@NonNull Request<S> other) {
+        return new ZippedRequest<>(this, other);
+    }
 }
\ No newline at end of file
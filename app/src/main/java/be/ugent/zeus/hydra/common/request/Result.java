@@ -123,6 +123,13 @@ public class Result<D> {
         return new Result<>(throwable, data, true);
     }
 
+    /**
+     * @return A copy of this result, but with the status set to continuing.
+     */
+    public Result<D> asPartial() {
+        return new Result<>(throwable, data, false);
+    }
+
     /**
      * Applies a function to the data of the result. The exception and status are not modified.
      * <p>
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.common.request;
+
+import android.os.Bundle;
+import android.util.Pair;
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
+
+/**
+ * Request that executes two independent requests at the same time.
+ * <p>
+ * The second request is scheduled on the {@link RequestScheduler}, while the first request is executed on the calling
+ * thread. If the second request has not started when the first one is done, it is executed on the calling thread as
+ * well. This means waiting for the second request never blocks on a full thread pool.
+ * <p>
+ * Intermediary results are reported on the thread of the request that produced them. For the second request, that is
+ * a thread of the scheduler.
+ * <p>
+ * The second request is scheduled with the priority of the calling thread (see
+ * {@link RequestScheduler#getCurrentPriority()}), so a zipped request executed in the background does not compete with
+ * requests for the screen.
+ *
+ * @author Niko Strijbol
+ * @see Request#zip(Request)
+ */
+class ZippedRequest<F, S> implements Request<Pair<F, S>> {
+
+    private static final String TAG = "ZippedRequest";
+
+    private final Request<F> first;
+    private final Request<S> second;
+
+    ZippedRequest(@NonNull Request<F> first, @NonNull Request<S> second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @NonNull
+    @Override
+    public Result<Pair<F, S>> execute(@NonNull Bundle args) {
+        return execute(args, partial -> {
+            // Ignore intermediary results.
+        });
+    }
+
+    @NonNull
+    @Override
+    public Result<Pair<F, S>> execute(@NonNull Bundle args, @NonNull Consumer<Result<Pair<F, S>>> partialListener) {
+        Partials partials = new Partials(partialListener);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Result<S>> secondResult = new AtomicReference<>();
+        AtomicReference<RuntimeException> secondFailure = new AtomicReference<>();
+
+        RequestScheduler scheduler = RequestScheduler.getInstance();
+        RequestScheduler.Task task = scheduler.schedule(RequestScheduler.getCurrentPriority(), TAG, () -> {
+            try {
+                Result<S> result = second.execute(args, partials::onSecond);
+                partials.onSecond(result);
+                secondResult.set(result);
+            } catch (RuntimeException e) {
+                // Re-thrown on the calling thread, as if the requests were executed there.
+                secondFailure.set(e);
+            } finally {
+                done.countDown();
+            }
+        });
+
+        Result<F> firstResult;
+        try {
+            firstResult = first.execute(args, partials::onFirst);
+        } catch (RuntimeException e) {
+            // Don't execute the second request for nothing.
+            task.cancel();
+            throw e;
+        }
+        partials.onFirst(firstResult);
+
+        if (task.cancel()) {
+            // The second request did not start yet, so do it ourselves.
+            return firstResult.andThen(second.execute(args, partials::onSecond));
+        }
+
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.Builder.fromException(new RequestException(e));
+        }
+
+        if (secondFailure.get() != null) {
+            throw secondFailure.get();
+        }
+
+        return firstResult.andThen(secondResult.get());
+    }
+
+    /**
+     * Combines the intermediary results of both requests. An intermediary result is reported if both requests have
+     * a result, at least one of those is an intermediary result and the combination has data.
+     */
+    private class Partials {
+
+        private final Consumer<Result<Pair<F, S>>> listener;
+        private Result<F> first;
+        private Result<S> second;
+
+        private Partials(Consumer<Result<Pair<F, S>>> listener) {
+            this.listener = listener;
+        }
+
+        synchronized void onFirst(Result<F> result) {
+            first = result;
+            report();
+        }
+
+        synchronized void onSecond(Result<S> result) {
+            second = result;
+            report();
+        }
+
+        private void report() {
+            if (first == null || second == null || (first.isDone() && second.isDone())) {
+                return;
+            }
+            Result<Pair<F, S>> combined = first.andThen(second);
+            if (combined.hasData()) {
+                listener.accept(combined.asPartial());
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.html;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.text.Spanned;
+import android.text.SpannedString;
+import android.util.LruCache;
+import androidx.annotation.AnyThread;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.Lifecycle;
+import androidx.lifecycle.LifecycleOwner;
+
+import java.util.function.Consumer;
+
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
+
+/**
+ * Cache of rendered HTML. Parsing HTML is too slow to do while binding views, so the data is rendered on a background
+ * thread when it arrives, after which binding only needs a lookup.
+ * <p>
+ * The entries are keyed by the content of the HTML, so the same text is only rendered once, regardless of which object
+ * it came from. The cache is bounded by the number of characters in the entries.
+ * <p>
+ * All methods are thread-safe. If the HTML is not in the cache, it is rendered on the calling thread, so that a
+ * missed pre-render still produces the correct result. This cache only supports HTML without images, as the image
+ * spans are tied to the view that displays them.
+ *
+ * @author Niko Strijbol
+ */
+public final class HtmlCache {
+
+    /**
+     * The maximal number of characters in the cache, including the HTML itself.
+     */
+    private static final int MAX_SIZE = 512 * 1024;
+
+    private static final HtmlCache INSTANCE = new HtmlCache(MAX_SIZE);
+
+    private final LruCache<Key, CharSequence> entries;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    private HtmlCache(int maxSize) {
+        this.entries = new LruCache<Key, CharSequence>(maxSize) {
+            @Override
+            protected int sizeOf(Key key, CharSequence value) {
+                return key.html.length() + value.length() + 1;
+            }
+        };
+    }
+
+    /**
+     * @return The shared cache.
+     */
+    public static HtmlCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the rendered HTML. The result is immutable and may be shared between views.
+     *
+     * @param html The HTML. If null, an empty text is returned.
+     * @return The rendered HTML.
+     * @see Utils#fromHtml(String)
+     */
+    @NonNull
+    @AnyThread
+    public Spanned getSpanned(@Nullable String html) {
+        if (html == null) {
+            return new SpannedString("");
+        }
+        Key key = new Key(html, false);
+        CharSequence cached = entries.get(key);
+        if (cached != null) {
+            return (Spanned) cached;
+        }
+        Spanned rendered = new SpannedString(Utils.fromHtml(html));
+        entries.put(key, rendered);
+        return rendered;
+    }
+
+    /**
+     * Get the rendered HTML as plain text, without leading and trailing whitespace. This is useful for excerpts, which
+     * don't need the formatting.
+     *
+     * @param html The HTML. If null, an empty text is returned.
+     * @return The plain text.
+     */
+    @NonNull
+    @AnyThread
+    public String getText(@Nullable String html) {
+        if (html == null) {
+            return "";
+        }
+        Key key = new Key(html, true);
+        CharSequence cached = entries.get(key);
+        if (cached != null) {
+            return (String) cached;
+        }
+        String rendered = Utils.fromHtml(html).toString().trim();
+        entries.put(key, rendered);
+        return rendered;
+    }
+
+    /**
+     * Get the rendered HTML without blocking the main thread. If the HTML is in the cache, the callback is called
+     * immediately. Otherwise, the HTML is rendered by the {@link RequestScheduler}, and the callback is called on the
+     * main thread when done. If the owner is destroyed by then, the callback is not called.
+     *
+     * @param owner    The owner of the views the callback will update.
+     * @param html     The HTML.
+     * @param callback Receives the rendered HTML.
+     */
+    @MainThread
+    public void getSpanned(@NonNull LifecycleOwner owner, @Nullable String html, @NonNull Consumer<Spanned> callback) {
+        CharSequence cached = html == null ? null : entries.get(new Key(html, false));
+        if (cached != null || html == null) {
+            callback.accept(cached == null ? new SpannedString("") : (Spanned) cached);
+            return;
+        }
+        RequestScheduler.getInstance().schedule(RequestScheduler.Priority.VISIBLE, "HtmlCache", () -> {
+            Spanned rendered = getSpanned(html);
+            mainHandler.post(() -> {
+                if (owner.getLifecycle().getCurrentState() != Lifecycle.State.DESTROYED) {
+                    callback.accept(rendered);
+                }
+            });
+        });
+    }
+
+    /**
+     * Render the HTML if it is not in the cache yet.
+     *
+     * @param html The HTML.
+     */
+    @WorkerThread
+    public void prepareSpanned(@Nullable String html) {
+        getSpanned(html);
+    }
+
+    /**
+     * Render the HTML as plain text if it is not in the cache yet.
+     *
+     * @param html The HTML.
+     */
+    @WorkerThread
+    public void prepareText(@Nullable String html) {
+        getText(html);
+    }
+
+    private static final class Key {
+        private final String html;
+        private final boolean plain;
+
+        private Key(String html, boolean plain) {
+            this.html = html;
+            this.plain = plain;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return plain == key.plain && html.equals(key.html);
+        }
+
+        @Override
+        public int hashCode() {
+            // The hash of a string is cached, so this is cheap after the first lookup.
+            return 31 * html.hashCode() + (plain ? 1 : 0);
+        }
+    }
+}
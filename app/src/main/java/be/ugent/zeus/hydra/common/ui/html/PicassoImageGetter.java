@@ -22,21 +22,30 @@
 
 package be.ugent.zeus.hydra.common.ui.html;
 
-import android.annotation.SuppressLint;
 import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Html;
 import android.util.Log;
 import android.widget.TextView;
+import androidx.annotation.MainThread;
 
 import com.squareup.picasso.Picasso;
+import com.squareup.picasso.Target;
 
 /**
  * Use {@link Picasso} to load and display images when using {@link Html}.
+ * <p>
+ * The images are loaded asynchronously by Picasso, which uses a bounded thread pool and keeps the decoded images in
+ * its memory cache. Images are downsampled to the width of the text view, so large images do not result in large
+ * bitmaps.
+ * <p>
+ * The text must be laid out again to make room for an image once it is loaded. This is done at most once per frame,
+ * regardless of how many images were loaded in that frame.
  *
  * @author Niko Strijbol
  */
@@ -46,6 +55,8 @@ public class PicassoImageGetter implements Html.ImageGetter {
 
     private final Resources resources;
     private final TextView view;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private boolean relayoutScheduled;
 
     public PicassoImageGetter(TextView textView, Resources resources) {
         this.view = textView;
@@ -54,38 +65,89 @@ public class PicassoImageGetter implements Html.ImageGetter {
 
     @Override
     public Drawable getDrawable(final String source) {
-        final DrawableWrapper result = new DrawableWrapper(new ColorDrawable());
-
-        // TODO: move out of async task?
-        @SuppressLint("StaticFieldLeak") // There is no leak
-        AsyncTask<Void, Void, Bitmap> t = new AsyncTask<Void, Void, Bitmap>() {
-            @Override
-            protected Bitmap doInBackground(final Void... meh) {
-                try {
-                    return Picasso.get().load(source).get();
-                } catch (Exception e) {
-                    return null;
-                }
-            }
+        final InlineImage result = new InlineImage();
+        // Picasso must be called from the main thread, but the HTML might be parsed on another thread.
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            load(source, result);
+        } else {
+            mainHandler.post(() -> load(source, result));
+        }
+        return result;
+    }
+
+    @MainThread
+    private void load(String source, InlineImage target) {
+        Picasso.get()
+                .load(source)
+                .resize(getMaxWidth(), 0)
+                .onlyScaleDown()
+                .into(target);
+    }
+
+    /**
+     * @return The maximal width of the images. If the view has not been laid out, the width of the screen is used.
+     */
+    private int getMaxWidth() {
+        int width = view.getWidth() - view.getTotalPaddingLeft() - view.getTotalPaddingRight();
+        if (width <= 0) {
+            width = resources.getDisplayMetrics().widthPixels;
+        }
+        return width;
+    }
+
+    /**
+     * Lay out the text again at the next frame, so the images that have been loaded are displayed.
+     */
+    @MainThread
+    private void scheduleRelayout() {
+        if (relayoutScheduled) {
+            return;
+        }
+        relayoutScheduled = true;
+        view.postOnAnimation(() -> {
+            relayoutScheduled = false;
+            view.setText(view.getText());
+        });
+    }
 
-            @Override
-            protected void onPostExecute(final Bitmap bitmap) {
-                try {
-                    final BitmapDrawable drawable = new BitmapDrawable(resources, bitmap);
-                    drawable.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
-                    result.setWrappedDrawable(drawable);
-                    result.setBounds(0, 0, drawable.getIntrinsicWidth(), drawable.getIntrinsicHeight());
-                    result.invalidateSelf();
-
-                    view.setText(view.getText());
-                } catch (Exception e) {
-                    Log.w(TAG, "Error while setting image", e);
-                }
+    /**
+     * The drawable that is put in the text. It is empty until the image is loaded.
+     * <p>
+     * This is also the target of the Picasso request. Picasso only keeps a weak reference to targets, but the drawable
+     * is kept by the text of the view, so the request lives as long as the text is displayed.
+     */
+    private final class InlineImage extends DrawableWrapper implements Target {
+
+        private InlineImage() {
+            super(new ColorDrawable());
+        }
+
+        @Override
+        public void onBitmapLoaded(Bitmap bitmap, Picasso.LoadedFrom from) {
+            BitmapDrawable drawable = new BitmapDrawable(resources, bitmap);
+            int width = drawable.getIntrinsicWidth();
+            int height = drawable.getIntrinsicHeight();
+            // The intrinsic size depends on the density, so the image might still be wider than the view.
+            int maxWidth = getMaxWidth();
+            if (width > maxWidth) {
+                height = Math.round(height * (maxWidth / (float) width));
+                width = maxWidth;
             }
+            drawable.setBounds(0, 0, width, height);
+            setWrappedDrawable(drawable);
+            setBounds(0, 0, width, height);
+            invalidateSelf();
+            scheduleRelayout();
+        }
 
-        };
-        t.execute();
+        @Override
+        public void onBitmapFailed(Exception e, Drawable errorDrawable) {
+            Log.w(TAG, "Error while loading image", e);
+        }
 
-        return result;
+        @Override
+        public void onPrepareLoad(Drawable placeHolderDrawable) {
+            // Nothing to do, the drawable is empty until the image is loaded.
+        }
     }
 }
@@ -53,6 +53,16 @@ interface AdapterUpdate<D> {
     @MainThread
     void applyUpdatesTo(ListUpdateCallback listUpdateCallback);
 
+    /**
+     * Called when this update is superseded by a newer update, possibly while {@link #getNewData(List)} is running on
+     * another thread. Implementations can then stop their calculations early by throwing a
+     * {@link java.util.concurrent.CancellationException} from {@link #getNewData(List)}. The update will not be applied.
+     */
+    @AnyThread
+    default void cancel() {
+        // Do nothing by default.
+    }
+
     /**
      * @return False if multithreading should not be used.
      */
@@ -24,6 +24,7 @@ package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
 
 import android.os.Handler;
 import android.os.Looper;
+import android.util.Log;
 import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -34,11 +35,18 @@ import java.util.concurrent.*;
 
 /**
  * Manages the data for an adapter.
+ * <p>
+ * Updates that use multithreading are calculated on a background thread, one at a time per container. The latest
+ * update always wins: when an update is submitted, the update that is being calculated is cancelled, and an update
+ * that is still waiting is discarded without being calculated. Updates of different containers never influence each
+ * other.
  *
  * @author Niko Strijbol
  */
 public class DataContainer<D> {
 
+    private static final String TAG = "DataContainer";
+
     private static Executor backgroundExecutorSingleton;
     // Threading-related stuff.
     private final Executor backgroundExecutor = getDefaultBackgroundExecutor();
@@ -52,6 +60,13 @@ public class DataContainer<D> {
     private List<D> readOnly = Collections.emptyList();
     // Max generation of currently scheduled runnable
     private int maxScheduledGeneration;
+    // The update being calculated in the background, if any.
+    @Nullable
+    private AdapterUpdate<D> runningUpdate;
+    // The update waiting for the running update to finish, if any.
+    @Nullable
+    private AdapterUpdate<D> pendingUpdate;
+    private int pendingGeneration;
 
     /**
      * @param callback The callback to which updates will be dispatched.
@@ -63,23 +78,25 @@ public class DataContainer<D> {
     /**
      * Construct a default background executor.
      * <p>
-     * The default executor has a fixed thread pool with 2 threads. This is both the suggested and maximal amount of
-     * threads. The thread pool has a bounded queue of size 1. The rejected policy is discarding the oldest first.
+     * The default executor has a fixed thread pool with 2 threads, shared by all containers. Since each container
+     * calculates at most one update at a time, the queue is bounded by the number of containers, so no updates need
+     * to be rejected.
      *
      * @return The executor.
      */
-    private static Executor getDefaultBackgroundExecutor() {
+    private static synchronized Executor getDefaultBackgroundExecutor() {
         if (backgroundExecutorSingleton == null) {
-            backgroundExecutorSingleton = new ThreadPoolExecutor(2, 2,
-                    0, TimeUnit.MILLISECONDS,
-                    new ArrayBlockingQueue<>(1),
-                    new ThreadPoolExecutor.DiscardOldestPolicy());
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2,
+                    30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>());
+            executor.allowCoreThreadTimeOut(true);
+            backgroundExecutorSingleton = executor;
         }
         return backgroundExecutorSingleton;
     }
 
     /**
-     * Submit an update to the data.
+     * Submit an update to the data. This supersedes all updates that were submitted earlier but are not yet applied.
      *
      * @param update The update to apply.
      */
@@ -88,23 +105,64 @@ public class DataContainer<D> {
 
         int generation = ++maxScheduledGeneration;
 
-        // Construct a unit of work for the update.
-        Runnable work = () -> {
+        // Older updates are superseded by this update.
+        if (runningUpdate != null) {
+            runningUpdate.cancel();
+        }
+        pendingUpdate = null;
+
+        if (update.shouldUseMultiThreading()) {
+            // Schedule the update once the running update is done.
+            pendingUpdate = update;
+            pendingGeneration = generation;
+            if (runningUpdate == null) {
+                startPendingUpdate();
+            }
+        } else {
+            // Just execute the work if threading is not allowed.
             List<D> newData = update.getNewData(internalData);
             mainThreadExecutor.execute(() -> {
                 if (maxScheduledGeneration == generation) {
                     applyResult(newData, update);
                 }
             });
-        };
+        }
+    }
 
-        if (update.shouldUseMultiThreading()) {
-            // Schedule the update.
-            backgroundExecutor.execute(work);
-        } else {
-            // Just run execute the work if threading is not allowed.
-            work.run();
+    @MainThread
+    private void startPendingUpdate() {
+        AdapterUpdate<D> update = pendingUpdate;
+        int generation = pendingGeneration;
+        if (update == null) {
+            return;
         }
+        pendingUpdate = null;
+        runningUpdate = update;
+        List<D> existingData = internalData;
+
+        backgroundExecutor.execute(() -> {
+            long start = System.nanoTime();
+            List<D> newData;
+            boolean cancelled = false;
+            try {
+                newData = update.getNewData(existingData);
+            } catch (CancellationException e) {
+                newData = null;
+                cancelled = true;
+            }
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Log.d(TAG, "Update " + generation + (cancelled ? " cancelled" : " calculated") + " in " + duration + " ms");
+
+            List<D> result = newData;
+            boolean isCancelled = cancelled;
+            mainThreadExecutor.execute(() -> {
+                runningUpdate = null;
+                if (!isCancelled && maxScheduledGeneration == generation) {
+                    applyResult(result, update);
+                }
+                startPendingUpdate();
+            });
+        });
     }
 
     @MainThread
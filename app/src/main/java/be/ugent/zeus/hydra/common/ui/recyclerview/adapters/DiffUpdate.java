@@ -28,11 +28,15 @@ import androidx.annotation.WorkerThread;
 import androidx.recyclerview.widget.DiffUtil;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
 
 /**
  * Generic update for updated data.
  * <p>
  * This class supports both adding data for the first time, updating data and removing all data.
+ * <p>
+ * The calculation of the diff stops early if the update is cancelled. If the new data is an {@link IncrementalList}
+ * relative to the existing data, the known changes are used instead of calculating a diff.
  *
  * @author Niko Strijbol
  */
@@ -44,6 +48,8 @@ class DiffUpdate<D> implements AdapterUpdate<D> {
     private final Set<Empty> status = EnumSet.noneOf(Empty.class);
     private DiffUtil.DiffResult result;
     private int existingDataSize = -1;
+    private boolean hasKnownChanges;
+    private volatile boolean cancelled;
 
     DiffUpdate(@Nullable List<D> newData) {
         this(new EqualsItemCallback<>(), newData);
@@ -59,6 +65,12 @@ class DiffUpdate<D> implements AdapterUpdate<D> {
     @WorkerThread
     public List<D> getNewData(@Nullable List<D> existingData) {
 
+        if (existingData != null && newData instanceof IncrementalList
+                && ((IncrementalList<D>) newData).getPrevious() == existingData) {
+            hasKnownChanges = true;
+            return newData;
+        }
+
         if (existingData == null || existingData.isEmpty()) {
             status.add(Empty.OLD_DATA);
         } else {
@@ -70,6 +82,7 @@ class DiffUpdate<D> implements AdapterUpdate<D> {
         }
 
         if (status.isEmpty()) {
+            checkCancelled();
             // Else we calculate a diff, as both are non-empty.
             result = DiffUtil.calculateDiff(new DiffUtil.Callback() {
                 @Override
@@ -84,11 +97,13 @@ class DiffUpdate<D> implements AdapterUpdate<D> {
 
                 @Override
                 public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                    checkCancelled();
                     return callback.areItemsTheSame(existingData.get(oldItemPosition), newData.get(newItemPosition));
                 }
 
                 @Override
                 public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                    checkCancelled();
                     return callback.areContentsTheSame(existingData.get(oldItemPosition), newData.get(newItemPosition));
                 }
             }, true);
@@ -97,10 +112,26 @@ class DiffUpdate<D> implements AdapterUpdate<D> {
         return newData;
     }
 
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("The diff was superseded by a newer update.");
+        }
+    }
+
     @Override
     @MainThread
     public void applyUpdatesTo(ListUpdateCallback listUpdateCallback) {
 
+        if (hasKnownChanges) {
+            ((IncrementalList<D>) newData).dispatchChangesTo(listUpdateCallback);
+            return;
+        }
+
         // Both are non-empty.
         if (status.isEmpty()) {
             Objects.requireNonNull(result).dispatchUpdatesTo(listUpdateCallback);
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import androidx.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * A list that knows how it differs from a previous list. When such a list is submitted to a {@link DiffAdapter} and
+ * the previous list is the current data of the adapter, the known changes are dispatched instead of calculating a diff.
+ * Otherwise, a diff is calculated as usual.
+ *
+ * @author Niko Strijbol
+ */
+public interface IncrementalList<D> extends List<D> {
+
+    /**
+     * @return The list the changes are relative to, or null if the changes are unknown.
+     */
+    @Nullable
+    List<D> getPrevious();
+
+    /**
+     * Dispatch the changes between the {@link #getPrevious() previous list} and this list. Only called if the previous
+     * list is not null.
+     *
+     * @param callback The callback to dispatch to.
+     */
+    void dispatchChangesTo(androidx.recyclerview.widget.ListUpdateCallback callback);
+}
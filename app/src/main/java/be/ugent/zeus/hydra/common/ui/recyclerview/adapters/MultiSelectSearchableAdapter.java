@@ -30,7 +30,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
@@ -39,17 +38,23 @@ import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
  * Basic searchable adapter with basic multi-select support. Extending a {@link SearchableAdapter} to be multi-select
  * or a {@link MultiSelectAdapter} to be searchable is very difficult and complicated, while we don't need all that
  * stuff.
+ * <p>
+ * Like the {@link SearchableAdapter}, searching is executed on a background thread by a {@link SearchEngine}.
  *
  * @author Niko Strijbol
  */
 public abstract class MultiSelectSearchableAdapter<D, VH extends DataViewHolder<Pair<D, Boolean>>> extends DataAdapter<Pair<D, Boolean>, VH> implements
         SearchView.OnQueryTextListener, android.widget.SearchView.OnQueryTextListener {
 
-    private final Function<String, Predicate<D>> searchPredicate;
+    private final SearchEngine<D> searchEngine;
     protected List<Pair<D, Boolean>> allData = Collections.emptyList();
 
-    protected MultiSelectSearchableAdapter(Function<String, Predicate<D>> searchPredicate) {
-        this.searchPredicate = searchPredicate;
+    /**
+     * @param stringifier Produces the text of an item that is searched. See
+     *                    {@link SearchableAdapter#SearchableAdapter(Function)}.
+     */
+    protected MultiSelectSearchableAdapter(Function<D, String> stringifier) {
+        this.searchEngine = new SearchEngine<>(stringifier);
     }
 
     @Override
@@ -60,6 +65,7 @@ public abstract class MultiSelectSearchableAdapter<D, VH extends DataViewHolder<
     @Override
     public void submitData(List<Pair<D, Boolean>> data) {
         allData = new ArrayList<>(data);
+        searchEngine.setItems(allData.stream().map(p -> p.first).collect(Collectors.toList()));
         setData(data);
     }
 
@@ -147,11 +153,14 @@ public abstract class MultiSelectSearchableAdapter<D, VH extends DataViewHolder<
 
     @Override
     public boolean onQueryTextChange(String newText) {
-        Predicate<D> predicate = searchPredicate.apply(newText);
-        List<Pair<D, Boolean>> newData = allData.stream()
-                .filter(dBooleanPair -> predicate.test(dBooleanPair.first))
-                .collect(Collectors.toList());
-        dataContainer.submitUpdate(new DumbUpdate<>(newData));
+        searchEngine.search(newText, positions -> {
+            // The positions do not change when items are checked, so we get the current state of the items.
+            List<Pair<D, Boolean>> newData = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                newData.add(allData.get(position));
+            }
+            dataContainer.submitUpdate(new DumbUpdate<>(newData));
+        });
         return true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import android.os.Handler;
+import android.os.Looper;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Searches a list of items on a background thread, for use in the searchable adapters.
+ * <p>
+ * When new items are submitted, a {@link SearchIndex} is built once. Queries are debounced: a query is only executed
+ * if no other query was submitted in the meantime. When a query contains the previous query (e.g. when the user
+ * types an additional letter), only the results of the previous query are checked.
+ * <p>
+ * The results are the positions of the matching items in the submitted list. This allows callers to map the results
+ * to the current version of their items, e.g. if the items have a state that changes while searching.
+ *
+ * @author Niko Strijbol
+ */
+final class SearchEngine<D> {
+
+    /**
+     * The delay before a query is executed.
+     */
+    @VisibleForTesting
+    static final long DEBOUNCE_MILLIS = 100;
+
+    private final Function<D, String> stringifier;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Index building and searching happen one after the other, so searches always use the latest index.
+    private final ThreadPoolExecutor worker = new ThreadPoolExecutor(1, 1,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+
+    // Only accessed on the worker.
+    @Nullable
+    private SearchIndex<D> index;
+    @Nullable
+    private String previousQuery;
+    @Nullable
+    private int[] previousResult;
+
+    // Only accessed on the main thread.
+    private int generation;
+    @Nullable
+    private Runnable scheduledSearch;
+
+    /**
+     * @param stringifier Produces the searchable text of an item. Multiple parts can be joined by
+     *                    {@link SearchIndex#SEPARATOR}. Called on a background thread.
+     */
+    SearchEngine(Function<D, String> stringifier) {
+        this.stringifier = stringifier;
+        this.worker.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Set the items to search in. Results of searches that were submitted earlier are not delivered.
+     *
+     * @param items The items. The list is copied.
+     */
+    @MainThread
+    void setItems(@NonNull List<D> items) {
+        generation++;
+        cancelScheduledSearch();
+        List<D> copy = new ArrayList<>(items);
+        worker.execute(() -> {
+            index = new SearchIndex<>(copy, stringifier);
+            previousQuery = null;
+            previousResult = null;
+        });
+    }
+
+    /**
+     * Search the items. The listener is called on the main thread, unless the search is superseded by another search
+     * or by new items.
+     *
+     * @param query    The query. It is normalized by the engine.
+     * @param listener Receives the positions of the matching items, in ascending order.
+     */
+    @MainThread
+    void search(@NonNull String query, @NonNull Consumer<int[]> listener) {
+        int searchGeneration = ++generation;
+        cancelScheduledSearch();
+        scheduledSearch = () -> {
+            scheduledSearch = null;
+            worker.execute(() -> {
+                int[] result = searchOnWorker(SearchIndex.normalize(query));
+                mainHandler.post(() -> {
+                    if (generation == searchGeneration) {
+                        listener.accept(result);
+                    }
+                });
+            });
+        };
+        mainHandler.postDelayed(scheduledSearch, DEBOUNCE_MILLIS);
+    }
+
+    @WorkerThread
+    private int[] searchOnWorker(String query) {
+        SearchIndex<D> currentIndex = index;
+        if (currentIndex == null) {
+            return new int[0];
+        }
+        int[] candidates = null;
+        if (previousQuery != null && query.contains(previousQuery)) {
+            // Items that do not contain the previous query cannot contain this query.
+            candidates = previousResult;
+        }
+        int[] result = currentIndex.search(query, candidates);
+        previousQuery = query;
+        previousResult = result;
+        return result;
+    }
+
+    private void cancelScheduledSearch() {
+        if (scheduledSearch != null) {
+            mainHandler.removeCallbacks(scheduledSearch);
+            scheduledSearch = null;
+        }
+    }
+}
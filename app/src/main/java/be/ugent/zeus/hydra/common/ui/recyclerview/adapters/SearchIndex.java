@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable search index for a list of items.
+ * <p>
+ * The text of each item is normalized once when the index is built: it is lower-cased and accents are removed, so
+ * "Café" is found with "cafe". An item matches a query if its normalized text contains the normalized query.
+ * <p>
+ * To avoid checking every item, the index also maps each pair of consecutive characters (a bigram) to the items that
+ * contain it. Only items that contain the rarest bigram of the query are checked. Callers can narrow the search
+ * further by passing the results of a previous query that is contained in the new query.
+ *
+ * @author Niko Strijbol
+ */
+final class SearchIndex<D> {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    /**
+     * Separates the parts of the text of an item. Queries never contain this character, so a query never matches
+     * across two parts.
+     */
+    static final char SEPARATOR = '\u0000';
+
+    private final String[] texts;
+    private final Map<Integer, int[]> bigrams;
+
+    /**
+     * @param items       The items to index.
+     * @param stringifier Produces the searchable text of an item. Multiple parts can be joined by {@link #SEPARATOR}.
+     */
+    SearchIndex(List<D> items, Function<D, String> stringifier) {
+        this.texts = new String[items.size()];
+        Map<Integer, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < texts.length; i++) {
+            String text = normalize(stringifier.apply(items.get(i)));
+            texts[i] = text;
+            Set<Integer> seen = new HashSet<>();
+            for (int c = 0; c < text.length() - 1; c++) {
+                int bigram = bigram(text, c);
+                if (seen.add(bigram)) {
+                    postings.computeIfAbsent(bigram, k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        this.bigrams = new HashMap<>(postings.size());
+        for (Map.Entry<Integer, List<Integer>> entry : postings.entrySet()) {
+            this.bigrams.put(entry.getKey(), toArray(entry.getValue()));
+        }
+    }
+
+    /**
+     * Normalize a text for searching: accents are removed and the text is lower-cased.
+     *
+     * @param text The text.
+     * @return The normalized text.
+     */
+    @NonNull
+    static String normalize(@Nullable String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return The number of items in the index.
+     */
+    int size() {
+        return texts.length;
+    }
+
+    /**
+     * Search the index.
+     *
+     * @param query      The query, which must already be {@link #normalize(String) normalized}.
+     * @param candidates The positions of the items that can match the query, in ascending order, or null if all
+     *                   items can match.
+     * @return The positions of the matching items, in ascending order.
+     */
+    @NonNull
+    int[] search(@NonNull String query, @Nullable int[] candidates) {
+        if (query.isEmpty()) {
+            return candidates == null ? all() : candidates;
+        }
+
+        // Find the smallest set of items we need to check.
+        int[] toCheck = candidates;
+        for (int c = 0; c < query.length() - 1; c++) {
+            int[] posting = bigrams.get(bigram(query, c));
+            if (posting == null) {
+                // No item contains this part of the query.
+                return new int[0];
+            }
+            if (toCheck == null || posting.length < toCheck.length) {
+                toCheck = posting;
+            }
+        }
+        if (toCheck == null) {
+            toCheck = all();
+        }
+
+        List<Integer> result = new ArrayList<>();
+        for (int position : toCheck) {
+            if (texts[position].contains(query)) {
+                result.add(position);
+            }
+        }
+        return toArray(result);
+    }
+
+    private int[] all() {
+        int[] all = new int[texts.length];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = i;
+        }
+        return all;
+    }
+
+    private static int bigram(String text, int start) {
+        return (text.charAt(start) << 16) | text.charAt(start + 1);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
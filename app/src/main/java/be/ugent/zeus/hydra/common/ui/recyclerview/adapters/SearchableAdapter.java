@@ -25,9 +25,7 @@ package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
 import androidx.appcompat.widget.SearchView;
 
 import java.util.*;
-import java.util.function.BiPredicate;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
 
@@ -45,8 +43,8 @@ import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
  * This is a very generic class, supporting a lot of situations, including adapters with multiple
  * view types.
  * <p>
- * Currently searching is executed on the main thread. This imposes some limits, see the constructor description. This
- * is not guaranteed behaviour: searching may be executed in a different thread in the future.
+ * Searching is executed on a background thread by a {@link SearchEngine}, which indexes the data when it is
+ * submitted. The results are shown once the user stops typing for a short while.
  * <p>
  * Users of this class should call the {@link #onOpen()} method. Not doing so may result in unreliable behaviour related
  * to the listeners.
@@ -56,36 +54,45 @@ import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
 public abstract class SearchableAdapter<D, VH extends DataViewHolder<D>> extends DiffAdapter<D, VH> implements
         SearchView.OnQueryTextListener, SearchView.OnCloseListener, android.widget.SearchView.OnQueryTextListener, android.widget.SearchView.OnCloseListener {
 
-    private final BiPredicate<D, String> searchPredicate;
+    private final SearchEngine<D> searchEngine;
     private final Function<List<D>, List<D>> filter;
     private final Set<SearchStateListener> listeners = Collections.newSetFromMap(new WeakHashMap<>());
     private List<D> allData = Collections.emptyList();
     private boolean isSearching;
 
     /**
-     * @param searchPredicate The predicate used when searching. The predicate receives an item and the search query and
-     *                        should return true if the item is a match for the given query. This should be fairly fast,
-     *                        as it is executed for every item for every change in search query.
+     * @param stringifier Produces the text of an item that is searched. The text is normalized, so it does not need to
+     *                    be lower-cased. Multiple texts can be joined with {@link #joinForSearch(String...)}. This is
+     *                    called once per item when data is submitted, on a background thread.
      */
-    protected SearchableAdapter(BiPredicate<D, String> searchPredicate) {
-        super();
-        this.searchPredicate = searchPredicate;
-        this.filter = Function.identity();
+    protected SearchableAdapter(Function<D, String> stringifier) {
+        this(stringifier, Function.identity());
     }
 
     /**
-     * @param searchPredicate The predicate used when searching. The predicate receives an item and the search query and
-     *                        should return true if the item is a match for the given query. This should be fairly fast,
-     *                        as it is executed for every item for every change in search query.
+     * @param stringifier Produces the text of an item that is searched. See {@link #SearchableAdapter(Function)}.
+     * @param filter      Applied to the search results before they are shown.
      */
-    protected SearchableAdapter(BiPredicate<D, String> searchPredicate, Function<List<D>, List<D>> filter) {
+    protected SearchableAdapter(Function<D, String> stringifier, Function<List<D>, List<D>> filter) {
         super();
-        this.searchPredicate = searchPredicate;
+        this.searchEngine = new SearchEngine<>(stringifier);
         this.filter = filter;
     }
 
-    protected SearchableAdapter(Function<D, String> stringifier) {
-        this((d, s) -> stringifier.apply(d).contains(s));
+    /**
+     * Join multiple texts of an item, such that a query never matches across two texts. Null texts are ignored.
+     *
+     * @param texts The texts.
+     * @return The joined text.
+     */
+    public static String joinForSearch(String... texts) {
+        StringBuilder builder = new StringBuilder();
+        for (String text : texts) {
+            if (text != null) {
+                builder.append(text).append(SearchIndex.SEPARATOR);
+            }
+        }
+        return builder.toString();
     }
 
     @Override
@@ -96,6 +103,7 @@ public abstract class SearchableAdapter<D, VH extends DataViewHolder<D>> extends
     @Override
     public void submitData(List<D> data) {
         this.allData = Collections.unmodifiableList(new ArrayList<>(data));
+        searchEngine.setItems(allData);
         super.submitData(data);
     }
 
@@ -107,11 +115,13 @@ public abstract class SearchableAdapter<D, VH extends DataViewHolder<D>> extends
             }
         }
         this.isSearching = true;
-        List<D> filtered = allData.stream()
-                .filter(s -> searchPredicate.test(s, newText.toLowerCase(Locale.getDefault())))
-                .collect(Collectors.toList());
-        filtered = filter.apply(filtered);
-        super.submitData(filtered);
+        searchEngine.search(newText, positions -> {
+            List<D> filtered = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                filtered.add(allData.get(position));
+            }
+            super.submitData(filter.apply(filtered));
+        });
         return true;
     }
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.widgets;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.os.Build;
+import android.view.Gravity;
+import android.widget.ImageView;
+import android.widget.TableRow;
+import android.widget.TextView;
+import androidx.annotation.DrawableRes;
+import androidx.annotation.IntDef;
+import androidx.annotation.Nullable;
+import androidx.appcompat.content.res.AppCompatResources;
+import androidx.appcompat.widget.AppCompatTextView;
+import androidx.core.text.PrecomputedTextCompat;
+import androidx.core.widget.TextViewCompat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import be.ugent.zeus.hydra.R;
+import be.ugent.zeus.hydra.common.utils.ViewUtils;
+import com.google.android.material.textview.MaterialTextView;
+
+/**
+ * A row in the {@link MenuTable}. The views of the row are created once, after which the row can be bound to other
+ * content. This allows the table to reuse its rows when displaying another menu.
+ * <p>
+ * If the text is not selectable, the text layout is calculated on a background thread, and only waited upon when the
+ * row is measured.
+ *
+ * @author Niko Strijbol
+ */
+@SuppressLint("ViewConstructor")
+final class MenuRow extends TableRow {
+
+    private static final int ROW_PADDING_DP = 2;
+    private static final int TEXT_PADDING_DP = 16;
+
+    @Kind
+    private final int kind;
+    private final boolean selectable;
+    @Nullable
+    private final ImageView icon;
+    private final TextView text;
+    @Nullable
+    private final TextView price;
+    @DrawableRes
+    private int iconRes;
+
+    /**
+     * @param context           The context.
+     * @param kind              The kind of row.
+     * @param normalStyle       The style of normal text.
+     * @param selectable        If the text is selectable.
+     * @param messagePaddingTop If messages should have padding at the top.
+     */
+    MenuRow(Context context, @Kind int kind, int normalStyle, boolean selectable, boolean messagePaddingTop) {
+        super(context);
+        this.kind = kind;
+        this.selectable = selectable;
+        setLayoutParams(new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT));
+
+        if (kind == Kind.TITLE || kind == Kind.MESSAGE) {
+            icon = null;
+            price = null;
+            setPadding(0, 0, 0, context.getResources().getDimensionPixelSize(R.dimen.material_baseline_grid_1x));
+            if (kind == Kind.TITLE) {
+                text = new MaterialTextView(context, null);
+                if (Build.VERSION.SDK_INT < 23) {
+                    text.setTextAppearance(context, R.style.Hydra_Text_Subhead);
+                } else {
+                    text.setTextAppearance(R.style.Hydra_Text_Subhead);
+                }
+            } else {
+                text = new MaterialTextView(context, null, normalStyle);
+            }
+            text.setTextIsSelectable(selectable);
+            LayoutParams textParams = new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
+            textParams.span = 3;
+            text.setLayoutParams(textParams);
+            // Titles get the title padding, messages the message padding if requested.
+            // Otherwise, keep the existing padding.
+            final int textPaddingTop;
+            if (kind == Kind.TITLE || messagePaddingTop) {
+                textPaddingTop = context.getResources().getDimensionPixelSize(R.dimen.vertical_padding);
+            } else {
+                textPaddingTop = text.getPaddingTop();
+            }
+            text.setPadding(text.getPaddingLeft(), textPaddingTop, text.getPaddingRight(), text.getPaddingBottom());
+            addView(text);
+            return;
+        }
+
+        final int rowPadding = ViewUtils.convertDpToPixelInt(ROW_PADDING_DP, context);
+        setPadding(0, rowPadding, 0, rowPadding);
+
+        icon = new ImageView(context);
+        icon.setScaleType(ImageView.ScaleType.FIT_CENTER);
+        icon.setLayoutParams(new LayoutParams(LayoutParams.WRAP_CONTENT, LayoutParams.MATCH_PARENT));
+        addView(icon);
+
+        text = new MaterialTextView(context, null, normalStyle);
+        text.setTextIsSelectable(selectable);
+        text.setPadding(ViewUtils.convertDpToPixelInt(TEXT_PADDING_DP, context), 0, 0, 0);
+        text.setLayoutParams(new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT));
+        addView(text);
+
+        if (kind == Kind.MEAL) {
+            price = new MaterialTextView(context, null, normalStyle);
+            price.setLayoutParams(new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT));
+            price.setGravity(Gravity.END);
+            addView(price);
+        } else {
+            price = null;
+            setIcon(R.drawable.resto_vegetables);
+        }
+    }
+
+    @Kind
+    int getKind() {
+        return kind;
+    }
+
+    /**
+     * Bind a title or a message.
+     *
+     * @param content The text.
+     */
+    void bindText(CharSequence content) {
+        setText(text, content, selectable);
+    }
+
+    /**
+     * Bind a meal.
+     *
+     * @param iconRes The icon of the meal.
+     * @param name    The name of the meal.
+     * @param cost    The price of the meal.
+     */
+    void bindMeal(@DrawableRes int iconRes, String name, String cost) {
+        setIcon(iconRes);
+        setText(text, name, selectable);
+        if (price != null) {
+            setText(price, cost, false);
+        }
+    }
+
+    /**
+     * Bind a vegetable.
+     *
+     * @param name The name of the vegetable.
+     */
+    void bindVegetable(String name) {
+        setText(text, name, selectable);
+    }
+
+    private void setIcon(@DrawableRes int iconRes) {
+        // Resolving the drawable is not free, so skip it if the row already displays it.
+        if (icon != null && this.iconRes != iconRes) {
+            icon.setImageDrawable(AppCompatResources.getDrawable(getContext(), iconRes));
+            this.iconRes = iconRes;
+        }
+    }
+
+    /**
+     * Set the text. If the text is not selectable, the layout of the text is calculated on a background thread.
+     * Selectable text needs a spannable copy of the text, so it cannot use the precomputed text.
+     */
+    private static void setText(TextView view, @Nullable CharSequence content, boolean selectable) {
+        if (!selectable && content != null && view instanceof AppCompatTextView) {
+            PrecomputedTextCompat.Params params = TextViewCompat.getTextMetricsParams(view);
+            ((AppCompatTextView) view).setTextFuture(PrecomputedTextCompat.getTextFuture(content, params, null));
+        } else {
+            view.setText(content);
+        }
+    }
+
+    /**
+     * The kinds of rows. Rows can only be reused for rows of the same kind.
+     */
+    @IntDef({Kind.TITLE, Kind.MESSAGE, Kind.MEAL, Kind.VEGETABLE})
+    @Retention(RetentionPolicy.SOURCE)
+    @interface Kind {
+        int TITLE = 0;
+        int MESSAGE = 1;
+        int MEAL = 2;
+        int VEGETABLE = 3;
+        int COUNT = 4;
+    }
+}
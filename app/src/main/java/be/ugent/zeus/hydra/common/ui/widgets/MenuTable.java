@@ -24,23 +24,25 @@ package be.ugent.zeus.hydra.common.ui.widgets;
 
 import android.content.Context;
 import android.content.res.TypedArray;
-import android.os.Build;
 import android.util.AttributeSet;
+import android.view.View;
 import android.widget.TableLayout;
-import android.widget.TableRow;
-import android.widget.TextView;
+import androidx.annotation.DrawableRes;
 import androidx.annotation.IntDef;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
 
 import be.ugent.zeus.hydra.R;
-import be.ugent.zeus.hydra.common.ui.html.Utils;
+import be.ugent.zeus.hydra.common.ui.html.HtmlCache;
 import be.ugent.zeus.hydra.common.utils.ViewUtils;
 import be.ugent.zeus.hydra.resto.RestoMenu;
-import com.google.android.material.textview.MaterialTextView;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 
 import static be.ugent.zeus.hydra.common.utils.PreferencesUtils.isSetIn;
 
@@ -58,6 +60,8 @@ public class MenuTable extends TableLayout {
     private boolean showTitles;
     private boolean messagePaddingTop;
     private int normalStyle;
+    // Rows of the previous menu, by kind, that can be reused.
+    private final List<ArrayDeque<MenuRow>> recycledRows = new ArrayList<>(MenuRow.Kind.COUNT);
 
     public MenuTable(Context context) {
         super(context);
@@ -77,6 +81,10 @@ public class MenuTable extends TableLayout {
      */
     private void init(Context context, @Nullable AttributeSet attrs) {
 
+        for (int i = 0; i < MenuRow.Kind.COUNT; i++) {
+            recycledRows.add(new ArrayDeque<>());
+        }
+
         TypedArray a = context.getTheme().obtainStyledAttributes(attrs, R.styleable.MenuTable, 0, 0);
 
         try {
@@ -90,62 +98,94 @@ public class MenuTable extends TableLayout {
         }
     }
 
+    /**
+     * Get a row of the given kind and add it to the table. If possible, a row from the previous menu is reused.
+     *
+     * @param kind The kind of row.
+     * @return The row.
+     */
+    private MenuRow addRow(@MenuRow.Kind int kind) {
+        ArrayDeque<MenuRow> pool = recycledRows.get(kind);
+        MenuRow row = pool.poll();
+        if (row == null) {
+            row = new MenuRow(getContext(), kind, normalStyle, selectable, messagePaddingTop);
+        }
+        addView(row);
+        return row;
+    }
+
     /**
      * Create and insert a text view.
      *
-     * @param text    The text to add.
-     * @param isTitle If the text is a title and should be styled as such.
-     * @param isHtml  If the text contains basic html.
+     * @param text   The text to add.
+     * @param isHtml If the text contains basic html.
      */
-    private void createText(String text, boolean isTitle, boolean isHtml) {
+    private void createText(String text, boolean isHtml) {
+        MenuRow row = addRow(MenuRow.Kind.MESSAGE);
+        if (isHtml) {
+            row.bindText(HtmlCache.get().getSpanned(text));
+        } else {
+            row.bindText(text);
+        }
+    }
 
-        final int rowPadding = getContext().getResources().getDimensionPixelSize(R.dimen.material_baseline_grid_1x);
+    /**
+     * Insert a row for a meal.
+     *
+     * @param iconRes The icon of the meal.
+     * @param name    The name of the meal.
+     * @param price   The price of the meal.
+     */
+    void addMealRow(@DrawableRes int iconRes, String name, String price) {
+        addRow(MenuRow.Kind.MEAL).bindMeal(iconRes, name, price);
+    }
 
-        TableRow tr = new TableRow(getContext());
-        TableRow.LayoutParams lp = new TableRow.LayoutParams(TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT);
-        tr.setPadding(0, 0, 0, rowPadding);
-        tr.setLayoutParams(lp);
+    /**
+     * Insert a row for a vegetable.
+     *
+     * @param name The vegetable.
+     */
+    void addVegetableRow(String name) {
+        addRow(MenuRow.Kind.VEGETABLE).bindVegetable(name);
+    }
 
-        TextView v;
-        if (isTitle) {
-            v = new MaterialTextView(getContext(), null);
-        } else {
-            v = new MaterialTextView(getContext(), null, normalStyle);
-        }
-        v.setTextIsSelectable(selectable);
-        TableRow.LayoutParams textParam = new TableRow.LayoutParams(TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT);
-        textParam.span = 3;
-        final int textPaddingTop;
-        if (isTitle) {
-            if (Build.VERSION.SDK_INT < 23) {
-                v.setTextAppearance(getContext(), R.style.Hydra_Text_Subhead);
-            } else {
-                v.setTextAppearance(R.style.Hydra_Text_Subhead);
+    /**
+     * Remove all rows, and keep them to be reused for the next menu.
+     */
+    private void recycleRows() {
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child instanceof MenuRow) {
+                MenuRow row = (MenuRow) child;
+                recycledRows.get(row.getKind()).add(row);
             }
-            textPaddingTop = getContext().getResources().getDimensionPixelSize(R.dimen.vertical_padding);
-        } else if (messagePaddingTop) {
-            textPaddingTop = getContext().getResources().getDimensionPixelSize(R.dimen.vertical_padding);
-        } else {
-            textPaddingTop = v.getPaddingTop();
         }
-        // If the text is a title, set the title padding.
-        // Else if we set message padding, set the message padding.
-        // Otherwise keep the existing padding.
-        v.setPadding(
-                v.getPaddingLeft(),
-                textPaddingTop,
-                v.getPaddingRight(),
-                v.getPaddingBottom()
-        );
-        v.setLayoutParams(textParam);
-        if (isHtml) {
-            v.setText(Utils.fromHtml(text));
-        } else {
-            v.setText(text);
+        removeAllViewsInLayout();
+    }
+
+    /**
+     * Render the parts of a menu that contain HTML, so displaying the menu only needs to look them up.
+     *
+     * @param menu The menu that will be displayed.
+     * @return The menu.
+     */
+    @WorkerThread
+    public static RestoMenu prepare(RestoMenu menu) {
+        if (menu != null) {
+            HtmlCache.get().prepareSpanned(menu.getMessage());
         }
+        return menu;
+    }
 
-        tr.addView(v);
-        addView(tr);
+    /**
+     * @see #prepare(RestoMenu)
+     */
+    @WorkerThread
+    public static List<RestoMenu> prepareAll(List<RestoMenu> menus) {
+        for (RestoMenu menu : menus) {
+            prepare(menu);
+        }
+        return menus;
     }
 
     /**
@@ -154,17 +194,17 @@ public class MenuTable extends TableLayout {
      * @param title The title.
      */
     private void createTitle(String title) {
-        createText(title, true, false);
+        addRow(MenuRow.Kind.TITLE).bindText(title);
     }
 
     /**
      * @param menu The menu to display.
      */
     public void setMenu(RestoMenu menu, @DisplayKind int displayedKinds) {
-        this.menu = new DisplayableMenu(getContext(), menu, selectable);
+        this.menu = new DisplayableMenu(menu);
         this.displayedKinds = displayedKinds;
         //Add data
-        removeAllViewsInLayout();
+        recycleRows();
         populate();
         invalidate();
         requestLayout();
@@ -192,7 +232,7 @@ public class MenuTable extends TableLayout {
 
         // If there is no message and it is closed.
         if (menu.hasMessage()) {
-            createText(menu.menu.getMessage(), false, true);
+            createText(menu.menu.getMessage(), true);
             if (menu.menu.isClosed()) {
                 return;
             }
@@ -201,7 +241,7 @@ public class MenuTable extends TableLayout {
         // Does not have a message at this point.
         // assert !menu.hasMessage();
         if (menu.menu.isClosed()) {
-            createText(getContext().getString(R.string.resto_menu_not_available), false, true);
+            createText(getContext().getString(R.string.resto_menu_not_available), true);
             return;
         }
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+import be.ugent.zeus.hydra.common.ui.recyclerview.adapters.IncrementalList;
+import be.ugent.zeus.hydra.feed.cards.Card;
+
+/**
+ * Immutable list of the cards in the feed, as produced by {@link FeedSegments}.
+ * <p>
+ * If the list was produced by replacing the cards of one type, it knows the positions of the removed and inserted
+ * cards, relative to the previous list. The adapter then does not need to calculate a diff.
+ *
+ * @author Niko Strijbol
+ */
+final class FeedList extends AbstractList<Card> implements IncrementalList<Card>, RandomAccess {
+
+    static final FeedList EMPTY = new FeedList(Collections.emptyList(), null, Collections.emptyList());
+
+    private final List<Card> cards;
+    // Weak, to not keep all previous lists alive. The adapter keeps the previous list alive while it shows it.
+    @Nullable
+    private final WeakReference<FeedList> previous;
+    private final List<Change> changes;
+
+    /**
+     * @param cards    The cards. The list must not be modified afterwards.
+     * @param previous The previous list, or null if the changes are unknown.
+     * @param changes  The changes relative to the previous list, in the order they must be applied.
+     */
+    FeedList(List<Card> cards, @Nullable FeedList previous, List<Change> changes) {
+        this.cards = cards;
+        this.previous = previous == null ? null : new WeakReference<>(previous);
+        this.changes = changes;
+    }
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Nullable
+    @Override
+    public List<Card> getPrevious() {
+        return previous == null ? null : previous.get();
+    }
+
+    /**
+     * @return The changes relative to the previous list, in the order they must be applied.
+     */
+    List<Change> getChanges() {
+        return changes;
+    }
+
+    @Override
+    public void dispatchChangesTo(ListUpdateCallback callback) {
+        for (Change change : changes) {
+            if (change.isInsertion) {
+                callback.onInserted(change.position, change.count);
+            } else {
+                callback.onRemoved(change.position, change.count);
+            }
+        }
+    }
+
+    /**
+     * A range of removed or inserted cards.
+     */
+    static final class Change {
+
+        final boolean isInsertion;
+        final int position;
+        final int count;
+
+        Change(boolean isInsertion, int position, int count) {
+            this.isInsertion = isInsertion;
+            this.position = position;
+            this.count = count;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Change change = (Change) o;
+            return isInsertion == change.isInsertion && position == change.position && count == change.count;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isInsertion, position, count);
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return (isInsertion ? "insert " : "remove ") + count + " at " + position;
+        }
+    }
+}
@@ -22,30 +22,44 @@
 
 package be.ugent.zeus.hydra.feed;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.SharedPreferences;
-import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.util.Log;
+import android.util.Pair;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
-import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.lifecycle.Observer;
 import androidx.preference.PreferenceManager;
 
+import java.time.ZonedDateTime;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.BuildConfig;
 import be.ugent.zeus.hydra.association.AssociationStore;
 import be.ugent.zeus.hydra.common.ExtendedSparseArray;
 import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
 import be.ugent.zeus.hydra.common.database.Database;
+import be.ugent.zeus.hydra.common.network.ConnectivityMonitor;
+import be.ugent.zeus.hydra.common.request.RequestException;
 import be.ugent.zeus.hydra.common.request.Result;
-import be.ugent.zeus.hydra.common.utils.NetworkUtils;
 import be.ugent.zeus.hydra.feed.cards.Card;
 import be.ugent.zeus.hydra.feed.cards.debug.WaitRequest;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 import be.ugent.zeus.hydra.feed.cards.event.EventRequest;
 import be.ugent.zeus.hydra.feed.cards.library.LibraryRequest;
 import be.ugent.zeus.hydra.feed.cards.news.NewsRequest;
@@ -70,6 +84,24 @@ import static be.ugent.zeus.hydra.feed.operations.OperationFactory.get;
  * the feed data supports the constant {@link #REFRESH_HOMECARD_TYPE}.
  * <p>
  * You must pass this in a bundle to {@link #flagForRefresh(Bundle)}.
+ * <p>
+ * The operations are executed concurrently by the {@link RequestScheduler}. Each time an operation completes, its
+ * cards are merged into the feed and a partial result is published. The time to load the full feed is thus roughly
+ * the time of the slowest operation. The feed is kept as {@link FeedSegments}, so merging the cards of an operation
+ * only sorts the cards of that operation. The published lists know which cards were removed and inserted, so the
+ * adapter does not need to calculate a diff.
+ * <p>
+ * All cards are {@link Card#rank(ZonedDateTime) ranked} at the start of each load, using the same reference time. While
+ * the feed is active, the cards are ranked again periodically. Only the segments in which a priority has changed are
+ * sorted again.
+ * <p>
+ * Cards can also be removed and added again locally, using {@link #hideCards(Predicate)} and
+ * {@link #restoreCards(List)}. This does not execute any request, so dismissing a card is instant. A load that is
+ * running while cards are hidden started from the cards before they were hidden, so the hidden cards are also
+ * removed from the results of that load, and of the next load.
+ * <p>
+ * If the feed was loaded without network, the card types that failed or were skipped are loaded again when the
+ * {@link ConnectivityMonitor} reports that the network is back.
  *
  * @author Niko Strijbol
  */
@@ -80,8 +112,14 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
      */
     static final String REFRESH_HOMECARD_TYPE = "be.ugent.zeus.hydra.data.refresh.homecard.type";
     private static final int REFRESH_ALL_CARDS = -20;
+    // Set on the load for late library opening hours, which does not wait for late opening hours again.
+    private static final String LATE_LIBRARY_HOURS = "be.ugent.zeus.hydra.data.feed.late.library";
 
     private static final String TAG = "HomeFeedLoader";
+    /**
+     * How often the cards are ranked again while the feed is active.
+     */
+    private static final long RERANK_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(30);
     // For which settings the loader must refresh.
     private static final String[] watchedPreferences = {
             HomeFeedFragment.PREF_DISABLED_CARD_TYPES,
@@ -91,26 +129,31 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
     private final SharedPreferences.OnSharedPreferenceChangeListener restoListener = new RestoListener();
     private final Context applicationContext;
     private final Map<String, Object> oldPreferences = new HashMap<>();
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Loads are coordinated one after the other, since each load starts from the cards of the previous load.
+    private final ThreadPoolExecutor coordinator = new ThreadPoolExecutor(1, 1,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+    private final Runnable reranker = this::scheduleRerank;
+    private final Observer<ConnectivityMonitor.Status> connectivityObserver = this::onConnectivityChanged;
+    // The cards hidden by hideCards, with the number of loads started at that time.
+    private final Map<Card, Integer> hiddenLocally = new ConcurrentHashMap<>();
+    // Only accessed on the coordinator.
+    private FeedSegments segments = FeedSegments.EMPTY;
+    private volatile int loadCount;
+    private Result<List<Card>> lastResult;
+    // The time of the last ranking, in milliseconds since boot.
+    private volatile long lastRanking;
+    // If the last load was done without network, and if Urgent.fm was skipped because of that.
+    private volatile boolean loadedOffline;
+    private volatile boolean urgentSkipped;
 
     FeedLiveData(Context context) {
         this.applicationContext = context.getApplicationContext();
+        coordinator.allowCoreThreadTimeOut(true);
         loadData();
     }
 
-    private static List<Card> executeOperation(@Nullable Bundle args,
-                                               FeedOperation operation,
-                                               Collection<Integer> errors,
-                                               List<Card> results) {
-
-        Result<List<Card>> result = operation.transform(args, results);
-
-        if (result.hasException()) {
-            errors.add(operation.getCardType());
-        }
-
-        return result.orElse(results);
-    }
-
     /**
      * Filter the requests to only include the requests that should be executed.
      *
@@ -156,11 +199,16 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
         if (shouldRefresh) {
             flagForRefresh();
         }
+        long sinceLastRanking = SystemClock.elapsedRealtime() - lastRanking;
+        mainHandler.postDelayed(reranker, Math.max(0, RERANK_INTERVAL_MILLIS - sinceLastRanking));
+        ConnectivityMonitor.get(applicationContext).getLiveStatus().observeForever(connectivityObserver);
     }
 
     @Override
     protected void onInactive() {
         super.onInactive();
+        mainHandler.removeCallbacks(reranker);
+        ConnectivityMonitor.get(applicationContext).getLiveStatus().removeObserver(connectivityObserver);
         SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(applicationContext);
         preferences.unregisterOnSharedPreferenceChangeListener(restoListener);
     }
@@ -171,95 +219,283 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
      * @param bundle The arguments for the request.
      */
     @Override
-    @SuppressLint("StaticFieldLeak")
     protected void loadData(@NonNull Bundle bundle) {
-        new AsyncTask<Void, Result<List<Card>>, Void>() {
-
-            @Override
-            protected Void doInBackground(Void... voids) {
-                // Get the operations.
-                Log.d(TAG, "doInBackground: received load request with " + bundle);
-                Iterable<FeedOperation> operations = findOperations(scheduleOperations(), bundle);
-
-                // Get existing value if needed.
-                Result<List<Card>> loaderResult = getValue();
-                //We initialize with a copy of the existing data; we do reset the errors.
-                List<Card> results;
-
-                if (loaderResult == null) {
-                    results = Collections.emptyList();
-                } else {
-                    results = loaderResult.orElse(new ArrayList<>());
+        coordinator.execute(() -> load(bundle));
+    }
+
+    /**
+     * Execute the operations and publish the results. All operations are scheduled at once; they are merged in the
+     * order in which they complete.
+     *
+     * @param bundle The arguments for the request.
+     */
+    @WorkerThread
+    private void load(@NonNull Bundle bundle) {
+        // Get the operations.
+        Log.d(TAG, "load: received load request with " + bundle);
+        int generation = ++loadCount;
+        DismissalIndex dismissals = new DismissalIndex(Database.get(applicationContext).getCardDao());
+        Iterable<FeedOperation> operations = findOperations(
+                scheduleOperations(dismissals, !bundle.getBoolean(LATE_LIBRARY_HOURS, false)),
+                bundle
+        );
+
+        RequestScheduler scheduler = RequestScheduler.getInstance();
+        BlockingQueue<Pair<FeedOperation, Result<List<Card>>>> completed = new LinkedBlockingQueue<>();
+        int scheduled = 0;
+        for (FeedOperation operation : operations) {
+            scheduler.schedule(RequestScheduler.Priority.VISIBLE, "Feed: " + operation, () -> {
+                Result<List<Card>> operationResult;
+                try {
+                    operationResult = operation.execute(bundle);
+                } catch (RuntimeException e) {
+                    // Always report a result, otherwise the coordinator would wait forever.
+                    Log.e(TAG, "Feed operation " + operation + " failed unexpectedly.", e);
+                    operationResult = Result.Builder.fromException(new RequestException(e));
                 }
+                completed.add(Pair.create(operation, operationResult));
+            });
+            scheduled++;
+        }
 
-                Set<Integer> errors = new HashSet<>();
-                Result<List<Card>> result = null;
+        // We start from the existing cards; we do reset the errors.
+        ZonedDateTime reference = ZonedDateTime.now();
+        FeedSegments results = rank(segments, reference);
+        Set<Integer> errors = new HashSet<>();
+        Result<List<Card>> result = null;
+
+        for (int i = 0; i < scheduled; i++) {
+            Pair<FeedOperation, Result<List<Card>>> next;
+            try {
+                next = completed.take();
+            } catch (InterruptedException e) {
+                Log.w(TAG, "Interrupted while waiting for the operations.", e);
+                Thread.currentThread().interrupt();
+                return;
+            }
 
-                for (FeedOperation operation : operations) {
-                    if (isCancelled()) {
-                        return null;
+            FeedOperation operation = next.first;
+            Result<List<Card>> operationResult = next.second;
+            if (operationResult.hasException()) {
+                errors.add(operation.getCardType());
+            }
+            if (operationResult.hasData()) {
+                List<Card> cards = new ArrayList<>(operationResult.getData().size());
+                for (Card card : operationResult.getData()) {
+                    if (!hiddenLocally.containsKey(card)) {
+                        card.rank(reference);
+                        cards.add(card);
                     }
+                }
+                results = results.replace(operation.getCardType(), cards);
+            }
+            // Cards might have been hidden while the load was running.
+            results = results.without(hiddenLocally.keySet());
 
-                    results = executeOperation(bundle, operation, errors, results);
+            // Deliver intermediary results. The list is immutable, so it does not need to be copied.
+            Log.d(TAG, "load: Operation " + operation + " completed.");
+            Result.Builder<List<Card>> builder = new Result.Builder<List<Card>>()
+                    .withData(results.getCards());
 
-                    List<Card> finalResults = new ArrayList<>(results);
-                    // Deliver intermediary results.
-                    Log.d(TAG, "loadInBackground: Operation " + operation + " completed.");
-                    Result.Builder<List<Card>> builder = new Result.Builder<List<Card>>()
-                            .withData(finalResults);
+            if (!errors.isEmpty()) {
+                builder.withError(new FeedException(new HashSet<>(errors)));
+            }
 
-                    if (!errors.isEmpty()) {
-                        builder.withError(new FeedException(errors));
-                    }
+            result = builder.buildPartial();
+            publish(result);
+        }
 
-                    result = builder.buildPartial();
-                    //noinspection unchecked
-                    publishProgress(result);
-                }
+        segments = results;
+        if (result != null) {
+            publish(result.asCompleted());
+        }
 
-                if (result != null) {
-                    //noinspection unchecked
-                    publishProgress(result.asCompleted());
-                }
+        // Cards hidden before this load started have been dismissed by now.
+        hiddenLocally.values().removeIf(hiddenAt -> hiddenAt < generation);
+
+        // Delete the dismissals of cards that no longer exist, for all card types at once.
+        dismissals.prune();
+    }
+
+    /**
+     * Rank the cards at the given time.
+     *
+     * @param current The cards to rank.
+     * @param now     The reference time.
+     * @return The ranked cards, or the same instance if no priority has changed.
+     */
+    @WorkerThread
+    private FeedSegments rank(FeedSegments current, ZonedDateTime now) {
+        lastRanking = SystemClock.elapsedRealtime();
+        return current.rank(now);
+    }
 
-                return null;
+    /**
+     * Rank the current cards again, and schedule the next ranking.
+     */
+    @MainThread
+    private void scheduleRerank() {
+        coordinator.execute(() -> {
+            FeedSegments ranked = rank(segments, ZonedDateTime.now());
+            if (ranked != segments && lastResult != null) {
+                Log.d(TAG, "rerank: a priority has changed.");
+                segments = ranked;
+                publish(lastResult.map(cards -> ranked.getCards()));
             }
+        });
+        mainHandler.postDelayed(reranker, RERANK_INTERVAL_MILLIS);
+    }
 
-            @SafeVarargs
-            @Override
-            protected final void onProgressUpdate(Result<List<Card>>... values) {
-                setValue(values[0]);
+    /**
+     * Load the card types that could not be loaded without network again, once the network is back.
+     *
+     * @param status The new state of the connection.
+     */
+    @MainThread
+    private void onConnectivityChanged(ConnectivityMonitor.Status status) {
+        if (!status.isConnected() || !loadedOffline) {
+            return;
+        }
+        loadedOffline = false;
+
+        Set<Integer> retry = new HashSet<>();
+        if (urgentSkipped) {
+            retry.add(Card.Type.URGENT_FM);
+        }
+        Result<List<Card>> current = getValue();
+        if (current != null && current.hasException() && current.getError() instanceof FeedException) {
+            retry.addAll(((FeedException) current.getError()).getFailedTypes());
+        }
+        if (retry.isEmpty()) {
+            return;
+        }
+
+        Log.d(TAG, "The network is back, loading " + retry + " again.");
+        Bundle args = new Bundle();
+        if (retry.size() == 1) {
+            args.putInt(REFRESH_HOMECARD_TYPE, retry.iterator().next());
+        }
+        loadData(args);
+    }
+
+    /**
+     * Load the library card again once opening hours that were shown as pending have arrived. The responses are cached
+     * by then, so this is fast. This load does not reload the card again if opening hours are late again. Nothing is
+     * loaded if the feed is not observed.
+     */
+    @WorkerThread
+    private void onLateLibraryHours() {
+        mainHandler.post(() -> {
+            if (!hasActiveObservers()) {
+                Log.d(TAG, "Late opening hours arrived, but the feed is not observed.");
+                return;
+            }
+            Bundle args = new Bundle();
+            args.putInt(REFRESH_HOMECARD_TYPE, Card.Type.LIBRARY);
+            args.putBoolean(LATE_LIBRARY_HOURS, true);
+            loadData(args);
+        });
+    }
+
+    /**
+     * Remove the cards matching the predicate from the feed, without executing any request.
+     *
+     * @param predicate Matches the cards to remove.
+     * @return The removed cards. These can be added again with {@link #restoreCards(List)}.
+     */
+    @MainThread
+    List<Card> hideCards(Predicate<Card> predicate) {
+        Result<List<Card>> current = getValue();
+        List<Card> hidden = Collections.emptyList();
+        if (current != null && current.hasData()) {
+            hidden = current.getData().stream().filter(predicate).collect(Collectors.toList());
+        }
+        int generation = loadCount;
+        for (Card card : hidden) {
+            hiddenLocally.put(card, generation);
+        }
+        updateLocally(cards -> cards.stream().filter(predicate.negate()).collect(Collectors.toList()));
+        return hidden;
+    }
+
+    /**
+     * Add cards that were removed by {@link #hideCards(Predicate)} to the feed again, without executing any request.
+     * Cards that are already in the feed are not added again.
+     *
+     * @param restored The cards to add.
+     */
+    @MainThread
+    void restoreCards(List<Card> restored) {
+        if (restored.isEmpty()) {
+            return;
+        }
+        for (Card card : restored) {
+            hiddenLocally.remove(card);
+        }
+        updateLocally(cards -> {
+            List<Card> missing = restored.stream()
+                    .filter(c -> !cards.contains(c))
+                    .sorted()
+                    .collect(Collectors.toList());
+            // Merge the sorted lists, without sorting the whole feed again.
+            List<Card> merged = new ArrayList<>(cards.size() + missing.size());
+            int i = 0;
+            for (Card card : cards) {
+                while (i < missing.size() && missing.get(i).compareTo(card) < 0) {
+                    merged.add(missing.get(i++));
+                }
+                merged.add(card);
             }
-        }.execute();
+            merged.addAll(missing.subList(i, missing.size()));
+            return merged;
+        });
+    }
+
+    /**
+     * Update both the published cards and the cards used as a starting point for the next load.
+     *
+     * @param update Produces a new list from the cards. Must not modify the given list.
+     */
+    @MainThread
+    private void updateLocally(UnaryOperator<List<Card>> update) {
+        Result<List<Card>> current = getValue();
+        if (current != null && current.hasData()) {
+            setValue(current.map(update));
+        }
+        coordinator.execute(() -> segments = FeedSegments.of(update.apply(segments.getCards())));
+    }
+
+    @WorkerThread
+    private void publish(Result<List<Card>> result) {
+        lastResult = result;
+        mainHandler.post(() -> setValue(result));
     }
 
     /**
      * Called by the loader to retrieve the operations that should be executed. This method may be called from another
      * thread.
      *
+     * @param cd            The dismissals, shared by all operations.
+     * @param reloadLibrary If the library card should be loaded again when late opening hours arrive.
      * @return The operations to execute.
      */
-    private ExtendedSparseArray<FeedOperation> scheduleOperations() {
+    private ExtendedSparseArray<FeedOperation> scheduleOperations(DismissalIndex cd, boolean reloadLibrary) {
 
         FeedCollection operations = new FeedCollection();
         Context c = applicationContext;
-        Set<Integer> disabled = PreferenceManager.getDefaultSharedPreferences(c)
-                .getStringSet(HomeFeedFragment.PREF_DISABLED_CARD_TYPES, Collections.emptySet())
-                .stream()
-                .map(Integer::parseInt)
-                .collect(Collectors.toSet());
+        Set<Integer> disabled = getDisabledCardTypes(c);
 
         // Don't do Urgent.fm if there is no network.
-        if (!NetworkUtils.isConnected(c)) {
+        boolean connected = ConnectivityMonitor.get(c).isConnected();
+        loadedOffline = !connected;
+        urgentSkipped = !connected && !disabled.contains(Card.Type.URGENT_FM);
+        if (!connected) {
             disabled.add(Card.Type.URGENT_FM);
         }
 
         // Test if the card type is ignored or not.
         IntPredicate d = disabled::contains;
 
-        // Repositories
-        DismissalDao cd = Database.get(c).getCardDao();
-
         // Always insert the special events.
         operations.add(add(new LimitingSpecialEventRequest(c, cd)));
 
@@ -269,7 +505,8 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
         operations.add(get(d, () -> new SchamperRequest(c, cd), Card.Type.SCHAMPER));
         operations.add(get(d, () -> new NewsRequest(c, cd), Card.Type.NEWS_ITEM));
         operations.add(get(d, UrgentRequest::new, Card.Type.URGENT_FM));
-        operations.add(get(d, () -> new LibraryRequest(c), Card.Type.LIBRARY));
+        Runnable onLateHours = reloadLibrary ? this::onLateLibraryHours : () -> { };
+        operations.add(get(d, () -> new LibraryRequest(c, onLateHours), Card.Type.LIBRARY));
 
         // Add debug request.
         if (BuildConfig.DEBUG && BuildConfig.DEBUG_HOME_STREAM_STALL) {
@@ -279,6 +516,20 @@ public class FeedLiveData extends BaseLiveData<Result<List<Card>>> {
         return operations;
     }
 
+    /**
+     * Get the card types the user has disabled.
+     *
+     * @param context A context.
+     * @return The disabled card types. The set can be modified.
+     */
+    static Set<Integer> getDisabledCardTypes(Context context) {
+        return PreferenceManager.getDefaultSharedPreferences(context)
+                .getStringSet(HomeFeedFragment.PREF_DISABLED_CARD_TYPES, Collections.emptySet())
+                .stream()
+                .map(Integer::parseInt)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
     private class RestoListener implements SharedPreferences.OnSharedPreferenceChangeListener {
         @Override
         public void onSharedPreferenceChanged(SharedPreferences sharedPreferences, String key) {
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed;
+
+import android.content.Context;
+import android.os.Build;
+import android.os.Bundle;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.work.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
+import be.ugent.zeus.hydra.common.database.Database;
+import be.ugent.zeus.hydra.feed.cards.Card;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
+import be.ugent.zeus.hydra.feed.cards.event.EventRequest;
+import be.ugent.zeus.hydra.feed.cards.news.NewsRequest;
+import be.ugent.zeus.hydra.feed.cards.resto.RestoRequest;
+import be.ugent.zeus.hydra.feed.cards.schamper.SchamperRequest;
+import be.ugent.zeus.hydra.feed.cards.specialevent.LimitingSpecialEventRequest;
+
+/**
+ * Periodically executes the requests of the home feed in the background, to warm the caches. When the user opens
+ * the app, the feed can then be shown without waiting for the network.
+ * <p>
+ * The work only runs on an unmetered network while the device is charging (and idle, if supported), so it does not
+ * cost the user anything. Card types the user has disabled are not fetched.
+ *
+ * @author Niko Strijbol
+ */
+public class FeedPrefetchWorker extends Worker {
+
+    private static final String TAG = "FeedPrefetchWorker";
+    private static final String WORK_NAME = "be.ugent.zeus.hydra.feed.prefetch";
+    private static final long INTERVAL_HOURS = 6;
+
+    public FeedPrefetchWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Schedule the periodic work. If the work is already scheduled, nothing happens.
+     *
+     * @param context A context.
+     */
+    public static void schedule(@NonNull Context context) {
+        Constraints.Builder constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresCharging(true);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            constraints.setRequiresDeviceIdle(true);
+        }
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(
+                FeedPrefetchWorker.class,
+                INTERVAL_HOURS,
+                TimeUnit.HOURS
+        ).setConstraints(constraints.build()).build();
+        WorkManager.getInstance(context)
+                .enqueueUniquePeriodicWork(WORK_NAME, ExistingPeriodicWorkPolicy.KEEP, request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context c = getApplicationContext();
+        Set<Integer> disabled = FeedLiveData.getDisabledCardTypes(c);
+        DismissalIndex cd = new DismissalIndex(Database.get(c).getCardDao());
+
+        // The special events are always in the feed.
+        List<HomeFeedRequest> requests = new ArrayList<>();
+        requests.add(new LimitingSpecialEventRequest(c, cd));
+        if (!disabled.contains(Card.Type.RESTO)) {
+            requests.add(new RestoRequest(c, cd));
+        }
+        if (!disabled.contains(Card.Type.ACTIVITY)) {
+            requests.add(new EventRequest(c, cd));
+        }
+        if (!disabled.contains(Card.Type.SCHAMPER)) {
+            requests.add(new SchamperRequest(c, cd));
+        }
+        if (!disabled.contains(Card.Type.NEWS_ITEM)) {
+            requests.add(new NewsRequest(c, cd));
+        }
+
+        for (HomeFeedRequest request : requests) {
+            if (isStopped()) {
+                Log.d(TAG, "doWork: stopped before all requests were executed.");
+                break;
+            }
+            // The result is not needed: executing the request fills the caches.
+            boolean failed = RequestScheduler.withPriority(RequestScheduler.Priority.PREFETCH,
+                    () -> request.execute(Bundle.EMPTY).hasException());
+            if (failed) {
+                Log.d(TAG, "doWork: could not prefetch " + request.getClass().getSimpleName());
+            }
+        }
+
+        // Delete the dismissals of cards that no longer exist.
+        cd.prune();
+        return Result.success();
+    }
+}
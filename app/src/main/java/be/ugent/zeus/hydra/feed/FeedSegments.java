@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.time.ZonedDateTime;
+import java.util.*;
+
+import be.ugent.zeus.hydra.feed.cards.Card;
+
+/**
+ * Immutable model of the home feed, which keeps the cards of each {@link Card.Type} as a separate sorted segment.
+ * <p>
+ * The cards of the feed are produced by merging the segments (a k-way merge), so replacing the cards of one type only
+ * requires sorting the new cards of that type. When a segment is replaced, the removed and inserted cards are
+ * recorded in the resulting {@link FeedList}, so the adapter can apply them without calculating a diff.
+ * <p>
+ * Cards are ordered by priority. Cards with the same priority are ordered by card type, and then by their order in
+ * the segment.
+ *
+ * @author Niko Strijbol
+ */
+final class FeedSegments {
+
+    static final FeedSegments EMPTY = new FeedSegments(new TreeMap<>(), FeedList.EMPTY);
+
+    private static final Comparator<Card> ORDER = Comparator.<Card>naturalOrder()
+            .thenComparingInt(Card::getCardType);
+
+    // Maps card types to the sorted cards of that type. Not modified after construction.
+    private final SortedMap<Integer, List<Card>> segments;
+    private final FeedList cards;
+
+    private FeedSegments(SortedMap<Integer, List<Card>> segments, FeedList cards) {
+        this.segments = segments;
+        this.cards = cards;
+    }
+
+    /**
+     * Create the segments from a list of cards. The order of the cards is kept within each segment.
+     *
+     * @param cards The sorted cards.
+     * @return The segments.
+     */
+    @NonNull
+    static FeedSegments of(List<Card> cards) {
+        SortedMap<Integer, List<Card>> segments = new TreeMap<>();
+        for (Card card : cards) {
+            segments.computeIfAbsent(card.getCardType(), t -> new ArrayList<>()).add(card);
+        }
+        return new FeedSegments(segments, new FeedList(merge(segments), null, Collections.emptyList()));
+    }
+
+    /**
+     * @return All cards in the feed, sorted.
+     */
+    @NonNull
+    FeedList getCards() {
+        return cards;
+    }
+
+    /**
+     * Replace the cards of one type.
+     *
+     * @param type     The card type.
+     * @param newCards The new cards of that type. They must already be ranked.
+     * @return The new segments. The cards know their changes relative to the current cards.
+     */
+    @NonNull
+    FeedSegments replace(@Card.Type int type, List<Card> newCards) {
+        List<Card> segment = new ArrayList<>(newCards);
+        Collections.sort(segment);
+
+        SortedMap<Integer, List<Card>> newSegments = new TreeMap<>(segments);
+        if (segment.isEmpty()) {
+            newSegments.remove(type);
+        } else {
+            newSegments.put(type, segment);
+        }
+        List<Card> merged = merge(newSegments);
+
+        List<Card> oldSegment = segments.getOrDefault(type, Collections.emptyList());
+        List<FeedList.Change> changes = calculateChanges(type, oldSegment, segment, cards, merged);
+        FeedList result;
+        if (changes == null) {
+            result = new FeedList(merged, null, Collections.emptyList());
+        } else {
+            result = new FeedList(merged, cards, changes);
+        }
+        return new FeedSegments(newSegments, result);
+    }
+
+    /**
+     * Remove some cards.
+     *
+     * @param removed The cards to remove. Cards that are not in the feed are ignored.
+     * @return The new segments, or this instance if no card was removed.
+     */
+    @NonNull
+    FeedSegments without(Collection<Card> removed) {
+        FeedSegments result = this;
+        Set<Integer> types = new HashSet<>();
+        for (Card card : removed) {
+            types.add(card.getCardType());
+        }
+        for (int type : types) {
+            List<Card> segment = result.segments.get(type);
+            if (segment == null) {
+                continue;
+            }
+            List<Card> kept = new ArrayList<>(segment.size());
+            for (Card card : segment) {
+                if (!removed.contains(card)) {
+                    kept.add(card);
+                }
+            }
+            if (kept.size() != segment.size()) {
+                result = result.replace(type, kept);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rank all cards at the given time. Only the segments in which a priority has changed are sorted again.
+     *
+     * @param now The reference time.
+     * @return The new segments, or this instance if no priority has changed.
+     */
+    @NonNull
+    FeedSegments rank(ZonedDateTime now) {
+        SortedMap<Integer, List<Card>> newSegments = null;
+        for (Map.Entry<Integer, List<Card>> entry : segments.entrySet()) {
+            List<Card> segment = entry.getValue();
+            boolean changed = false;
+            for (Card card : segment) {
+                changed |= card.rank(now);
+            }
+            if (changed) {
+                if (newSegments == null) {
+                    newSegments = new TreeMap<>(segments);
+                }
+                List<Card> sorted = new ArrayList<>(segment);
+                Collections.sort(sorted);
+                newSegments.put(entry.getKey(), sorted);
+            }
+        }
+        if (newSegments == null) {
+            return this;
+        }
+        return new FeedSegments(newSegments, new FeedList(merge(newSegments), null, Collections.emptyList()));
+    }
+
+    /**
+     * Merge the sorted segments into one sorted list.
+     */
+    private static List<Card> merge(SortedMap<Integer, List<Card>> segments) {
+        int total = 0;
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(Math.max(1, segments.size()));
+        for (List<Card> segment : segments.values()) {
+            total += segment.size();
+            if (!segment.isEmpty()) {
+                queue.add(new Cursor(segment));
+            }
+        }
+
+        List<Card> result = new ArrayList<>(total);
+        while (!queue.isEmpty()) {
+            Cursor cursor = queue.poll();
+            result.add(cursor.current());
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Calculate the changes from the old cards to the new cards, when only the cards of one type have changed.
+     * <p>
+     * All cards except the removed and inserted cards must be in the same order in both lists. This is normally the
+     * case, since those cards have not changed. If not, null is returned.
+     *
+     * @return The changes, or null if they cannot be calculated.
+     */
+    @Nullable
+    private static List<FeedList.Change> calculateChanges(@Card.Type int type, List<Card> oldSegment,
+                                                          List<Card> newSegment, List<Card> oldCards,
+                                                          List<Card> newCards) {
+        Set<Card> oldSet = new HashSet<>(oldSegment);
+        Set<Card> newSet = new HashSet<>(newSegment);
+
+        // Check that the cards that remain are in the same order.
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (true) {
+            oldIndex = skip(oldCards, oldIndex, type, newSet);
+            newIndex = skip(newCards, newIndex, type, oldSet);
+            if (oldIndex == oldCards.size() || newIndex == newCards.size()) {
+                if (oldIndex != oldCards.size() || newIndex != newCards.size()) {
+                    return null;
+                }
+                break;
+            }
+            if (!oldCards.get(oldIndex).equals(newCards.get(newIndex))) {
+                return null;
+            }
+            oldIndex++;
+            newIndex++;
+        }
+
+        List<FeedList.Change> changes = new ArrayList<>();
+        // Remove from the end, so the positions of earlier cards do not change.
+        for (int i = oldCards.size() - 1; i >= 0; ) {
+            if (isChanged(oldCards.get(i), type, newSet)) {
+                int end = i;
+                while (i >= 0 && isChanged(oldCards.get(i), type, newSet)) {
+                    i--;
+                }
+                changes.add(new FeedList.Change(false, i + 1, end - i));
+            } else {
+                i--;
+            }
+        }
+        // Insert from the start, so each position is the final position.
+        for (int i = 0; i < newCards.size(); ) {
+            if (isChanged(newCards.get(i), type, oldSet)) {
+                int start = i;
+                while (i < newCards.size() && isChanged(newCards.get(i), type, oldSet)) {
+                    i++;
+                }
+                changes.add(new FeedList.Change(true, start, i - start));
+            } else {
+                i++;
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * @return True if the card is of the given type and not in the other version of the segment.
+     */
+    private static boolean isChanged(Card card, @Card.Type int type, Set<Card> other) {
+        return card.getCardType() == type && !other.contains(card);
+    }
+
+    /**
+     * @return The index of the first card from the given index that is not changed.
+     */
+    private static int skip(List<Card> cards, int index, @Card.Type int type, Set<Card> other) {
+        while (index < cards.size() && isChanged(cards.get(index), type, other)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Position in a segment during the merge.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final List<Card> segment;
+        private int index;
+
+        private Cursor(List<Card> segment) {
+            this.segment = segment;
+        }
+
+        private Card current() {
+            return segment.get(index);
+        }
+
+        private boolean advance() {
+            index++;
+            return index < segment.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return ORDER.compare(current(), other.current());
+        }
+    }
+}
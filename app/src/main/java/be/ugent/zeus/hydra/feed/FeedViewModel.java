@@ -24,10 +24,14 @@ package be.ugent.zeus.hydra.feed;
 
 import android.app.Application;
 import android.os.AsyncTask;
+import androidx.annotation.MainThread;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
 import be.ugent.zeus.hydra.common.arch.data.Event;
@@ -42,7 +46,10 @@ import be.ugent.zeus.hydra.feed.commands.FeedCommand;
  */
 public class FeedViewModel extends SingleRefreshViewModel<List<Card>> {
 
+    // The cards that were removed from the feed by commands, to restore them when the command is undone.
+    private final Map<FeedCommand, List<Card>> hiddenCards = new HashMap<>();
     private MutableLiveData<Event<CommandResult>> commandLiveData;
+    private FeedLiveData feedData;
 
     public FeedViewModel(Application application) {
         super(application);
@@ -50,7 +57,8 @@ public class FeedViewModel extends SingleRefreshViewModel<List<Card>> {
 
     @Override
     protected BaseLiveData<Result<List<Card>>> constructDataInstance() {
-        return new FeedLiveData(getApplication());
+        feedData = new FeedLiveData(getApplication());
+        return feedData;
     }
 
     LiveData<Event<CommandResult>> getCommandLiveData() {
@@ -60,17 +68,40 @@ public class FeedViewModel extends SingleRefreshViewModel<List<Card>> {
         return commandLiveData;
     }
 
+    /**
+     * Execute a command. If the command hides cards, they are removed from the feed immediately, while the command
+     * itself is executed in the background.
+     *
+     * @param command The command.
+     */
+    @MainThread
     void execute(FeedCommand command) {
+        Predicate<Card> hidden = command.getHiddenCards();
+        boolean shouldRefresh = hidden == null || feedData == null;
+        if (!shouldRefresh) {
+            hiddenCards.put(command, feedData.hideCards(hidden));
+        }
         AsyncTask.execute(() -> {
             int result = command.execute(getApplication());
-            commandLiveData.postValue(new Event<>(CommandResult.forExecute(command, result)));
+            commandLiveData.postValue(new Event<>(CommandResult.forExecute(command, result, shouldRefresh)));
         });
     }
 
+    /**
+     * Undo a command. Cards that were removed from the feed by the command are added again immediately.
+     *
+     * @param command The command.
+     */
+    @MainThread
     void undo(FeedCommand command) {
+        List<Card> hidden = hiddenCards.remove(command);
+        boolean shouldRefresh = hidden == null || feedData == null;
+        if (!shouldRefresh) {
+            feedData.restoreCards(hidden);
+        }
         AsyncTask.execute(() -> {
             int result = command.undo(getApplication());
-            commandLiveData.postValue(new Event<>(CommandResult.forUndo(result)));
+            commandLiveData.postValue(new Event<>(CommandResult.forUndo(result, shouldRefresh)));
         });
     }
 
@@ -78,5 +109,7 @@ public class FeedViewModel extends SingleRefreshViewModel<List<Card>> {
     protected void onCleared() {
         super.onCleared();
         commandLiveData = null;
+        feedData = null;
+        hiddenCards.clear();
     }
 }
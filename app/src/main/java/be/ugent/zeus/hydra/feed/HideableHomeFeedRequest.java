@@ -25,28 +25,28 @@ package be.ugent.zeus.hydra.feed;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.CardIdentifier;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 
 /**
  * Home feed request that takes care of maintaining and hiding cards the user no longer wants to see.
+ * <p>
+ * The dismissals are read from a {@link DismissalIndex}, which is shared by the requests of one load of the feed.
+ * Stale dismissals are not deleted by this request, but by {@link DismissalIndex#prune()}.
  *
  * @author Niko Strijbol
  */
 public abstract class HideableHomeFeedRequest implements HomeFeedRequest {
 
-    private final DismissalDao dismissalDao;
+    private final DismissalIndex dismissalIndex;
 
-    protected HideableHomeFeedRequest(DismissalDao dismissalDao) {
-        this.dismissalDao = dismissalDao;
+    protected HideableHomeFeedRequest(DismissalIndex dismissalIndex) {
+        this.dismissalIndex = dismissalIndex;
     }
 
     @NonNull
@@ -54,20 +54,8 @@ public abstract class HideableHomeFeedRequest implements HomeFeedRequest {
     public final Result<Stream<Card>> execute(@NonNull Bundle args) {
         return performRequestCards(args).map(cardsStream -> {
             List<Card> cards = cardsStream.collect(Collectors.toList());
-            // Remove all stale hidden cards.
-            dismissalDao.prune(getCardType(), cards);
-
             // Hide cards that we don't want to show anymore.
-            List<CardIdentifier> hiddenList = dismissalDao.getIdsForType(getCardType());
-            // If hidden is empty, we don't do anything for performance reasons.
-            if (hiddenList.isEmpty()) {
-                return cards.stream();
-            } else {
-                // Wrap in a set for fast contains.
-                Collection<CardIdentifier> fastHidden = new HashSet<>(hiddenList);
-                return cards.stream()
-                        .filter(card -> !fastHidden.contains(new CardIdentifier(card.getCardType(), card.getIdentifier())));
-            }
+            return dismissalIndex.filter(getCardType(), cards).stream();
         });
     }
 
@@ -205,9 +205,12 @@ public class HomeFeedFragment extends Fragment implements SwipeRefreshLayout.OnR
     }
 
     private void onCommandExecuted(CommandResult result) {
-        Bundle extras = new Bundle();
-        extras.putInt(REFRESH_HOMECARD_TYPE, result.getCardType());
-        model.requestRefresh(extras);
+        // Commands that hide cards are already applied to the feed.
+        if (result.shouldRefresh()) {
+            Bundle extras = new Bundle();
+            extras.putInt(REFRESH_HOMECARD_TYPE, result.getCardType());
+            model.requestRefresh(extras);
+        }
 
         // If it is the undoing, don't show a snackbar, otherwise do show it.
         if (!result.wasUndo()) {
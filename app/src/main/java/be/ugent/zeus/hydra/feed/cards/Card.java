@@ -27,6 +27,7 @@ import androidx.annotation.NonNull;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.time.ZonedDateTime;
 
 import static be.ugent.zeus.hydra.feed.cards.Card.Type.*;
 
@@ -45,6 +46,10 @@ import static be.ugent.zeus.hydra.feed.cards.Card.Type.*;
  * special occasions, such as giving the resto card a temporarily higher score because it is eating time.
  * <p>
  * The negative values ]-Inf,0[ are reserved for use with special cards.
+ * <p>
+ * The priority depends on the time, e.g. an event becomes more important as it approaches. To get a consistent
+ * ordering, the priority is not calculated on every comparison. Instead, the feed {@link #rank(ZonedDateTime) ranks}
+ * all cards at the same reference time, and the priority is cached until the card is ranked again.
  *
  * <h1>Identifier</h1>
  * Each card instance should have an unique identifier. The identifier must be unique within the card type.
@@ -59,6 +64,11 @@ import static be.ugent.zeus.hydra.feed.cards.Card.Type.*;
  */
 public abstract class Card implements Comparable<Card> {
 
+    private static final int UNRANKED = Integer.MIN_VALUE;
+
+    // The priority calculated by the last ranking.
+    private volatile int priority = UNRANKED;
+
     /**
      * @return The card type.
      */
@@ -66,9 +76,39 @@ public abstract class Card implements Comparable<Card> {
     public abstract int getCardType();
 
     /**
+     * Calculate the priority of this card. Use the given time instead of the current time, since all cards are
+     * ranked at the same time.
+     *
+     * @param now The reference time.
      * @return Priority should be a number between 0 and 1010. See the class description.
      */
-    public abstract int getPriority();
+    protected abstract int calculatePriority(ZonedDateTime now);
+
+    /**
+     * Calculate and cache the priority of this card at the given time.
+     *
+     * @param now The reference time.
+     * @return True if the priority has changed.
+     */
+    public final boolean rank(ZonedDateTime now) {
+        int newPriority = calculatePriority(now);
+        int oldPriority = priority;
+        priority = newPriority;
+        return oldPriority != newPriority;
+    }
+
+    /**
+     * @return The priority calculated by the last {@link #rank(ZonedDateTime) ranking}. If the card has not been
+     * ranked yet, it is ranked at the current time.
+     */
+    public final int getPriority() {
+        int current = priority;
+        if (current == UNRANKED) {
+            rank(ZonedDateTime.now());
+            current = priority;
+        }
+        return current;
+    }
 
     /**
      * Get the unique (under the card type) identifier.
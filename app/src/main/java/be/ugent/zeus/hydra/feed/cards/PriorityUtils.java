@@ -27,7 +27,7 @@ import android.content.SharedPreferences;
 import android.widget.ImageView;
 import androidx.preference.PreferenceManager;
 
-import be.ugent.zeus.hydra.common.utils.NetworkUtils;
+import be.ugent.zeus.hydra.common.network.ConnectivityMonitor;
 import be.ugent.zeus.hydra.feed.preferences.HomeFragment;
 import com.squareup.picasso.NetworkPolicy;
 import com.squareup.picasso.Picasso;
@@ -73,7 +73,7 @@ public class PriorityUtils {
     private static boolean isDataConstrained(Context context) {
         SharedPreferences preferences = PreferenceManager.getDefaultSharedPreferences(context);
         boolean setting = preferences.getBoolean(HomeFragment.PREF_DATA_SAVER, HomeFragment.PREF_DATA_SAVER_DEFAULT);
-        return setting && NetworkUtils.isMeteredConnection(context);
+        return setting && ConnectivityMonitor.get(context).isMetered();
     }
 
     /**
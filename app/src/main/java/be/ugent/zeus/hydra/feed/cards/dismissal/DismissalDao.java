@@ -35,6 +35,11 @@ import be.ugent.zeus.hydra.feed.cards.Card;
 @Dao
 public abstract class DismissalDao {
 
+    /**
+     * SQLite supports 999 variables in a statement on older versions.
+     */
+    private static final int MAX_IDS_PER_STATEMENT = 900;
+
     /**
      * Get all dismissals for a certain card type.
      *
@@ -69,40 +74,40 @@ public abstract class DismissalDao {
     public abstract void deleteAll();
 
     /**
-     * Delete cards from the database based on their id.
+     * Get the ids of all dismissals, of all card types.
+     *
+     * @return The dismissals.
+     */
+    @Query("SELECT " + DismissalTable.Columns.CARD_TYPE + ", " + DismissalTable.Columns.IDENTIFIER + " FROM " + DismissalTable.TABLE_NAME)
+    public abstract List<CardIdentifier> getAllIds();
+
+    /**
+     * Delete cards of one type from the database based on their id.
      * <p>
      * Note: you probably want to use {@link #deleteByIdentifier(Collection)} instead.
      *
-     * @param cardType The type of the card.
-     * @param id       The identifier of the card.
+     * @param cardType The type of the cards.
+     * @param ids      The identifiers of the cards. SQLite limits the number of ids in one statement.
      */
-    @Query("DELETE FROM " + DismissalTable.TABLE_NAME + " WHERE " + DismissalTable.Columns.CARD_TYPE + " = :cardType AND " + DismissalTable.Columns.IDENTIFIER + " = :id")
-    protected abstract void deleteCard(@Card.Type int cardType, String id);
-
-    @Transaction
-    public void deleteByIdentifier(Collection<CardIdentifier> identifiers) {
-        for (CardIdentifier identifier : identifiers) {
-            deleteCard(identifier.getCardType(), identifier.getIdentifier());
-        }
-    }
+    @Query("DELETE FROM " + DismissalTable.TABLE_NAME + " WHERE " + DismissalTable.Columns.CARD_TYPE + " = :cardType AND " + DismissalTable.Columns.IDENTIFIER + " IN (:ids)")
+    protected abstract void deleteCards(@Card.Type int cardType, Collection<String> ids);
 
     /**
-     * Remove all saved dismissals for cards that are not in the given list of cards.
+     * Delete the given dismissals, using one statement per card type.
      *
-     * @param type     The card type of the given cards.
-     * @param allCards All cards. Cards not present in this list will be removed from the repository.
+     * @param identifiers The dismissals to delete.
      */
-    public void prune(@Card.Type int type, List<Card> allCards) {
-        Set<CardIdentifier> dismissals = new HashSet<>(getIdsForType(type));
-
-        Set<CardIdentifier> retained = allCards.stream()
-                .map(c -> new CardIdentifier(c.getCardType(), c.getIdentifier()))
-                .collect(Collectors.toSet());
-
-        // Retain only the ones that are no longer in the list of all cards.
-        dismissals.removeAll(retained);
-
-        // Delete the others.
-        deleteByIdentifier(dismissals);
+    @Transaction
+    public void deleteByIdentifier(Collection<CardIdentifier> identifiers) {
+        Map<Integer, List<String>> byType = identifiers.stream()
+                .collect(Collectors.groupingBy(CardIdentifier::getCardType,
+                        Collectors.mapping(CardIdentifier::getIdentifier, Collectors.toList())));
+        for (Map.Entry<Integer, List<String>> entry : byType.entrySet()) {
+            List<String> ids = entry.getValue();
+            for (int start = 0; start < ids.size(); start += MAX_IDS_PER_STATEMENT) {
+                int end = Math.min(ids.size(), start + MAX_IDS_PER_STATEMENT);
+                deleteCards(entry.getKey(), ids.subList(start, end));
+            }
+        }
     }
 }
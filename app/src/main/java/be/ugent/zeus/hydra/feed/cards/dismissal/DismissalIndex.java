@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed.cards.dismissal;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import be.ugent.zeus.hydra.feed.cards.Card;
+
+/**
+ * In-memory index of the dismissals, for use during one load of the home feed.
+ * <p>
+ * All dismissals are loaded with one query the first time they are needed. The requests of all card types then hide
+ * dismissed cards using the index. Dismissals of cards that no longer exist are collected, and deleted at once by
+ * {@link #prune()} at the end of the load.
+ * <p>
+ * The index is thread-safe, since the requests of the home feed are executed concurrently.
+ *
+ * @author Niko Strijbol
+ */
+public final class DismissalIndex {
+
+    private static final String TAG = "DismissalIndex";
+
+    private final DismissalDao dismissalDao;
+    private Set<CardIdentifier> dismissed;
+    private final Set<CardIdentifier> stale = new HashSet<>();
+
+    public DismissalIndex(DismissalDao dismissalDao) {
+        this.dismissalDao = dismissalDao;
+    }
+
+    /**
+     * Remove the dismissed cards. Dismissals of cards of the given type that are not in the list are marked as stale.
+     *
+     * @param type  The card type of the cards.
+     * @param cards All cards of the card type.
+     * @return The cards that are not dismissed.
+     */
+    @NonNull
+    @WorkerThread
+    public synchronized List<Card> filter(@Card.Type int type, List<Card> cards) {
+        if (dismissed == null) {
+            dismissed = new HashSet<>(dismissalDao.getAllIds());
+        }
+
+        Set<CardIdentifier> existing = new HashSet<>();
+        List<Card> result = cards.stream()
+                .filter(card -> {
+                    CardIdentifier identifier = new CardIdentifier(card.getCardType(), card.getIdentifier());
+                    existing.add(identifier);
+                    return !dismissed.contains(identifier);
+                })
+                .collect(Collectors.toList());
+
+        for (CardIdentifier identifier : dismissed) {
+            if (identifier.getCardType() == type && !existing.contains(identifier)) {
+                stale.add(identifier);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Delete the stale dismissals from the database.
+     */
+    @WorkerThread
+    public synchronized void prune() {
+        if (stale.isEmpty()) {
+            return;
+        }
+        Log.d(TAG, "Pruning " + stale.size() + " stale dismissals.");
+        dismissalDao.deleteByIdentifier(stale);
+        dismissed.removeAll(stale);
+        stale.clear();
+    }
+}
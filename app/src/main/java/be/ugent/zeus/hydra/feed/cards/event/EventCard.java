@@ -27,6 +27,7 @@ import android.util.Pair;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 import be.ugent.zeus.hydra.association.Association;
 import be.ugent.zeus.hydra.association.AssociationMap;
@@ -51,8 +52,8 @@ class EventCard extends Card {
     }
 
     @Override
-    public int getPriority() {
-        Duration duration = Duration.between(ZonedDateTime.now(), event.getStart());
+    protected int calculatePriority(ZonedDateTime now) {
+        Duration duration = Duration.between(now, event.getStart());
         //Add some to 24*30 for better ordering
         return PriorityUtils.lerp((int) duration.toHours(), 0, 744);
     }
@@ -71,6 +72,14 @@ class EventCard extends Card {
         return new Pair<>(event, map.get(event.getAssociation()));
     }
 
+    /**
+     * @param association The abbreviation of the association.
+     * @return A predicate matching the event cards of the association.
+     */
+    static Predicate<Card> isFromAssociation(String association) {
+        return card -> card instanceof EventCard && association.equals(((EventCard) card).event.getAssociation());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -88,7 +88,10 @@ public class EventCardViewHolder extends CardViewHolder {
             return super.onMenuItemClick(item);
         }
         if (item.getItemId() == R.id.menu_hide_association) {
-            adapter.getCompanion().executeCommand(new DisableAssociationCommand(event.first.getAssociation()));
+            String association = event.first.getAssociation();
+            adapter.getCompanion().executeCommand(
+                    new DisableAssociationCommand(association, EventCard.isFromAssociation(association))
+            );
             return true;
         }
         return super.onMenuItemClick(item);
@@ -42,7 +42,7 @@ import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.common.utils.PreferencesUtils;
 import be.ugent.zeus.hydra.feed.HideableHomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 
 /**
  * Home feed request for association events. We only display events between now and 1 months from now.
@@ -53,10 +53,10 @@ public class EventRequest extends HideableHomeFeedRequest {
 
     private final Request<Pair<List<Event>, AssociationMap>> request;
 
-    public EventRequest(Context context, DismissalDao dismissalDao) {
-        super(dismissalDao);
+    public EventRequest(Context context, DismissalIndex dismissalIndex) {
+        super(dismissalIndex);
         this.request = RawEventRequest.create(context, create(context))
-                .andThen(AssociationListRequest.create(context));
+                .zip(AssociationListRequest.create(context));
     }
     
     private static Filter create(Context context) {
@@ -23,8 +23,11 @@
 package be.ugent.zeus.hydra.feed.cards.library;
 
 import android.util.Pair;
+import androidx.annotation.Nullable;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import be.ugent.zeus.hydra.common.request.Result;
@@ -55,7 +58,7 @@ class LibraryCard extends Card {
     }
 
     @Override
-    public int getPriority() {
+    protected int calculatePriority(ZonedDateTime now) {
         return PriorityUtils.FEED_SPECIAL_SHIFT + 1;
     }
 
@@ -69,13 +72,41 @@ class LibraryCard extends Card {
         return Type.LIBRARY;
     }
 
+    /**
+     * Cards are equal if they show the same opening hours for the same libraries. This way, a card with pending
+     * opening hours is replaced when the late opening hours arrive.
+     */
     @Override
     public boolean equals(Object o) {
-        return o instanceof LibraryCard;
+        if (this == o) return true;
+        if (!(o instanceof LibraryCard)) return false;
+        List<Pair<String, Result<Optional<OpeningHours>>>> other = ((LibraryCard) o).libraries;
+        if (libraries.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < libraries.size(); i++) {
+            Pair<String, Result<Optional<OpeningHours>>> library = libraries.get(i);
+            Pair<String, Result<Optional<OpeningHours>>> otherLibrary = other.get(i);
+            if (!Objects.equals(library.first, otherLibrary.first)
+                    || library.second.isDone() != otherLibrary.second.isDone()
+                    || !Objects.equals(dataOf(library.second), dataOf(otherLibrary.second))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        return LibraryCard.class.hashCode();
+        int hash = LibraryCard.class.hashCode();
+        for (Pair<String, Result<Optional<OpeningHours>>> library : libraries) {
+            hash = 31 * hash + Objects.hash(library.first, library.second.isDone(), dataOf(library.second));
+        }
+        return hash;
+    }
+
+    @Nullable
+    private static Optional<OpeningHours> dataOf(Result<Optional<OpeningHours>> result) {
+        return result.hasData() ? result.getData() : null;
     }
 }
\ No newline at end of file
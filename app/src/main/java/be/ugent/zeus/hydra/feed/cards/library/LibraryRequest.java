@@ -29,14 +29,22 @@ import android.util.Pair;
 import androidx.annotation.NonNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Stream;
 
 import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.HomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
+import be.ugent.zeus.hydra.library.details.OpeningHours;
 import be.ugent.zeus.hydra.library.details.OpeningHoursRequest;
 import be.ugent.zeus.hydra.library.favourites.FavouritesRepository;
 import be.ugent.zeus.hydra.library.favourites.LibraryFavourite;
@@ -47,6 +55,14 @@ import be.ugent.zeus.hydra.library.favourites.LibraryFavourite;
  * Actually getting the hours is done by using {@link OpeningHoursRequest#forDay(LocalDate)}. This request will then
  * combine the retrieved data with the titles of the libraries. This way we don't have to retrieve the full list of
  * libraries to get the name.
+ * <br>
+ * The opening hours of the libraries are retrieved concurrently, with at most {@link #MAX_CONCURRENT} requests at the
+ * same time. These run on their own threads: this request itself runs on the request scheduler, so scheduling them
+ * there could make them wait for the other feed requests. Libraries whose opening hours are not available within
+ * {@link #DEADLINE_MILLIS} are included with a partial result, which is shown as pending. Those requests do continue
+ * in the background. Once they are all done, the callback passed to {@link #LibraryRequest(Context, Runnable)} is
+ * called, so the card can be loaded again from the cache. If none of them has data, for example because they all
+ * failed, the callback is not called: errors are not cached, so loading the card again would not help.
  *
  * @author Niko Strijbol
  */
@@ -54,10 +70,37 @@ public class LibraryRequest implements HomeFeedRequest {
 
     private static final String TAG = "LibraryRequest";
 
+    private static final int MAX_CONCURRENT = 4;
+    private static final long DEADLINE_MILLIS = 5000;
+
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT, MAX_CONCURRENT,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+
+    static {
+        executor.allowCoreThreadTimeOut(true);
+    }
+
     private final Context context;
+    private final Runnable onLateResults;
 
-    public LibraryRequest(Context context) {
+    /**
+     * @param context       The context.
+     * @param onLateResults Called on a background thread when opening hours that were shown as pending have arrived,
+     *                      if at least one of them has data.
+     */
+    public LibraryRequest(Context context, Runnable onLateResults) {
         this.context = context;
+        this.onLateResults = onLateResults;
+    }
+
+    /**
+     * @return The result used for libraries whose opening hours did not arrive in time.
+     */
+    private static Result<Optional<OpeningHours>> pending() {
+        return new Result.Builder<Optional<OpeningHours>>()
+                .withData(Optional.empty())
+                .buildPartial();
     }
 
     @Override
@@ -80,12 +123,52 @@ public class LibraryRequest implements HomeFeedRequest {
 
         // Get the opening hours for each library.
         LocalDate today = LocalDate.now();
+        int size = favourites.size();
+        AtomicReferenceArray<Result<Optional<OpeningHours>>> hours = new AtomicReferenceArray<>(size);
+        CountDownLatch done = new CountDownLatch(size);
+        AtomicBoolean late = new AtomicBoolean();
+        // If opening hours that arrived after the deadline have data to show.
+        AtomicBoolean lateData = new AtomicBoolean();
+
+        for (int i = 0; i < size; i++) {
+            int index = i;
+            LibraryFavourite favourite = favourites.get(i);
+            executor.execute(() -> {
+                OpeningHoursRequest r = new OpeningHoursRequest(context, favourite.getCode());
+                Result<Optional<OpeningHours>> result = r.forDay(today).execute(args);
+                hours.set(index, result);
+                if (late.get() && result.hasData()) {
+                    lateData.set(true);
+                }
+                done.countDown();
+                if (done.getCount() == 0 && late.get()) {
+                    if (lateData.get()) {
+                        Log.d(TAG, "The late opening hours arrived.");
+                        onLateResults.run();
+                    } else {
+                        Log.d(TAG, "The late opening hours failed, not reloading.");
+                    }
+                }
+            });
+        }
+
+        try {
+            if (!done.await(DEADLINE_MILLIS, TimeUnit.MILLISECONDS)) {
+                Log.d(TAG, "Not all opening hours arrived in time, showing them as pending.");
+                late.set(true);
+            }
+        } catch (InterruptedException e) {
+            Log.w(TAG, "Interrupted while waiting for opening hours.", e);
+            late.set(true);
+            Thread.currentThread().interrupt();
+        }
+
+        List<Pair<String, Result<Optional<OpeningHours>>>> libraries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Result<Optional<OpeningHours>> result = hours.get(i);
+            libraries.add(Pair.create(favourites.get(i).getName(), result == null ? pending() : result));
+        }
 
-        return Result.Builder.fromData(Stream.of(new LibraryCard(favourites.stream()
-                .map(favourite -> {
-                    OpeningHoursRequest r = new OpeningHoursRequest(context, favourite.getCode());
-                    return Pair.create(favourite.getName(), r.forDay(today).execute());
-                })
-                .collect(Collectors.toList()))));
+        return Result.Builder.fromData(Stream.of(new LibraryCard(libraries)));
     }
-}
\ No newline at end of file
+}
@@ -109,7 +109,9 @@ public class LibraryViewHolder extends CardViewHolder {
         }
         v.setLayoutParams(textParam);
 
-        if (!result.hasData() || !result.getData().isPresent()) {
+        if (!result.isDone()) {
+            v.setText(R.string.library_list_opening_hours_pending);
+        } else if (!result.hasData() || !result.getData().isPresent()) {
             v.setText(R.string.library_list_no_opening_hours);
         } else {
             v.setText(context.getString(R.string.library_list_opening_hours_today, result.getData().get().getHours()));
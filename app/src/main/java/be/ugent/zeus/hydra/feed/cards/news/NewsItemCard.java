@@ -24,6 +24,7 @@ package be.ugent.zeus.hydra.feed.cards.news;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Objects;
 
 import be.ugent.zeus.hydra.feed.cards.Card;
@@ -47,9 +48,9 @@ class NewsItemCard extends Card {
     }
 
     @Override
-    public int getPriority() {
+    protected int calculatePriority(ZonedDateTime now) {
         OffsetDateTime date = getNewsItem().getUpdated();
-        Duration duration = Duration.between(date, OffsetDateTime.now());
+        Duration duration = Duration.between(date, now.toOffsetDateTime());
         return PriorityUtils.lerp((int) duration.toHours(), 0, TWO_WEEKS_HOURS);
     }
 
@@ -32,7 +32,7 @@ import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.HideableHomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 import be.ugent.zeus.hydra.news.NewsStream;
 
 /**
@@ -42,8 +42,8 @@ public class NewsRequest extends HideableHomeFeedRequest {
 
     private final Request<NewsStream> request;
 
-    public NewsRequest(Context context, DismissalDao dismissalDao) {
-        super(dismissalDao);
+    public NewsRequest(Context context, DismissalIndex dismissalIndex) {
+        super(dismissalIndex);
         this.request = new be.ugent.zeus.hydra.news.NewsRequest(context);
     }
 
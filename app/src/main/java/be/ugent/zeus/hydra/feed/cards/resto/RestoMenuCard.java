@@ -23,6 +23,7 @@
 package be.ugent.zeus.hydra.feed.cards.resto;
 
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
@@ -56,8 +57,8 @@ class RestoMenuCard extends Card {
     }
 
     @Override
-    public int getPriority() {
-        LocalDateTime now = LocalDateTime.now();
+    protected int calculatePriority(ZonedDateTime reference) {
+        LocalDateTime now = reference.toLocalDateTime();
         int duration = (int) ChronoUnit.DAYS.between(now.toLocalDate(), restoMenu.getDate());
         if (now.isAfter(interestStart) && now.isBefore(interestEnd)) {
             return Math.max(PriorityUtils.FEED_SPECIAL_SHIFT, PriorityUtils.lerp((int) ((duration - 0.5) * 24), 0, 504)) - 5;
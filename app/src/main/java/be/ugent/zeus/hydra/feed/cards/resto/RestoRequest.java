@@ -34,9 +34,10 @@ import java.util.stream.Stream;
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
+import be.ugent.zeus.hydra.common.ui.widgets.MenuTable;
 import be.ugent.zeus.hydra.feed.HideableHomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 import be.ugent.zeus.hydra.feed.preferences.HomeFragment;
 import be.ugent.zeus.hydra.resto.RestoChoice;
 import be.ugent.zeus.hydra.resto.RestoMenu;
@@ -52,10 +53,11 @@ public class RestoRequest extends HideableHomeFeedRequest {
     private final Request<List<RestoMenu>> request;
     private final Context context;
 
-    public RestoRequest(Context context, DismissalDao dismissalDao) {
-        super(dismissalDao);
+    public RestoRequest(Context context, DismissalIndex dismissalIndex) {
+        super(dismissalIndex);
         this.request = new MenuRequest(context)
-                .map(new MenuFilter(context));
+                .map(new MenuFilter(context))
+                .map(MenuTable::prepareAll);
         this.context = context.getApplicationContext();
     }
 
@@ -24,6 +24,7 @@ package be.ugent.zeus.hydra.feed.cards.schamper;
 
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Objects;
 
 import be.ugent.zeus.hydra.feed.cards.Card;
@@ -51,9 +52,9 @@ class SchamperCard extends Card {
     }
 
     @Override
-    public int getPriority() {
+    protected int calculatePriority(ZonedDateTime now) {
         OffsetDateTime date = article.getPubDate();
-        Duration duration = Duration.between(date, OffsetDateTime.now());
+        Duration duration = Duration.between(date, now.toOffsetDateTime());
         // We only show the last month of schamper articles.
         return PriorityUtils.lerp((int) duration.toDays(), 0, 30);
     }
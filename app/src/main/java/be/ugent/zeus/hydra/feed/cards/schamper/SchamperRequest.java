@@ -34,7 +34,7 @@ import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.HideableHomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 import be.ugent.zeus.hydra.schamper.Article;
 import be.ugent.zeus.hydra.schamper.SchamperArticlesRequest;
 
@@ -45,8 +45,8 @@ public class SchamperRequest extends HideableHomeFeedRequest {
 
     private final Request<List<Article>> request;
 
-    public SchamperRequest(Context context, DismissalDao dismissalDao) {
-        super(dismissalDao);
+    public SchamperRequest(Context context, DismissalIndex dismissalIndex) {
+        super(dismissalIndex);
         this.request = new SchamperArticlesRequest(context);
     }
 
@@ -36,7 +36,7 @@ import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.HideableHomeFeedRequest;
 import be.ugent.zeus.hydra.feed.cards.Card;
-import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
+import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalIndex;
 import be.ugent.zeus.hydra.specialevent.SpecialEvent;
 import be.ugent.zeus.hydra.specialevent.SpecialEventRequest;
 import be.ugent.zeus.hydra.specialevent.SpecialEventWrapper;
@@ -50,8 +50,8 @@ public class LimitingSpecialEventRequest extends HideableHomeFeedRequest {
 
     private final Request<SpecialEventWrapper> remoteEventRequest;
 
-    public LimitingSpecialEventRequest(Context context, DismissalDao dismissalDao) {
-        super(dismissalDao);
+    public LimitingSpecialEventRequest(Context context, DismissalIndex dismissalIndex) {
+        super(dismissalIndex);
         this.remoteEventRequest = new SpecialEventRequest(context);
     }
 
@@ -22,6 +22,7 @@
 
 package be.ugent.zeus.hydra.feed.cards.specialevent;
 
+import java.time.ZonedDateTime;
 import java.util.Objects;
 
 import be.ugent.zeus.hydra.feed.cards.Card;
@@ -47,7 +48,7 @@ class SpecialEventCard extends Card {
     }
 
     @Override
-    public int getPriority() {
+    protected int calculatePriority(ZonedDateTime now) {
         //We get the complement, as the server assumes 1000 = highest priority. This is for
         //historical reasons.
         return PriorityUtils.FEED_MAX_VALUE - specialEvent.getPriority() - 2 * PriorityUtils.FEED_SPECIAL_SHIFT;
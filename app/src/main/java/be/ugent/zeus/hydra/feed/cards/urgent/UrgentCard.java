@@ -22,6 +22,8 @@
 
 package be.ugent.zeus.hydra.feed.cards.urgent;
 
+import java.time.ZonedDateTime;
+
 import be.ugent.zeus.hydra.feed.cards.Card;
 import be.ugent.zeus.hydra.feed.cards.PriorityUtils;
 
@@ -36,7 +38,7 @@ class UrgentCard extends Card {
     private static final String TAG = "UrgentCard";
 
     @Override
-    public int getPriority() {
+    protected int calculatePriority(ZonedDateTime now) {
         return PriorityUtils.FEED_SPECIAL_SHIFT + 2;
     }
 
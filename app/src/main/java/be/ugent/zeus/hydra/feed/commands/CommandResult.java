@@ -37,18 +37,20 @@ public class CommandResult {
     @Card.Type
     private final int cardType;
     private final FeedCommand command;
+    private final boolean shouldRefresh;
 
-    private CommandResult(@Card.Type int cardType, @Nullable FeedCommand command) {
+    private CommandResult(@Card.Type int cardType, @Nullable FeedCommand command, boolean shouldRefresh) {
         this.cardType = cardType;
         this.command = command;
+        this.shouldRefresh = shouldRefresh;
     }
 
-    public static CommandResult forUndo(@Card.Type int cardType) {
-        return new CommandResult(cardType, null);
+    public static CommandResult forUndo(@Card.Type int cardType, boolean shouldRefresh) {
+        return new CommandResult(cardType, null, shouldRefresh);
     }
 
-    public static CommandResult forExecute(FeedCommand command, @Card.Type int cardType) {
-        return new CommandResult(cardType, command);
+    public static CommandResult forExecute(FeedCommand command, @Card.Type int cardType, boolean shouldRefresh) {
+        return new CommandResult(cardType, command, shouldRefresh);
     }
 
     @Card.Type
@@ -56,6 +58,14 @@ public class CommandResult {
         return cardType;
     }
 
+    /**
+     * @return True if the cards of the {@link #getCardType() card type} must be refreshed, false if the command was
+     * already applied to the feed.
+     */
+    public boolean shouldRefresh() {
+        return shouldRefresh;
+    }
+
     public boolean wasUndo() {
         return command == null;
     }
@@ -24,6 +24,8 @@ package be.ugent.zeus.hydra.feed.commands;
 
 import android.content.Context;
 
+import java.util.function.Predicate;
+
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.association.AssociationStore;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
@@ -35,9 +37,15 @@ import be.ugent.zeus.hydra.feed.cards.Card;
 public class DisableAssociationCommand implements FeedCommand {
 
     private final String association;
+    private final Predicate<Card> isFromAssociation;
 
-    public DisableAssociationCommand(String association) {
+    /**
+     * @param association       The abbreviation of the association to hide.
+     * @param isFromAssociation Matches the cards of the association.
+     */
+    public DisableAssociationCommand(String association, Predicate<Card> isFromAssociation) {
         this.association = association;
+        this.isFromAssociation = isFromAssociation;
     }
 
     @Override
@@ -53,6 +61,11 @@ public class DisableAssociationCommand implements FeedCommand {
         return Card.Type.ACTIVITY;
     }
 
+    @Override
+    public Predicate<Card> getHiddenCards() {
+        return isFromAssociation;
+    }
+
     @Override
     public int getCompleteMessage() {
         return R.string.feed_card_hidden_association;
@@ -25,12 +25,14 @@ package be.ugent.zeus.hydra.feed.commands;
 import android.content.Context;
 
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
 import be.ugent.zeus.hydra.feed.cards.Card;
 import be.ugent.zeus.hydra.feed.cards.dismissal.CardDismissal;
+import be.ugent.zeus.hydra.feed.cards.dismissal.CardIdentifier;
 import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
 
 /**
@@ -65,6 +67,12 @@ public class DisableIndividualCard implements FeedCommand {
         return cardDismissal.getIdentifier().getCardType();
     }
 
+    @Override
+    public Predicate<Card> getHiddenCards() {
+        CardIdentifier identifier = cardDismissal.getIdentifier();
+        return card -> identifier.equals(new CardIdentifier(card.getCardType(), card.getIdentifier()));
+    }
+
     @Override
     public int getCompleteMessage() {
         return R.string.feed_card_hidden_single;
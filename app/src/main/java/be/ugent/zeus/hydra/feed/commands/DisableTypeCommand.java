@@ -25,6 +25,8 @@ package be.ugent.zeus.hydra.feed.commands;
 import android.content.Context;
 import androidx.annotation.StringRes;
 
+import java.util.function.Predicate;
+
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
 import be.ugent.zeus.hydra.common.utils.PreferencesUtils;
@@ -69,6 +71,11 @@ public class DisableTypeCommand implements FeedCommand {
         return cardType;
     }
 
+    @Override
+    public Predicate<Card> getHiddenCards() {
+        return card -> card.getCardType() == cardType;
+    }
+
     @Override
     @StringRes
     public int getCompleteMessage() {
@@ -23,13 +23,20 @@
 package be.ugent.zeus.hydra.feed.commands;
 
 import android.content.Context;
+import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
+import androidx.annotation.WorkerThread;
+
+import java.util.function.Predicate;
 
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.feed.cards.Card;
 
 /**
- * Execute a command. Afterwards the cards of the returned type will be refreshed.
+ * Execute a command. If the command {@link #getHiddenCards() hides cards}, those cards are removed from the feed
+ * immediately. Otherwise, the cards of the returned type will be refreshed afterwards.
+ * <p>
+ * The command itself is executed on a background thread, so it can save its changes to the database.
  * <p>
  * A command is normally one-use: calling it multiple times is undefined behaviour. Additionally, a command should
  * be a fairly short operation.
@@ -44,6 +51,7 @@ public interface FeedCommand {
      * @return Returns the type of card that should be refreshed.
      */
     @Card.Type
+    @WorkerThread
     int execute(Context context);
 
     /**
@@ -52,8 +60,20 @@ public interface FeedCommand {
      * @return The affected card type.
      */
     @Card.Type
+    @WorkerThread
     int undo(Context context);
 
+    /**
+     * The cards that are hidden by this command. These cards are removed from the feed without refreshing it. When
+     * the command is undone, the removed cards are added again.
+     *
+     * @return A predicate matching the hidden cards, or null if the command does not hide cards.
+     */
+    @Nullable
+    default Predicate<Card> getHiddenCards() {
+        return null;
+    }
+
     /**
      * The message to be shown when the command has successfully completed.
      *
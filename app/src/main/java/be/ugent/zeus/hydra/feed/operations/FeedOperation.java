@@ -32,22 +32,26 @@ import be.ugent.zeus.hydra.feed.cards.Card;
 
 /**
  * This is a simple interface that defines an operation on the home feed.
+ * <p>
+ * An operation produces the cards of the operation's card type with {@link #execute(Bundle)}. The feed then replaces
+ * all cards of that type by the produced cards. Producing the cards does not depend on the current state of the
+ * feed, meaning multiple operations can be executed concurrently.
  *
  * @author Niko Strijbol
  */
 public interface FeedOperation {
 
     /**
-     * Transform the current cards to a new list. The provided list is read-only! When modifying it, a copy should
-     * be returned.
+     * Produce the cards of the card type of this operation. This method does not use the current cards, so it is safe
+     * to call this concurrently with other operations.
      * <p>
      * This method may be called from any thread.
      *
-     * @param current The current cards.
-     * @return The new list, or null on error.
+     * @param args The arguments for the request.
+     * @return The cards of type {@link #getCardType()} that should be in the feed.
      */
     @NonNull
-    Result<List<Card>> transform(Bundle args, List<Card> current);
+    Result<List<Card>> execute(Bundle args);
 
     /**
      * The type of card that will be added/removed by this operation.
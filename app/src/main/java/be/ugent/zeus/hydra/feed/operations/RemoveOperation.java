@@ -25,9 +25,8 @@ package be.ugent.zeus.hydra.feed.operations;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.cards.Card;
@@ -41,21 +40,18 @@ class RemoveOperation implements FeedOperation {
 
     @Card.Type
     private final int cardType;
-    private final Predicate<Card> predicate;
 
     RemoveOperation(@Card.Type int cardType) {
-        this(cardType, c -> c.getCardType() == cardType);
-    }
-
-    private RemoveOperation(@Card.Type int cardType, Predicate<Card> predicate) {
         this.cardType = cardType;
-        this.predicate = predicate;
     }
 
+    /**
+     * There are no cards of this type, so merging will remove all existing cards of the type.
+     */
     @NonNull
     @Override
-    public Result<List<Card>> transform(Bundle args, List<Card> current) {
-        return Result.Builder.fromData(current.stream().filter(predicate.negate()).collect(Collectors.toList()));
+    public Result<List<Card>> execute(Bundle args) {
+        return Result.Builder.fromData(Collections.emptyList());
     }
 
     @Override
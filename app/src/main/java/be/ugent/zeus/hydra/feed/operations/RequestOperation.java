@@ -27,7 +27,6 @@ import androidx.annotation.NonNull;
 
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.feed.HomeFeedRequest;
@@ -47,25 +46,18 @@ class RequestOperation implements FeedOperation {
     }
 
     /**
-     * This methods removes all card instances of this operation's card type, performs the request and adds the results
-     * back to the list.
+     * This methods performs the request and collects the resulting cards. When merged, all card instances of this
+     * operation's card type are replaced by the results.
      * <p>
      * This means that while the cards may be logically equal, they will not be the same instance.
      *
-     * @param current The current cards.
-     * @return The updates cards.
+     * @param args The arguments for the request.
+     * @return The new cards.
      */
     @NonNull
     @Override
-    public Result<List<Card>> transform(Bundle args, final List<Card> current) {
-
-        // Filter existing cards away.
-        Stream<Card> temp = current.stream()
-                .filter(c -> c.getCardType() != request.getCardType());
-
-        return request.execute(args).map(homeCardStream ->
-                Stream.concat(temp, homeCardStream).sorted().collect(Collectors.toList())
-        );
+    public Result<List<Card>> execute(Bundle args) {
+        return request.execute(args).map(homeCardStream -> homeCardStream.collect(Collectors.toList()));
     }
 
     @Override
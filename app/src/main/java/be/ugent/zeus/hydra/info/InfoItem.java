@@ -29,14 +29,16 @@ import java.util.List;
 import java.util.Objects;
 
 import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonClass;
 
 /**
- * An info item.
+ * An info item. This is decoded by the {@link InfoItemJsonAdapter}.
  *
  * @author Juta
  * @author Niko Strijbol
  */
 @SuppressWarnings("unused")
+@JsonClass(generateAdapter = true)
 public final class InfoItem implements Parcelable {
     
     private String title;
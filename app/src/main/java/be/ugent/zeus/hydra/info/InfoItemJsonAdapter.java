@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.info;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.squareup.moshi.*;
+
+/**
+ * Adapter for {@link InfoItem}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link JsonClass} annotation on the info item.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation, which only supports Kotlin. When
+ * adding a field to the info item, it must be added here as well.
+ *
+ * @author Niko Strijbol
+ */
+final class InfoItemJsonAdapter extends JsonAdapter<InfoItem> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "title",
+            "image",
+            "html",
+            "url",
+            "url-android",
+            "subcontent"
+    );
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<InfoItem>> listAdapter;
+
+    InfoItemJsonAdapter(Moshi moshi) {
+        this.stringAdapter = moshi.adapter(String.class);
+        // This is recursive, which Moshi resolves lazily.
+        this.listAdapter = moshi.adapter(Types.newParameterizedType(List.class, InfoItem.class));
+    }
+
+    @Override
+    public InfoItem fromJson(JsonReader reader) throws IOException {
+        InfoItem item = new InfoItem();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    item.setTitle(stringAdapter.fromJson(reader));
+                    break;
+                case 1:
+                    item.setImage(stringAdapter.fromJson(reader));
+                    break;
+                case 2:
+                    item.setHtml(stringAdapter.fromJson(reader));
+                    break;
+                case 3:
+                    item.setUrl(stringAdapter.fromJson(reader));
+                    break;
+                case 4:
+                    item.setUrlAndroid(stringAdapter.fromJson(reader));
+                    break;
+                case 5:
+                    item.setSubContent(listAdapter.fromJson(reader));
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return item;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable InfoItem value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("title");
+        stringAdapter.toJson(writer, value.getTitle());
+        writer.name("image");
+        stringAdapter.toJson(writer, value.getImage());
+        writer.name("html");
+        stringAdapter.toJson(writer, value.getHtml());
+        writer.name("url");
+        stringAdapter.toJson(writer, value.getUrl());
+        writer.name("url-android");
+        stringAdapter.toJson(writer, value.getUrlAndroid());
+        writer.name("subcontent");
+        listAdapter.toJson(writer, value.getSubContent());
+        writer.endObject();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(InfoItem)";
+    }
+}
@@ -27,10 +27,12 @@ import androidx.annotation.NonNull;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonArrayRequest;
+import be.ugent.zeus.hydra.common.network.StreamingList;
 
 /**
  * Request to get the information from the Zeus API.
@@ -64,4 +66,9 @@ class InfoRequest extends JsonArrayRequest<InfoItem> {
     public Duration getCacheDuration() {
         return ChronoUnit.WEEKS.getDuration().multipliedBy(4);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected StreamingList<?, List<InfoItem>> getStreamingList() {
+        return StreamingList.of(InfoItem.class);
+    }
+}
@@ -35,47 +35,51 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.converter.IntBoolean;
-import be.ugent.zeus.hydra.common.utils.NetworkUtils;
+import be.ugent.zeus.hydra.common.network.ConnectivityMonitor;
 import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonClass;
 
 /**
  * Model for a library.
  * <p>
  * A library is uniquely defined by it's code. The equals/hashCode methods operate on this assumption.
+ * <p>
+ * This is decoded by the {@link LibraryJsonAdapter}, so the fields are package-private.
  *
  * @author Niko Strijbol
  */
 @SuppressWarnings("WeakerAccess")
+@JsonClass(generateAdapter = true)
 public final class Library implements Parcelable {
     
     private static final String FALLBACK_HEADER = "https://picsum.photos/800/450?image=1073";
     private static final String FALLBACK_HEADER_SMALL = "https://picsum.photos/400/225?image=1073";
-    private String department;
-    private String email;
-    private List<String> address;
-    private String name;
+    String department;
+    String email;
+    List<String> address;
+    String name;
     @Json(name = "name_nl")
-    private String nameDutch;
+    String nameDutch;
     @Json(name = "name_en")
-    private String nameEnglish;
-    private String code;
-    private List<String> telephone;
+    String nameEnglish;
+    String code;
+    List<String> telephone;
     @IntBoolean
-    private boolean active;
+    boolean active;
     @Json(name = "thumbnail_url")
-    private String thumbnail;
+    String thumbnail;
     @Json(name = "image_url")
-    private String image;
+    String image;
     @Json(name = "lat")
-    private String latitude;
+    String latitude;
     @Json(name = "long")
-    private String longitude;
-    private List<String> comments;
-    private String contact;
-    private String campus;
-    private String faculty;
-    private String link;
-    private boolean favourite;
+    String longitude;
+    List<String> comments;
+    String contact;
+    String campus;
+    String faculty;
+    String link;
+    boolean favourite;
 
     public Library() {
         // No-args constructor
@@ -231,7 +235,7 @@ public final class Library implements Parcelable {
     @NonNull
     public String getHeaderImage(Context context) {
         // If data-saving is enabled, use the thumbnail instead of the full image.
-        if (NetworkUtils.isMeteredConnection(context)) {
+        if (ConnectivityMonitor.get(context).isMetered()) {
             if (getThumbnail() == null || getThumbnail().isEmpty()) {
                 return FALLBACK_HEADER_SMALL;
             } else {
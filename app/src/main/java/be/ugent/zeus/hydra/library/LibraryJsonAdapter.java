@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.library;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.List;
+
+import be.ugent.zeus.hydra.common.converter.IntBoolean;
+import com.squareup.moshi.*;
+
+/**
+ * Adapter for {@link Library}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link JsonClass} annotation on the library.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the
+ * library, it must be added here as well. Like the generated adapters, a JSON null for a primitive field results in
+ * a {@link JsonDataException}.
+ *
+ * @author Niko Strijbol
+ */
+final class LibraryJsonAdapter extends JsonAdapter<Library> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "department",
+            "email",
+            "address",
+            "name",
+            "name_nl",
+            "name_en",
+            "code",
+            "telephone",
+            "active",
+            "thumbnail_url",
+            "image_url",
+            "lat",
+            "long",
+            "comments",
+            "contact",
+            "campus",
+            "faculty",
+            "link",
+            "favourite"
+    );
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<List<String>> stringListAdapter;
+    private final JsonAdapter<Boolean> intBooleanAdapter;
+    private final JsonAdapter<Boolean> booleanAdapter;
+
+    LibraryJsonAdapter(Moshi moshi) {
+        this.stringAdapter = moshi.adapter(String.class);
+        this.stringListAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+        this.intBooleanAdapter = moshi.adapter(boolean.class, IntBoolean.class);
+        this.booleanAdapter = moshi.adapter(boolean.class);
+    }
+
+    @Override
+    public Library fromJson(JsonReader reader) throws IOException {
+        Library library = new Library();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    library.department = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    library.email = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    library.address = stringListAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    library.name = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    library.nameDutch = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    library.nameEnglish = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    library.code = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    library.telephone = stringListAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    Boolean active = intBooleanAdapter.fromJson(reader);
+                    if (active == null) {
+                        throw unexpectedNull("active", reader);
+                    }
+                    library.active = active;
+                    break;
+                case 9:
+                    library.thumbnail = stringAdapter.fromJson(reader);
+                    break;
+                case 10:
+                    library.image = stringAdapter.fromJson(reader);
+                    break;
+                case 11:
+                    library.latitude = stringAdapter.fromJson(reader);
+                    break;
+                case 12:
+                    library.longitude = stringAdapter.fromJson(reader);
+                    break;
+                case 13:
+                    library.comments = stringListAdapter.fromJson(reader);
+                    break;
+                case 14:
+                    library.contact = stringAdapter.fromJson(reader);
+                    break;
+                case 15:
+                    library.campus = stringAdapter.fromJson(reader);
+                    break;
+                case 16:
+                    library.faculty = stringAdapter.fromJson(reader);
+                    break;
+                case 17:
+                    library.link = stringAdapter.fromJson(reader);
+                    break;
+                case 18:
+                    Boolean favourite = booleanAdapter.fromJson(reader);
+                    if (favourite == null) {
+                        throw unexpectedNull("favourite", reader);
+                    }
+                    library.favourite = favourite;
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return library;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable Library value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("department");
+        stringAdapter.toJson(writer, value.department);
+        writer.name("email");
+        stringAdapter.toJson(writer, value.email);
+        writer.name("address");
+        stringListAdapter.toJson(writer, value.address);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("name_nl");
+        stringAdapter.toJson(writer, value.nameDutch);
+        writer.name("name_en");
+        stringAdapter.toJson(writer, value.nameEnglish);
+        writer.name("code");
+        stringAdapter.toJson(writer, value.code);
+        writer.name("telephone");
+        stringListAdapter.toJson(writer, value.telephone);
+        writer.name("active");
+        intBooleanAdapter.toJson(writer, value.active);
+        writer.name("thumbnail_url");
+        stringAdapter.toJson(writer, value.thumbnail);
+        writer.name("image_url");
+        stringAdapter.toJson(writer, value.image);
+        writer.name("lat");
+        stringAdapter.toJson(writer, value.latitude);
+        writer.name("long");
+        stringAdapter.toJson(writer, value.longitude);
+        writer.name("comments");
+        stringListAdapter.toJson(writer, value.comments);
+        writer.name("contact");
+        stringAdapter.toJson(writer, value.contact);
+        writer.name("campus");
+        stringAdapter.toJson(writer, value.campus);
+        writer.name("faculty");
+        stringAdapter.toJson(writer, value.faculty);
+        writer.name("link");
+        stringAdapter.toJson(writer, value.link);
+        writer.name("favourite");
+        booleanAdapter.toJson(writer, value.favourite);
+        writer.endObject();
+    }
+
+    /**
+     * @return The exception for a null value of a primitive field, with the same message as the generated adapters.
+     */
+    private static JsonDataException unexpectedNull(String name, JsonReader reader) {
+        return new JsonDataException("Non-null value '" + name + "' was null at " + reader.getPath());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(Library)";
+    }
+}
@@ -57,7 +57,7 @@ import be.ugent.zeus.hydra.common.reporting.BaseEvents;
 import be.ugent.zeus.hydra.common.reporting.Event;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
 import be.ugent.zeus.hydra.common.ui.BaseActivity;
-import be.ugent.zeus.hydra.common.ui.html.Utils;
+import be.ugent.zeus.hydra.common.ui.html.HtmlCache;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
 import be.ugent.zeus.hydra.common.utils.NetworkUtils;
 import be.ugent.zeus.hydra.common.utils.ViewUtils;
@@ -141,7 +141,7 @@ public class LibraryDetailActivity extends BaseActivity<ActivityLibraryDetailsBi
             binding.libraryRemarksDivider.setVisibility(View.GONE);
             binding.libraryRemarksTitle.setVisibility(View.GONE);
         } else {
-            binding.libraryRemarks.setText(Utils.fromHtml(comments));
+            HtmlCache.get().getSpanned(this, comments, remarks -> binding.libraryRemarks.setText(remarks));
             binding.expandableLayout.setExpanded(true, false);
         }
 
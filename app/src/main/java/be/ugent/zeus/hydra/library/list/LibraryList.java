@@ -58,6 +58,18 @@ public final class LibraryList implements Parcelable {
     public LibraryList() {
     }
 
+    /**
+     * Create a list containing only the given libraries, e.g. while the full list is still being decoded.
+     *
+     * @param libraries The libraries.
+     * @return The list.
+     */
+    static LibraryList withLibraries(List<Library> libraries) {
+        LibraryList list = new LibraryList();
+        list.libraries = libraries;
+        return list;
+    }
+
     private LibraryList(Parcel in) {
         this.name = in.readString();
         this.libraries = in.createTypedArrayList(Library.CREATOR);
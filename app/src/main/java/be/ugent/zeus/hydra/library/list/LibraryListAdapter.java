@@ -49,17 +49,7 @@ class LibraryListAdapter extends SearchableAdapter<Pair<Library, Boolean>, Libra
     private final LibraryViewModel viewModel;
 
     LibraryListAdapter(LibraryViewModel viewModel) {
-        super((pair, s) -> {
-            Library library = pair.first;
-            boolean contained = false;
-            if (library.getName() != null && library.getName().toLowerCase(Locale.getDefault()).contains(s)) {
-                contained = true;
-            }
-            if (library.getCampus() != null && library.getCampus().toLowerCase(Locale.getDefault()).contains(s)) {
-                contained = true;
-            }
-            return contained;
-        });
+        super(pair -> joinForSearch(pair.first.getName(), pair.first.getCampus()));
         this.viewModel = viewModel;
     }
 
@@ -30,6 +30,8 @@ import java.time.temporal.ChronoUnit;
 
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonOkHttpRequest;
+import be.ugent.zeus.hydra.common.network.StreamingList;
+import be.ugent.zeus.hydra.library.Library;
 
 /**
  * Get the list of libraries.
@@ -52,4 +54,9 @@ class LibraryListRequest extends JsonOkHttpRequest<LibraryList> {
     public Duration getCacheDuration() {
         return ChronoUnit.MONTHS.getDuration();
     }
-}
\ No newline at end of file
+
+    @Override
+    protected StreamingList<?, LibraryList> getStreamingList() {
+        return new StreamingList<>(Library.class, LibraryList::withLibraries, "libraries");
+    }
+}
@@ -35,6 +35,7 @@ import java.util.stream.Collectors;
 import be.ugent.zeus.hydra.common.arch.data.RequestLiveData;
 import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.request.Request;
+import be.ugent.zeus.hydra.common.ui.html.HtmlCache;
 import be.ugent.zeus.hydra.library.Library;
 import be.ugent.zeus.hydra.library.favourites.FavouritesRepository;
 
@@ -61,6 +62,11 @@ class LibraryLiveData extends RequestLiveData<List<Pair<Library, Boolean>>> impl
 
         return new LibraryListRequest(context).map(libraryList -> {
             Set<String> favourites = new HashSet<>(repository.getFavouriteIds());
+            // Render the remarks now, so opening the details of a library does not need to parse the HTML.
+            HtmlCache cache = HtmlCache.get();
+            for (Library library : libraryList.getLibraries()) {
+                cache.prepareSpanned(library.getCommentsAsString());
+            }
             // We sort favourites first and then faculty libraries and then by name.
             return libraryList.getLibraries().stream()
                     .map(library -> Pair.create(library, favourites.contains(library.getCode())))
@@ -27,22 +27,26 @@ import android.os.Parcelable;
 
 import be.ugent.zeus.hydra.common.ArticleViewer;
 import be.ugent.zeus.hydra.common.converter.DateTypeConverters;
+import com.squareup.moshi.JsonClass;
 
 import java.time.OffsetDateTime;
 import java.util.Objects;
 
 /**
+ * This is decoded by the {@link NewsArticleJsonAdapter}, so the fields are package-private.
+ *
  * @author Niko Strijbol
  */
+@JsonClass(generateAdapter = true)
 public final class NewsArticle implements Parcelable, ArticleViewer.Article {
     
-    private String content;
-    private String id;
-    private String link;
-    private OffsetDateTime published;
-    private String summary;
-    private String title;
-    private OffsetDateTime updated;
+    String content;
+    String id;
+    String link;
+    OffsetDateTime published;
+    String summary;
+    String title;
+    OffsetDateTime updated;
     
     public NewsArticle() {
         // Moshi constructor
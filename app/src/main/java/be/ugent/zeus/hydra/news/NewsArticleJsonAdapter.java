@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.news;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Adapter for {@link NewsArticle}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link com.squareup.moshi.JsonClass} annotation on the article.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the
+ * article, it must be added here as well.
+ *
+ * @author Niko Strijbol
+ */
+final class NewsArticleJsonAdapter extends JsonAdapter<NewsArticle> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "content",
+            "id",
+            "link",
+            "published",
+            "summary",
+            "title",
+            "updated"
+    );
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<OffsetDateTime> dateAdapter;
+
+    NewsArticleJsonAdapter(Moshi moshi) {
+        this.stringAdapter = moshi.adapter(String.class);
+        this.dateAdapter = moshi.adapter(OffsetDateTime.class).nullSafe();
+    }
+
+    @Override
+    public NewsArticle fromJson(JsonReader reader) throws IOException {
+        NewsArticle article = new NewsArticle();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    article.content = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    article.id = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    article.link = stringAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    article.published = dateAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    article.summary = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    article.title = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    article.updated = dateAdapter.fromJson(reader);
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return article;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable NewsArticle value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("content");
+        stringAdapter.toJson(writer, value.content);
+        writer.name("id");
+        stringAdapter.toJson(writer, value.id);
+        writer.name("link");
+        stringAdapter.toJson(writer, value.link);
+        writer.name("published");
+        dateAdapter.toJson(writer, value.published);
+        writer.name("summary");
+        stringAdapter.toJson(writer, value.summary);
+        writer.name("title");
+        stringAdapter.toJson(writer, value.title);
+        writer.name("updated");
+        dateAdapter.toJson(writer, value.updated);
+        writer.endObject();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(NewsArticle)";
+    }
+}
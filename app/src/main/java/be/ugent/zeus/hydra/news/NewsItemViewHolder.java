@@ -29,7 +29,7 @@ import android.widget.TextView;
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.ArticleViewer;
 import be.ugent.zeus.hydra.common.ui.customtabs.ActivityHelper;
-import be.ugent.zeus.hydra.common.ui.html.Utils;
+import be.ugent.zeus.hydra.common.ui.html.HtmlCache;
 import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
 
@@ -71,7 +71,7 @@ class NewsItemViewHolder extends DataViewHolder<NewsArticle> {
         info.setText(dateString);
 
         if (TextUtils.isEmpty(newsItem.getSummary())) {
-            excerpt.setText(Utils.fromHtml(newsItem.getContent()).toString().trim());
+            excerpt.setText(HtmlCache.get().getText(newsItem.getContent()));
         } else {
             excerpt.setText(newsItem.getSummary());
         }
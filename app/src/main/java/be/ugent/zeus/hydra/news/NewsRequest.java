@@ -56,4 +56,9 @@ public class NewsRequest extends JsonOkHttpRequest<NewsStream> {
     public Duration getCacheDuration() {
         return Duration.ofDays(1);
     }
+
+    @Override
+    protected boolean isStaleWhileRevalidate() {
+        return true;
+    }
 }
@@ -23,9 +23,11 @@
 package be.ugent.zeus.hydra.news;
 
 import android.app.Application;
+import android.text.TextUtils;
 import androidx.annotation.NonNull;
 
 import be.ugent.zeus.hydra.common.request.Request;
+import be.ugent.zeus.hydra.common.ui.html.HtmlCache;
 import be.ugent.zeus.hydra.common.ui.RequestViewModel;
 
 import java.util.List;
@@ -42,6 +44,15 @@ public class NewsViewModel extends RequestViewModel<List<NewsArticle>> {
     @NonNull
     @Override
     protected Request<List<NewsArticle>> getRequest() {
-        return new NewsRequest(getApplication()).map(NewsStream::getEntries);
+        return new NewsRequest(getApplication()).map(stream -> {
+            // Render the excerpts now, so binding the articles does not need to parse the HTML.
+            HtmlCache cache = HtmlCache.get();
+            for (NewsArticle article : stream.getEntries()) {
+                if (TextUtils.isEmpty(article.getSummary())) {
+                    cache.prepareText(article.getContent());
+                }
+            }
+            return stream.getEntries();
+        });
     }
 }
@@ -23,7 +23,9 @@
 package be.ugent.zeus.hydra.preferences;
 
 import android.content.Intent;
+import android.graphics.Typeface;
 import android.os.Bundle;
+import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.content.res.AppCompatResources;
 import androidx.preference.Preference;
@@ -32,11 +34,13 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import be.ugent.zeus.hydra.BuildConfig;
 import be.ugent.zeus.hydra.R;
+import be.ugent.zeus.hydra.common.network.metrics.NetworkMetrics;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
 import be.ugent.zeus.hydra.common.ui.PreferenceFragment;
 import be.ugent.zeus.hydra.common.ui.WebViewActivity;
 import be.ugent.zeus.hydra.common.utils.NetworkUtils;
 import be.ugent.zeus.hydra.wpi.EnableManager;
+import com.google.android.material.dialog.MaterialAlertDialogBuilder;
 
 /**
  * @author Niko Strijbol
@@ -66,6 +70,15 @@ public class AboutFragment extends PreferenceFragment {
             return false;
         });
 
+        if (NetworkMetrics.isEnabled()) {
+            Preference metrics = requirePreference("pref_about_network_metrics");
+            metrics.setVisible(true);
+            metrics.setOnPreferenceClickListener(preference -> {
+                showNetworkMetrics();
+                return true;
+            });
+        }
+
         // Ugly one-element array.
         final AtomicInteger counter = new AtomicInteger();
 
@@ -95,6 +108,29 @@ public class AboutFragment extends PreferenceFragment {
                 .setIcon(AppCompatResources.getDrawable(requireContext(), R.drawable.logo_ugent));
     }
 
+    private void showNetworkMetrics() {
+        NetworkMetrics metrics = NetworkMetrics.get();
+        String report = metrics.getReport();
+        TextView message = new MaterialAlertDialogBuilder(requireContext())
+                .setTitle(R.string.pref_about_network_metrics_title)
+                .setMessage(report)
+                .setPositiveButton(R.string.pref_about_network_metrics_share, (dialog, which) -> {
+                    Intent intent = new Intent(Intent.ACTION_SEND);
+                    intent.setType("text/plain");
+                    intent.putExtra(Intent.EXTRA_TEXT, report);
+                    startActivity(Intent.createChooser(intent, getString(R.string.pref_about_network_metrics_title)));
+                })
+                .setNeutralButton(R.string.pref_about_network_metrics_reset, (dialog, which) -> metrics.reset())
+                .setNegativeButton(android.R.string.cancel, null)
+                .show()
+                .findViewById(android.R.id.message);
+        // The report is a table.
+        if (message != null) {
+            message.setTypeface(Typeface.MONOSPACE);
+            message.setTextSize(10);
+        }
+    }
+
     @Override
     public void onResume() {
         super.onResume();
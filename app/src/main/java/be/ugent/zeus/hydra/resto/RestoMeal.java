@@ -27,12 +27,15 @@ import android.os.Parcelable;
 
 import java.util.Objects;
 
+import com.squareup.moshi.JsonClass;
+
 /**
  * Represents a meal.
  *
  * @author Niko Strijbol
  * @author Mitch
  */
+@JsonClass(generateAdapter = true)
 public final class RestoMeal implements Parcelable {
     public static String MENU_TYPE_MAIN = "main";
     public static String MENU_TYPE_SIDE = "side";
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.resto;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Adapter for {@link RestoMeal}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link com.squareup.moshi.JsonClass} annotation on the meal.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the meal,
+ * it must be added here as well.
+ *
+ * @author Niko Strijbol
+ */
+final class RestoMealJsonAdapter extends JsonAdapter<RestoMeal> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "name",
+            "price",
+            "type",
+            "kind"
+    );
+
+    private final JsonAdapter<String> stringAdapter;
+
+    RestoMealJsonAdapter(Moshi moshi) {
+        this.stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public RestoMeal fromJson(JsonReader reader) throws IOException {
+        RestoMeal meal = new RestoMeal();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    meal.setName(stringAdapter.fromJson(reader));
+                    break;
+                case 1:
+                    meal.setPrice(stringAdapter.fromJson(reader));
+                    break;
+                case 2:
+                    meal.setType(stringAdapter.fromJson(reader));
+                    break;
+                case 3:
+                    meal.setKind(stringAdapter.fromJson(reader));
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return meal;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable RestoMeal value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("name");
+        stringAdapter.toJson(writer, value.getName());
+        writer.name("price");
+        stringAdapter.toJson(writer, value.getPrice());
+        writer.name("type");
+        stringAdapter.toJson(writer, value.getType());
+        writer.name("kind");
+        stringAdapter.toJson(writer, value.getKind());
+        writer.endObject();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(RestoMeal)";
+    }
+}
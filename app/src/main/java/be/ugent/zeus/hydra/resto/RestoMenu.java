@@ -31,22 +31,27 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import com.squareup.moshi.JsonClass;
+
 /**
  * Represents a menu for a single day.
+ * <p>
+ * This is decoded by the {@link RestoMenuJsonAdapter}, so the fields are package-private.
  *
  * @author feliciaan
  * @author Niko Strijbol
  */
+@JsonClass(generateAdapter = true)
 public final class RestoMenu implements Parcelable {
     
-    private boolean open;
-    private LocalDate date;
-    private List<RestoMeal> meals;
+    boolean open;
+    LocalDate date;
+    List<RestoMeal> meals;
     private transient List<RestoMeal> mainDishes;
     private transient List<RestoMeal> coldDishes;
     private transient List<RestoMeal> soups;
-    private List<String> vegetables;
-    private String message;
+    List<String> vegetables;
+    String message;
 
     public RestoMenu() {
     }
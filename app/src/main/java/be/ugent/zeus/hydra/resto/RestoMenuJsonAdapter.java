@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.resto;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.squareup.moshi.*;
+
+/**
+ * Adapter for {@link RestoMenu}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link JsonClass} annotation on the menu.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the menu,
+ * it must be added here as well. The categories are not part of the JSON; they are calculated when first needed.
+ * Like the generated adapters, a JSON null for a primitive field results in a {@link JsonDataException}.
+ *
+ * @author Niko Strijbol
+ */
+final class RestoMenuJsonAdapter extends JsonAdapter<RestoMenu> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "open",
+            "date",
+            "meals",
+            "vegetables",
+            "message"
+    );
+
+    private final JsonAdapter<Boolean> booleanAdapter;
+    private final JsonAdapter<LocalDate> dateAdapter;
+    private final JsonAdapter<List<RestoMeal>> mealsAdapter;
+    private final JsonAdapter<List<String>> stringListAdapter;
+    private final JsonAdapter<String> stringAdapter;
+
+    RestoMenuJsonAdapter(Moshi moshi) {
+        this.booleanAdapter = moshi.adapter(boolean.class);
+        this.dateAdapter = moshi.adapter(LocalDate.class).nullSafe();
+        this.mealsAdapter = moshi.adapter(Types.newParameterizedType(List.class, RestoMeal.class));
+        this.stringListAdapter = moshi.adapter(Types.newParameterizedType(List.class, String.class));
+        this.stringAdapter = moshi.adapter(String.class);
+    }
+
+    @Override
+    public RestoMenu fromJson(JsonReader reader) throws IOException {
+        RestoMenu menu = new RestoMenu();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    Boolean open = booleanAdapter.fromJson(reader);
+                    if (open == null) {
+                        throw unexpectedNull("open", reader);
+                    }
+                    menu.open = open;
+                    break;
+                case 1:
+                    menu.date = dateAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    menu.meals = mealsAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    menu.vegetables = stringListAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    menu.message = stringAdapter.fromJson(reader);
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return menu;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable RestoMenu value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("open");
+        booleanAdapter.toJson(writer, value.open);
+        writer.name("date");
+        dateAdapter.toJson(writer, value.date);
+        writer.name("meals");
+        mealsAdapter.toJson(writer, value.meals);
+        writer.name("vegetables");
+        stringListAdapter.toJson(writer, value.vegetables);
+        writer.name("message");
+        stringAdapter.toJson(writer, value.message);
+        writer.endObject();
+    }
+
+    /**
+     * @return The exception for a null value of a primitive field, with the same message as the generated adapters.
+     */
+    private static JsonDataException unexpectedNull(String name, JsonReader reader) {
+        return new JsonDataException("Non-null value '" + name + "' was null at " + reader.getPath());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(RestoMenu)";
+    }
+}
@@ -23,15 +23,24 @@
 package be.ugent.zeus.hydra.resto.history;
 
 import android.content.Context;
+import android.os.Bundle;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
 import java.time.LocalDate;
 import java.util.Locale;
+import java.util.function.Consumer;
 
+import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonOkHttpRequest;
+import be.ugent.zeus.hydra.common.request.Result;
+import be.ugent.zeus.hydra.common.ui.widgets.MenuTable;
 import be.ugent.zeus.hydra.resto.RestoChoice;
 import be.ugent.zeus.hydra.resto.RestoMenu;
+import be.ugent.zeus.hydra.resto.storage.MenuRepository;
 
 
 /**
@@ -39,6 +48,10 @@ import be.ugent.zeus.hydra.resto.RestoMenu;
  * <p>
  * If not properly initialised before use (call {@link #setChoice(RestoChoice)} and {@link #setDate(LocalDate)}, it
  * will throw {@link IllegalStateException}s when used.
+ * <p>
+ * The request first looks in the {@link MenuRepository}, which is also filled by the overview request. Past menus do
+ * not change, so a stored past menu is returned without asking the server. For other days, the stored menu is reported
+ * as intermediary result, and used if the network request fails. Menus received from the server are saved.
  *
  * @author Niko Strijbol
  */
@@ -46,11 +59,13 @@ public class DayRequest extends JsonOkHttpRequest<RestoMenu> {
 
     private static final String OVERVIEW_URL = Endpoints.ZEUS_V2 + "resto/menu/%s/%d/%d/%d.json";
 
+    private final MenuRepository repository;
     private LocalDate date;
     private RestoChoice choice;
 
     public DayRequest(Context context) {
         super(context, RestoMenu.class);
+        this.repository = Database.get(context).getMenuRepository();
     }
 
     public void setDate(LocalDate date) {
@@ -65,6 +80,51 @@ public class DayRequest extends JsonOkHttpRequest<RestoMenu> {
         return date != null && choice != null;
     }
 
+    @NonNull
+    @Override
+    @WorkerThread
+    public Result<RestoMenu> execute(@NonNull Bundle args) {
+        return executeWithStore(args, null);
+    }
+
+    @NonNull
+    @Override
+    @WorkerThread
+    public Result<RestoMenu> execute(@NonNull Bundle args, @NonNull Consumer<Result<RestoMenu>> partialListener) {
+        return executeWithStore(args, partialListener);
+    }
+
+    @NonNull
+    private Result<RestoMenu> executeWithStore(@NonNull Bundle args, @Nullable Consumer<Result<RestoMenu>> listener) {
+        if (!isSetup()) {
+            // Let the request throw the appropriate exception.
+            return super.execute(args);
+        }
+
+        String endpoint = choice.getEndpoint();
+        RestoMenu stored = repository.getMenu(endpoint, date);
+        if (stored != null && !args.getBoolean(BaseLiveData.REFRESH_COLD, false)) {
+            Result<RestoMenu> storedResult = Result.Builder.fromData(MenuTable.prepare(stored));
+            if (date.isBefore(LocalDate.now())) {
+                return storedResult;
+            } else if (listener != null) {
+                listener.accept(storedResult.asPartial());
+            }
+        }
+
+        Result<RestoMenu> result = super.execute(args);
+        if (!result.hasData() && stored != null) {
+            result = result.updateWith(Result.Builder.fromData(stored));
+        }
+        return result.map(MenuTable::prepare);
+    }
+
+    @Override
+    @WorkerThread
+    protected void onNetworkData(@NonNull RestoMenu data) {
+        repository.save(choice.getEndpoint(), data);
+    }
+
     @NonNull
     @Override
     protected String getAPIUrl() {
@@ -23,19 +23,32 @@
 package be.ugent.zeus.hydra.resto.menu;
 
 import android.content.Context;
+import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
 
 import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Locale;
+import java.util.function.Consumer;
 
 import be.ugent.zeus.hydra.R;
+import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
+import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonArrayRequest;
+import be.ugent.zeus.hydra.common.request.Result;
 import be.ugent.zeus.hydra.resto.RestoMenu;
+import be.ugent.zeus.hydra.resto.storage.MenuRepository;
 
 /**
  * Request for the menu's of the resto's.
+ * <p>
+ * Menus received from the server are saved in the {@link MenuRepository}. The stored upcoming menus are reported as
+ * intermediary result while the network request is running, and are used instead if the network request fails. This
+ * way, the menus are available offline, and the history can show the days of the overview without asking the server.
  *
  * @author mivdnber
  */
@@ -45,21 +58,68 @@ public class MenuRequest extends JsonArrayRequest<RestoMenu> {
     static final String OVERVIEW_URL = Endpoints.ZEUS_V2 + "resto/menu/%s/overview.json";
 
     private final Context context;
+    private final MenuRepository repository;
 
     public MenuRequest(Context context) {
         super(context, RestoMenu.class);
         this.context = context.getApplicationContext();
+        this.repository = Database.get(context).getMenuRepository();
+    }
+
+    @NonNull
+    @Override
+    @WorkerThread
+    public Result<List<RestoMenu>> execute(@NonNull Bundle args) {
+        Result<List<RestoMenu>> result = super.execute(args);
+        if (result.hasData()) {
+            return result;
+        }
+        List<RestoMenu> stored = repository.getMenusFrom(getEndpoint(), LocalDate.now());
+        if (stored.isEmpty()) {
+            return result;
+        }
+        // Keep the error, so the user knows the menus might be outdated.
+        return result.updateWith(Result.Builder.fromData(stored));
+    }
+
+    @NonNull
+    @Override
+    @WorkerThread
+    public Result<List<RestoMenu>> execute(@NonNull Bundle args,
+                                           @NonNull Consumer<Result<List<RestoMenu>>> partialListener) {
+        if (!args.getBoolean(BaseLiveData.REFRESH_COLD, false)) {
+            List<RestoMenu> stored = repository.getMenusFrom(getEndpoint(), LocalDate.now());
+            if (!stored.isEmpty()) {
+                partialListener.accept(Result.Builder.fromData(stored).asPartial());
+                return execute(args);
+            }
+        }
+        return super.execute(args, partialListener);
+    }
+
+    @Override
+    @WorkerThread
+    protected void onNetworkData(@NonNull List<RestoMenu> data) {
+        repository.save(getEndpoint(), data);
     }
 
     @NonNull
     @Override
     protected String getAPIUrl() {
-        String resto = context.getString(R.string.value_resto_endpoint);
-        return String.format(Locale.ROOT, OVERVIEW_URL, resto);
+        return String.format(Locale.ROOT, OVERVIEW_URL, getEndpoint());
+    }
+
+    private String getEndpoint() {
+        return context.getString(R.string.value_resto_endpoint);
     }
 
     @Override
     public Duration getCacheDuration() {
         return Duration.ofMinutes(10);
     }
+
+    @Override
+    protected boolean isStaleWhileRevalidate() {
+        return true;
+    }
 }
@@ -29,6 +29,7 @@ import java.util.List;
 
 import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.ui.RequestViewModel;
+import be.ugent.zeus.hydra.common.ui.widgets.MenuTable;
 import be.ugent.zeus.hydra.resto.RestoMenu;
 
 /**
@@ -43,6 +44,6 @@ public class MenuViewModel extends RequestViewModel<List<RestoMenu>> {
     @NonNull
     @Override
     protected Request<List<RestoMenu>> getRequest() {
-        return new MenuRequest(getApplication());
+        return new MenuRequest(getApplication()).map(MenuTable::prepareAll);
     }
 }
\ No newline at end of file
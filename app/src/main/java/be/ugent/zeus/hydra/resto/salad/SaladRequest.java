@@ -33,8 +33,8 @@ import be.ugent.zeus.hydra.resto.sandwich.regular.RegularSandwich;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Responsible for getting the list of salad bowls.
@@ -50,10 +50,10 @@ class SaladRequest extends JsonArrayRequest<SaladBowl> {
     @NonNull
     @Override
     public Result<List<SaladBowl>> execute(@NonNull Bundle args) {
-        return super.execute(args).map(sandwiches -> {
-            Collections.sort(sandwiches, (o1, o2) -> o1.getName().compareToIgnoreCase(o2.getName()));
-            return sandwiches;
-        });
+        // The data is shared with other requests, so do not sort it in place.
+        return super.execute(args).map(sandwiches -> sandwiches.stream()
+                .sorted((o1, o2) -> o1.getName().compareToIgnoreCase(o2.getName()))
+                .collect(Collectors.toList()));
     }
 
     @NonNull
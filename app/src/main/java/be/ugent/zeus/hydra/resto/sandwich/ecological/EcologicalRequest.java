@@ -28,9 +28,9 @@ import androidx.annotation.NonNull;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonArrayRequest;
@@ -50,10 +50,10 @@ class EcologicalRequest extends JsonArrayRequest<EcologicalSandwich> {
     @NonNull
     @Override
     public Result<List<EcologicalSandwich>> execute(@NonNull Bundle args) {
-        return super.execute(args).map(sandwiches -> {
-            Collections.sort(sandwiches, Comparator.comparing(EcologicalSandwich::getStart));
-            return sandwiches;
-        });
+        // The data is shared with other requests, so do not sort it in place.
+        return super.execute(args).map(sandwiches -> sandwiches.stream()
+                .sorted(Comparator.comparing(EcologicalSandwich::getStart))
+                .collect(Collectors.toList()));
     }
 
     @NonNull
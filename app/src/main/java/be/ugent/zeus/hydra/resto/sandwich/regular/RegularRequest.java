@@ -28,8 +28,8 @@ import androidx.annotation.NonNull;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
-import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.network.Endpoints;
 import be.ugent.zeus.hydra.common.network.JsonArrayRequest;
@@ -49,10 +49,10 @@ class RegularRequest extends JsonArrayRequest<RegularSandwich> {
     @NonNull
     @Override
     public Result<List<RegularSandwich>> execute(@NonNull Bundle args) {
-        return super.execute(args).map(sandwiches -> {
-            Collections.sort(sandwiches, (o1, o2) -> o1.getName().compareToIgnoreCase(o2.getName()));
-            return sandwiches;
-        });
+        // The data is shared with other requests, so do not sort it in place.
+        return super.execute(args).map(sandwiches -> sandwiches.stream()
+                .sorted((o1, o2) -> o1.getName().compareToIgnoreCase(o2.getName()))
+                .collect(Collectors.toList()));
     }
 
     @NonNull
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.resto.storage;
+
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.room.*;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+import be.ugent.zeus.hydra.common.network.InstanceProvider;
+import be.ugent.zeus.hydra.resto.RestoMenu;
+import com.squareup.moshi.JsonAdapter;
+
+/**
+ * Repository for the resto menus we have received from the server.
+ * <p>
+ * Menus are stored per resto endpoint and per day. Saving a menu for a day that is already stored replaces it, so the
+ * repository always has the newest version we have seen. Upcoming menus are kept until they are in the past; past
+ * menus are kept for {@link #HISTORY_DAYS} days, which is what the history screen can show without network.
+ *
+ * @author Niko Strijbol
+ */
+@Dao
+public abstract class MenuRepository {
+
+    private static final String TAG = "MenuRepository";
+
+    /**
+     * How many days of past menus are kept.
+     */
+    static final int HISTORY_DAYS = 90;
+
+    @Query("SELECT * FROM " + StoredMenuTable.TABLE_NAME + " WHERE " + StoredMenuTable.Columns.ENDPOINT + " = :endpoint"
+            + " AND " + StoredMenuTable.Columns.DATE + " BETWEEN :from AND :to"
+            + " ORDER BY " + StoredMenuTable.Columns.DATE)
+    abstract List<StoredMenu> getStored(String endpoint, LocalDate from, LocalDate to);
+
+    @Query("SELECT * FROM " + StoredMenuTable.TABLE_NAME + " WHERE " + StoredMenuTable.Columns.ENDPOINT + " = :endpoint"
+            + " AND " + StoredMenuTable.Columns.DATE + " >= :from ORDER BY " + StoredMenuTable.Columns.DATE)
+    abstract List<StoredMenu> getStoredFrom(String endpoint, LocalDate from);
+
+    @Query("SELECT * FROM " + StoredMenuTable.TABLE_NAME + " WHERE " + StoredMenuTable.Columns.ENDPOINT + " = :endpoint"
+            + " AND " + StoredMenuTable.Columns.DATE + " = :date")
+    abstract StoredMenu getStoredOn(String endpoint, LocalDate date);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    abstract void insert(List<StoredMenu> menus);
+
+    @Query("DELETE FROM " + StoredMenuTable.TABLE_NAME + " WHERE " + StoredMenuTable.Columns.DATE + " < :date")
+    abstract int deleteBefore(LocalDate date);
+
+    /**
+     * Get the stored menus between two days (both inclusive), sorted by date.
+     *
+     * @param endpoint The endpoint of the resto.
+     * @param from     The first day.
+     * @param to       The last day.
+     *
+     * @return The menus, possibly empty. Days without a stored menu are not included.
+     */
+    @NonNull
+    @WorkerThread
+    public List<RestoMenu> getMenus(@NonNull String endpoint, @NonNull LocalDate from, @NonNull LocalDate to) {
+        return decode(getStored(endpoint, from, to));
+    }
+
+    /**
+     * Get the stored menus from a day onwards, sorted by date.
+     *
+     * @param endpoint The endpoint of the resto.
+     * @param from     The first day.
+     *
+     * @return The menus, possibly empty.
+     */
+    @NonNull
+    @WorkerThread
+    public List<RestoMenu> getMenusFrom(@NonNull String endpoint, @NonNull LocalDate from) {
+        return decode(getStoredFrom(endpoint, from));
+    }
+
+    /**
+     * Get the stored menu for a day.
+     *
+     * @param endpoint The endpoint of the resto.
+     * @param date     The day.
+     *
+     * @return The menu, or {@code null} if there is none.
+     */
+    @Nullable
+    @WorkerThread
+    public RestoMenu getMenu(@NonNull String endpoint, @NonNull LocalDate date) {
+        StoredMenu stored = getStoredOn(endpoint, date);
+        if (stored == null) {
+            return null;
+        }
+        return decode(stored);
+    }
+
+    /**
+     * Save menus received from the server. Menus that are identical to the stored version are not written again.
+     * Afterwards, menus older than the history window are removed.
+     *
+     * @param endpoint The endpoint of the resto.
+     * @param menus    The menus. Menus without date are ignored.
+     */
+    @Transaction
+    @WorkerThread
+    public void save(@NonNull String endpoint, @NonNull List<RestoMenu> menus) {
+        LocalDate first = null;
+        LocalDate last = null;
+        for (RestoMenu menu : menus) {
+            LocalDate date = menu.getDate();
+            if (date == null) {
+                continue;
+            }
+            if (first == null || date.isBefore(first)) {
+                first = date;
+            }
+            if (last == null || date.isAfter(last)) {
+                last = date;
+            }
+        }
+        if (first == null) {
+            return;
+        }
+
+        Map<LocalDate, String> existing = new HashMap<>();
+        for (StoredMenu stored : getStored(endpoint, first, last)) {
+            existing.put(stored.getDate(), stored.getMenu());
+        }
+
+        JsonAdapter<RestoMenu> adapter = getAdapter();
+        Instant now = Instant.now();
+        List<StoredMenu> changed = new ArrayList<>();
+        for (RestoMenu menu : menus) {
+            if (menu.getDate() == null) {
+                continue;
+            }
+            String json = adapter.toJson(menu);
+            if (!json.equals(existing.get(menu.getDate()))) {
+                changed.add(new StoredMenu(endpoint, menu.getDate(), json, now));
+            }
+        }
+        if (!changed.isEmpty()) {
+            insert(changed);
+        }
+        deleteBefore(LocalDate.now().minusDays(HISTORY_DAYS));
+    }
+
+    /**
+     * @see #save(String, List)
+     */
+    @WorkerThread
+    public void save(@NonNull String endpoint, @NonNull RestoMenu menu) {
+        save(endpoint, Collections.singletonList(menu));
+    }
+
+    private static List<RestoMenu> decode(List<StoredMenu> stored) {
+        List<RestoMenu> result = new ArrayList<>(stored.size());
+        for (StoredMenu menu : stored) {
+            RestoMenu decoded = decode(menu);
+            if (decoded != null) {
+                result.add(decoded);
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static RestoMenu decode(StoredMenu stored) {
+        try {
+            return getAdapter().fromJson(stored.getMenu());
+        } catch (IOException | RuntimeException e) {
+            // The stored menu is only a copy, so we can ignore it. It will be replaced on the next fetch.
+            Log.w(TAG, "Could not read stored menu for " + stored.getDate(), e);
+            return null;
+        }
+    }
+
+    private static JsonAdapter<RestoMenu> getAdapter() {
+        return InstanceProvider.getMoshi().adapter(RestoMenu.class);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.resto.storage;
+
+import androidx.annotation.NonNull;
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * A menu of one resto for one day, as stored in the database.
+ * <p>
+ * The menu itself is saved as the JSON we received from the server. Nothing queries the individual meals, and this
+ * way the table does not need a migration every time the menu gains a field.
+ *
+ * @author Niko Strijbol
+ */
+@Entity(
+        tableName = StoredMenuTable.TABLE_NAME,
+        primaryKeys = {StoredMenuTable.Columns.ENDPOINT, StoredMenuTable.Columns.DATE}
+)
+public final class StoredMenu {
+
+    /**
+     * The endpoint of the resto, e.g. {@code nl}. See {@link be.ugent.zeus.hydra.resto.RestoChoice#getEndpoint()}.
+     */
+    @NonNull
+    @ColumnInfo(name = StoredMenuTable.Columns.ENDPOINT)
+    private final String endpoint;
+
+    @NonNull
+    @ColumnInfo(name = StoredMenuTable.Columns.DATE)
+    private final LocalDate date;
+
+    /**
+     * The menu, as JSON.
+     */
+    @NonNull
+    @ColumnInfo(name = StoredMenuTable.Columns.MENU)
+    private final String menu;
+
+    /**
+     * When this version of the menu was received from the server.
+     */
+    @NonNull
+    @ColumnInfo(name = StoredMenuTable.Columns.FETCHED_AT)
+    private final Instant fetchedAt;
+
+    public StoredMenu(@NonNull String endpoint, @NonNull LocalDate date,
+                      @NonNull String menu, @NonNull Instant fetchedAt) {
+        this.endpoint = endpoint;
+        this.date = date;
+        this.menu = menu;
+        this.fetchedAt = fetchedAt;
+    }
+
+    @NonNull
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    @NonNull
+    public LocalDate getDate() {
+        return date;
+    }
+
+    @NonNull
+    public String getMenu() {
+        return menu;
+    }
+
+    @NonNull
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StoredMenu that = (StoredMenu) o;
+        return endpoint.equals(that.endpoint) && date.equals(that.date) && menu.equals(that.menu);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(endpoint, date, menu);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.resto.storage;
+
+/**
+ * Contract for the table with stored resto menus. This represents the current table and column names. These might
+ * changes, so you CANNOT use this class in migrations.
+ * <p>
+ * For a description of the fields, see {@link StoredMenu}.
+ *
+ * @author Niko Strijbol
+ */
+public final class StoredMenuTable {
+
+    public static final String TABLE_NAME = "resto_menus";
+
+    private StoredMenuTable() {
+        // No instances.
+    }
+
+    public interface Columns {
+        String ENDPOINT = "endpoint";
+        String DATE = "date";
+        String MENU = "menu";
+        String FETCHED_AT = "fetched_at";
+    }
+}
@@ -36,29 +36,33 @@ import be.ugent.zeus.hydra.common.ArticleViewer;
 import be.ugent.zeus.hydra.common.converter.DateTypeConverters;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
 import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonClass;
 
 /**
  * A Schamper article.
+ * <p>
+ * This is decoded by the {@link ArticleJsonAdapter}, so the fields are package-private.
  *
  * @author Niko Strijbol
  * @author Feliciaan
  * @see <a href="https://schamper.ugent.be">The Schamper website</a>
  */
 @SuppressWarnings("unused")
+@JsonClass(generateAdapter = true)
 public final class Article implements Parcelable, ArticleViewer.Article {
     
     private static final Pattern IMAGE_REPLACEMENT = Pattern.compile("/regulier/", Pattern.LITERAL);
-    private String title;
-    private String link;
+    String title;
+    String link;
     @Json(name = "pub_date")
-    private OffsetDateTime pubDate;
-    private String author;
-    private String body;
-    private String image;
-    private String category;
-    private String intro;
+    OffsetDateTime pubDate;
+    String author;
+    String body;
+    String image;
+    String category;
+    String intro;
     @Json(name = "category_color")
-    private String categoryColour;
+    String categoryColour;
 
     public Article() {
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.schamper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Adapter for {@link Article}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link com.squareup.moshi.JsonClass} annotation on the article.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the
+ * article, it must be added here as well.
+ *
+ * @author Niko Strijbol
+ */
+final class ArticleJsonAdapter extends JsonAdapter<Article> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "title",
+            "link",
+            "pub_date",
+            "author",
+            "body",
+            "image",
+            "category",
+            "intro",
+            "category_color"
+    );
+
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<OffsetDateTime> dateAdapter;
+
+    ArticleJsonAdapter(Moshi moshi) {
+        this.stringAdapter = moshi.adapter(String.class);
+        this.dateAdapter = moshi.adapter(OffsetDateTime.class).nullSafe();
+    }
+
+    @Override
+    public Article fromJson(JsonReader reader) throws IOException {
+        Article article = new Article();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    article.title = stringAdapter.fromJson(reader);
+                    break;
+                case 1:
+                    article.link = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    article.pubDate = dateAdapter.fromJson(reader);
+                    break;
+                case 3:
+                    article.author = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    article.body = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    article.image = stringAdapter.fromJson(reader);
+                    break;
+                case 6:
+                    article.category = stringAdapter.fromJson(reader);
+                    break;
+                case 7:
+                    article.intro = stringAdapter.fromJson(reader);
+                    break;
+                case 8:
+                    article.categoryColour = stringAdapter.fromJson(reader);
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return article;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable Article value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("title");
+        stringAdapter.toJson(writer, value.title);
+        writer.name("link");
+        stringAdapter.toJson(writer, value.link);
+        writer.name("pub_date");
+        dateAdapter.toJson(writer, value.pubDate);
+        writer.name("author");
+        stringAdapter.toJson(writer, value.author);
+        writer.name("body");
+        stringAdapter.toJson(writer, value.body);
+        writer.name("image");
+        stringAdapter.toJson(writer, value.image);
+        writer.name("category");
+        stringAdapter.toJson(writer, value.category);
+        writer.name("intro");
+        stringAdapter.toJson(writer, value.intro);
+        writer.name("category_color");
+        stringAdapter.toJson(writer, value.categoryColour);
+        writer.endObject();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(Article)";
+    }
+}
@@ -31,11 +31,11 @@ import androidx.cardview.widget.CardView;
 
 import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.ArticleViewer;
+import be.ugent.zeus.hydra.common.network.ConnectivityMonitor;
 import be.ugent.zeus.hydra.common.ui.customtabs.ActivityHelper;
 import be.ugent.zeus.hydra.common.ui.recyclerview.viewholders.DataViewHolder;
 import be.ugent.zeus.hydra.common.utils.ColourUtils;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
-import be.ugent.zeus.hydra.common.utils.NetworkUtils;
 import com.squareup.picasso.Picasso;
 
 /**
@@ -104,7 +104,7 @@ class SchamperViewHolder extends DataViewHolder<Article> {
             setDefaultColours();
         }
 
-        if (NetworkUtils.isMeteredConnection(itemView.getContext())) {
+        if (ConnectivityMonitor.get(itemView.getContext()).isMetered()) {
             Picasso.get().load(article.getImage()).into(image);
         } else {
             Picasso.get().load(article.getLargeImage()).into(image);
@@ -26,7 +26,8 @@ import android.annotation.SuppressLint;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.graphics.BitmapFactory;
-import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.v4.media.MediaMetadataCompat;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
@@ -36,6 +37,7 @@ import java.io.InputStream;
 import java.util.function.Consumer;
 
 import be.ugent.zeus.hydra.R;
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
 import be.ugent.zeus.hydra.common.network.InstanceProvider;
 import be.ugent.zeus.hydra.common.request.Request;
 import be.ugent.zeus.hydra.common.request.Result;
@@ -52,13 +54,13 @@ public class UrgentTrackProvider {
     public static final String METADATA_DESCRIPTION = "meta_description";
     static final String URGENT_ID = "be.ugent.zeus.hydra.urgent";
     private final Context context;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private MediaMetadataCompat track;
 
     UrgentTrackProvider(Context context) {
         this.context = context.getApplicationContext();
     }
 
-    @SuppressLint("StaticFieldLeak")
     public void prepareMedia(@NonNull Consumer<MediaMetadataCompat> callback) {
 
         if (hasTrackInformation()) {
@@ -66,19 +68,10 @@ public class UrgentTrackProvider {
             return;
         }
 
-        new AsyncTask<Void, Void, Void>() {
-            @Override
-            protected Void doInBackground(Void... voids) {
-                loadData();
-                return null;
-            }
-
-            @Override
-            protected void onPostExecute(Void aVoid) {
-                super.onPostExecute(aVoid);
-                callback.accept(track);
-            }
-        }.execute();
+        RequestScheduler.getInstance().schedule(RequestScheduler.Priority.VISIBLE, "UrgentTrackProvider", () -> {
+            loadData();
+            mainHandler.post(() -> callback.accept(track));
+        });
     }
 
     public boolean hasTrackInformation() {
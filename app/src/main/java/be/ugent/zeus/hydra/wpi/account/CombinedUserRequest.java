@@ -52,7 +52,7 @@ public class CombinedUserRequest implements Request<CombinedUser> {
     @NonNull
     @Override
     public Result<CombinedUser> execute(@NonNull Bundle args) {
-        return tabUserRequest.andThen(tapUserRequest).map(p -> {
+        return tabUserRequest.zip(tapUserRequest).map(p -> {
             CombinedUser user = new CombinedUser();
             user.setName(p.second.getName());
             user.setId(p.second.getId());
@@ -59,8 +59,8 @@ class CartRequest implements Request<Cart> {
     @Override
     public Result<Cart> execute(@NonNull Bundle args) {
         return productRequest
-                .andThen(existingCartRequest)
-                .andThen(barcodeRequest)
+                .zip(existingCartRequest)
+                .zip(barcodeRequest)
                 .map(pair -> {
                     Map<Integer, Product> productMap = pair.first.first.stream().collect(Collectors.toMap(Product::getId, Function.identity()));
                     Map<String, Integer> barcodeToProduct = pair.second.stream().collect(Collectors.toMap(Barcode::getCode, Barcode::getProductId));
@@ -23,6 +23,7 @@
 package be.ugent.zeus.hydra.wpi.tap.product;
 
 import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonClass;
 
 import java.math.BigDecimal;
 import java.util.Locale;
@@ -32,22 +33,25 @@ import be.ugent.zeus.hydra.common.network.Endpoints;
 
 /**
  * Product from Tab
+ * <p>
+ * This is decoded by the {@link ProductJsonAdapter}, so the fields are package-private.
  *
  * @author Niko Strijbol
  */
+@JsonClass(generateAdapter = true)
 public class Product {
 
     private static final String IMAGE_URL = "system/products/avatars/%s/%s/%s/medium/%s";
 
-    private int id;
-    private String name;
+    int id;
+    String name;
     @Json(name = "price_cents")
-    private int price;
+    int price;
     @Json(name = "avatar_file_name")
-    private String avatarFileName;
-    private String category;
-    private int stock;
-    private Integer calories;
+    String avatarFileName;
+    String category;
+    int stock;
+    Integer calories;
 
     public Product() {
         // Moshi
@@ -27,7 +27,6 @@ import android.view.ViewGroup;
 import androidx.annotation.NonNull;
 
 import java.util.List;
-import java.util.Locale;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -51,7 +50,7 @@ public class ProductAdapter extends SearchableAdapter<Product, ProductViewHolder
     }
     
     public ProductAdapter(Consumer<Product> onClickListener) {
-        super(p -> p.getName().toLowerCase(Locale.getDefault()));
+        super(Product::getName);
         this.onClickListener = onClickListener;
     }
 
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.wpi.tap.product;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.JsonReader;
+import com.squareup.moshi.JsonWriter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Adapter for {@link Product}, which avoids the reflection of Moshi's default adapter. Moshi finds this adapter
+ * through the {@link com.squareup.moshi.JsonClass} annotation on the product.
+ * <p>
+ * The structure is the same as the adapters generated by Moshi's code generation. When adding a field to the
+ * product, it must be added here as well. Like the generated adapters, a JSON null for a primitive field results in
+ * a {@link JsonDataException}.
+ *
+ * @author Niko Strijbol
+ */
+final class ProductJsonAdapter extends JsonAdapter<Product> {
+
+    private static final JsonReader.Options OPTIONS = JsonReader.Options.of(
+            "id",
+            "name",
+            "price_cents",
+            "avatar_file_name",
+            "category",
+            "stock",
+            "calories"
+    );
+
+    private final JsonAdapter<Integer> intAdapter;
+    private final JsonAdapter<String> stringAdapter;
+    private final JsonAdapter<Integer> nullableIntAdapter;
+
+    ProductJsonAdapter(Moshi moshi) {
+        this.intAdapter = moshi.adapter(int.class);
+        this.stringAdapter = moshi.adapter(String.class);
+        this.nullableIntAdapter = moshi.adapter(Integer.class);
+    }
+
+    @Override
+    public Product fromJson(JsonReader reader) throws IOException {
+        Product product = new Product();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.selectName(OPTIONS)) {
+                case 0:
+                    Integer id = intAdapter.fromJson(reader);
+                    if (id == null) {
+                        throw unexpectedNull("id", reader);
+                    }
+                    product.id = id;
+                    break;
+                case 1:
+                    product.name = stringAdapter.fromJson(reader);
+                    break;
+                case 2:
+                    Integer price = intAdapter.fromJson(reader);
+                    if (price == null) {
+                        throw unexpectedNull("price", reader);
+                    }
+                    product.price = price;
+                    break;
+                case 3:
+                    product.avatarFileName = stringAdapter.fromJson(reader);
+                    break;
+                case 4:
+                    product.category = stringAdapter.fromJson(reader);
+                    break;
+                case 5:
+                    Integer stock = intAdapter.fromJson(reader);
+                    if (stock == null) {
+                        throw unexpectedNull("stock", reader);
+                    }
+                    product.stock = stock;
+                    break;
+                case 6:
+                    product.calories = nullableIntAdapter.fromJson(reader);
+                    break;
+                case -1:
+                    reader.skipName();
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return product;
+    }
+
+    @Override
+    public void toJson(@NonNull JsonWriter writer, @Nullable Product value) throws IOException {
+        if (value == null) {
+            throw new NullPointerException("value was null! Wrap in .nullSafe() to write nullable values.");
+        }
+        writer.beginObject();
+        writer.name("id");
+        intAdapter.toJson(writer, value.id);
+        writer.name("name");
+        stringAdapter.toJson(writer, value.name);
+        writer.name("price_cents");
+        intAdapter.toJson(writer, value.price);
+        writer.name("avatar_file_name");
+        stringAdapter.toJson(writer, value.avatarFileName);
+        writer.name("category");
+        stringAdapter.toJson(writer, value.category);
+        writer.name("stock");
+        intAdapter.toJson(writer, value.stock);
+        writer.name("calories");
+        nullableIntAdapter.toJson(writer, value.calories);
+        writer.endObject();
+    }
+
+    /**
+     * @return The exception for a null value of a primitive field, with the same message as the generated adapters.
+     */
+    private static JsonDataException unexpectedNull(String name, JsonReader reader) {
+        return new JsonDataException("Non-null value '" + name + "' was null at " + reader.getPath());
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return "JsonAdapter(Product)";
+    }
+}
@@ -22,14 +22,17 @@
 
 package be.ugent.zeus.hydra.association.event;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
 import be.ugent.zeus.hydra.common.ModelTest;
+import be.ugent.zeus.hydra.common.network.InstanceProvider;
 import be.ugent.zeus.hydra.common.utils.DateUtils;
 import be.ugent.zeus.hydra.testing.Utils;
+import com.squareup.moshi.JsonAdapter;
 import org.junit.Test;
 
 import static org.junit.Assert.*;
@@ -135,4 +138,23 @@ public class EventTest extends ModelTest<Event> {
     public void equalsAndHash() {
         Utils.defaultVerifier(Event.class).withOnlyTheseFields("id").verify();
     }
+
+    @Test
+    public void shouldDecode_withEventAdapter() throws IOException {
+        JsonAdapter<Event> adapter = InstanceProvider.getMoshi().adapter(Event.class);
+        String json = "{\"id\": 5, \"title\": \"Test\", \"start_time\": \"2022-10-17T10:00:00+02:00\", "
+                + "\"end_time\": null, \"infolink\": \"https://zeus.ugent.be\", \"unknown\": {\"a\": [1]}, "
+                + "\"advertise\": true}";
+
+        Event event = adapter.fromJson(json);
+
+        assertNotNull(event);
+        assertEquals(5, event.id);
+        assertEquals("Test", event.getTitle());
+        assertEquals(OffsetDateTime.parse("2022-10-17T10:00:00+02:00"), event.getStart());
+        assertNull(event.getEnd());
+        assertEquals("https://zeus.ugent.be", event.getUrl());
+        assertTrue(event.advertise);
+        assertEquals(event, adapter.fromJson(adapter.toJson(event)));
+    }
 }
@@ -104,4 +104,27 @@ public class EventListConverterTest {
         List<EventItem> result = converter.apply(empty);
         assertTrue(result.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testAppend() {
+        EventListConverter converter = new EventListConverter();
+        List<Event> sorted = data.stream().sorted().collect(Collectors.toList());
+        int half = sorted.size() / 2;
+
+        List<EventItem> firstPage = converter.apply(sorted.subList(0, half));
+        List<EventItem> result = converter.append(firstPage, sorted.subList(half, sorted.size()));
+
+        assertEquals(converter.apply(sorted), result);
+        // The existing list should not be modified.
+        assertEquals(converter.apply(sorted.subList(0, half)), firstPage);
+    }
+
+    @Test
+    public void testAppendEmpty() {
+        EventListConverter converter = new EventListConverter();
+        List<EventItem> existing = converter.apply(data);
+        assertEquals(existing, converter.append(existing, Collections.emptyList()));
+        assertEquals(converter.apply(data.stream().sorted().collect(Collectors.toList())),
+                converter.append(Collections.emptyList(), data.stream().sorted().collect(Collectors.toList())));
+    }
+}
@@ -29,6 +29,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 
+import be.ugent.zeus.hydra.common.database.Database;
 import be.ugent.zeus.hydra.common.request.RequestException;
 import be.ugent.zeus.hydra.common.request.Result;
 import com.squareup.moshi.JsonAdapter;
@@ -68,6 +69,7 @@ public abstract class AbstractJsonRequestTest<D> {
     @Before
     public void setUp() {
         InstanceProvider.reset();
+        Database.reset();
         moshi = InstanceProvider.getMoshi();
         context = ApplicationProvider.getApplicationContext();
     }
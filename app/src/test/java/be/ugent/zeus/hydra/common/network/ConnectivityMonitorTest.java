@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * @author Niko Strijbol
+ */
+public class ConnectivityMonitorTest {
+
+    @Test
+    public void shouldClassifyBandwidth() {
+        assertEquals(ConnectivityMonitor.Bandwidth.UNKNOWN, ConnectivityMonitor.classify(0));
+        assertEquals(ConnectivityMonitor.Bandwidth.LOW, ConnectivityMonitor.classify(100));
+        assertEquals(ConnectivityMonitor.Bandwidth.MEDIUM, ConnectivityMonitor.classify(1000));
+        assertEquals(ConnectivityMonitor.Bandwidth.HIGH, ConnectivityMonitor.classify(50_000));
+    }
+
+    @Test
+    public void shouldCompareStatus() {
+        int high = ConnectivityMonitor.Bandwidth.HIGH;
+        ConnectivityMonitor.Status status = new ConnectivityMonitor.Status(true, false, high);
+
+        assertEquals(new ConnectivityMonitor.Status(true, false, high), status);
+        assertNotEquals(new ConnectivityMonitor.Status(true, true, high), status);
+        assertNotEquals(new ConnectivityMonitor.Status(false, false, high), status);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.common.network;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+
+import be.ugent.zeus.hydra.association.event.Event;
+import be.ugent.zeus.hydra.info.InfoItem;
+import be.ugent.zeus.hydra.library.Library;
+import be.ugent.zeus.hydra.news.NewsArticle;
+import be.ugent.zeus.hydra.resto.RestoMeal;
+import be.ugent.zeus.hydra.resto.RestoMenu;
+import be.ugent.zeus.hydra.schamper.Article;
+import be.ugent.zeus.hydra.wpi.tap.product.Product;
+import com.squareup.moshi.Json;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.Moshi;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static be.ugent.zeus.hydra.testing.Utils.generate;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the hand-written adapters for the models annotated with {@link com.squareup.moshi.JsonClass}. Since these
+ * adapters must be updated manually when a field is added, this checks every field that Moshi's reflective adapter
+ * would use.
+ *
+ * @author Niko Strijbol
+ */
+@RunWith(Parameterized.class)
+public class JsonClassAdaptersTest {
+
+    private final Class<?> model;
+    private final String[] excluded;
+
+    public JsonClassAdaptersTest(Class<?> model, String[] excluded) {
+        this.model = model;
+        this.excluded = excluded;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][]{
+                {Event.class, new String[0]},
+                // Prevent stack overflow due to the recursion.
+                {InfoItem.class, new String[]{"subContent"}},
+                {Library.class, new String[0]},
+                {NewsArticle.class, new String[0]},
+                {RestoMeal.class, new String[0]},
+                {RestoMenu.class, new String[0]},
+                {Article.class, new String[0]},
+                {Product.class, new String[0]}
+        });
+    }
+
+    @Test
+    public void shouldUseOwnAdapter() throws ReflectiveOperationException {
+        Moshi moshi = InstanceProvider.getMoshi();
+        // Moshi looks for the adapter by this name.
+        Constructor<?> constructor = Class.forName(model.getName() + "JsonAdapter").getDeclaredConstructor(Moshi.class);
+        constructor.setAccessible(true);
+        JsonAdapter<?> own = (JsonAdapter<?>) constructor.newInstance(moshi);
+
+        // Moshi wraps the adapter to support null, so compare the descriptions.
+        assertEquals(own.nullSafe().toString(), moshi.adapter(model).toString());
+    }
+
+    @Test
+    public void shouldRoundTripEveryField() throws IOException, IllegalAccessException {
+        roundTrip(model);
+    }
+
+    @Test
+    public void shouldThrow_WhenPrimitiveIsNull() throws IOException {
+        JsonAdapter<?> adapter = InstanceProvider.getMoshi().adapter(model);
+        for (Field field : jsonFields(model)) {
+            if (!field.getType().isPrimitive()) {
+                continue;
+            }
+            String json = "{\"" + jsonName(field) + "\": null}";
+            try {
+                adapter.fromJson(json);
+                fail("A null for " + field.getName() + " should not be accepted.");
+            } catch (JsonDataException e) {
+                // Expected.
+            }
+        }
+    }
+
+    private <T> void roundTrip(Class<T> type) throws IOException, IllegalAccessException {
+        JsonAdapter<T> adapter = InstanceProvider.getMoshi().adapter(type);
+        T original = generate(type, excluded);
+
+        T decoded = adapter.fromJson(adapter.toJson(original));
+
+        assertNotNull(decoded);
+        for (Field field : jsonFields(type)) {
+            assertEquals(field.getName(), field.get(original), field.get(decoded));
+        }
+    }
+
+    private static Field[] jsonFields(Class<?> type) {
+        return Arrays.stream(type.getDeclaredFields())
+                .filter(f -> !Modifier.isStatic(f.getModifiers()) && !Modifier.isTransient(f.getModifiers()))
+                .peek(f -> f.setAccessible(true))
+                .toArray(Field[]::new);
+    }
+
+    private static String jsonName(Field field) {
+        Json json = field.getAnnotation(Json.class);
+        return json == null ? field.getName() : json.name();
+    }
+}
@@ -28,8 +28,11 @@ import androidx.annotation.NonNull;
 import androidx.test.core.app.ApplicationProvider;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
+import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import be.ugent.zeus.hydra.common.arch.data.BaseLiveData;
 import be.ugent.zeus.hydra.common.request.Request;
@@ -40,7 +43,9 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
 import static org.junit.Assert.*;
@@ -54,6 +59,9 @@ import static org.junit.Assert.*;
 @RunWith(AndroidJUnit4.class)
 public class JsonOkHttpRequestTest {
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private MockWebServer server;
     private Context context;
 
@@ -80,6 +88,9 @@ public class JsonOkHttpRequestTest {
         // Reduce the amount of time we wait for errors to speed up tests.
         builder.readTimeout(Duration.ofMillis(250));
         InstanceProvider.setClient(builder.build());
+        // Most tests verify the HTTP cache, so disable the memory cache by default.
+        InstanceProvider.setMemoryCache(new MemoryCache(0));
+        InstanceProvider.setSnapshotStore(new SnapshotStore(null, 0));
     }
 
     @After
@@ -406,6 +417,198 @@ public class JsonOkHttpRequestTest {
         result.getOrThrow();
     }
 
+    @Test
+    public void shouldReportCachedData_WhenStaleWhileRevalidate() throws IOException {
+        server.enqueue(integerJsonResponse(1));
+        server.enqueue(integerJsonResponse(2));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        // Put the request in the cache, but make it stale immediately.
+        Request<Integer> request = new StaleWhileRevalidateRequest(url);
+        Result<Integer> result = request.execute();
+        assertTrue(result.hasData());
+        assertEquals(1, (int) result.getData());
+
+        // The cached data is reported first, after which the fresh data is returned.
+        List<Result<Integer>> partials = new ArrayList<>();
+        Result<Integer> result2 = request.execute(Bundle.EMPTY, partials::add);
+        assertEquals(1, partials.size());
+        assertFalse(partials.get(0).isDone());
+        assertEquals(1, (int) partials.get(0).getData());
+        assertTrue(result2.isDone());
+        assertEquals(2, (int) result2.getData());
+
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void shouldNotReportData_WhenStaleWhileRevalidateAndNoCacheAvailable() throws IOException {
+        server.enqueue(integerJsonResponse(1));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        Request<Integer> request = new StaleWhileRevalidateRequest(url);
+        List<Result<Integer>> partials = new ArrayList<>();
+        Result<Integer> result = request.execute(Bundle.EMPTY, partials::add);
+
+        assertTrue(partials.isEmpty());
+        assertTrue(result.hasData());
+        assertEquals(1, (int) result.getData());
+    }
+
+    @Test
+    public void shouldNotReportData_WhenStaleWhileRevalidateButRequestingFreshData() throws IOException {
+        server.enqueue(integerJsonResponse(1));
+        server.enqueue(integerJsonResponse(2));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        Request<Integer> request = new StaleWhileRevalidateRequest(url);
+        request.execute();
+
+        Bundle args = new Bundle();
+        args.putBoolean(BaseLiveData.REFRESH_COLD, true);
+        List<Result<Integer>> partials = new ArrayList<>();
+        Result<Integer> result = request.execute(args, partials::add);
+
+        assertTrue(partials.isEmpty());
+        assertEquals(2, (int) result.getData());
+    }
+
+    @Test
+    public void shouldUseMemoryCache_WhenFreshDataAvailable() throws IOException {
+        InstanceProvider.setMemoryCache(new MemoryCache(1024));
+        server.enqueue(integerJsonResponse(1));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        Request<Integer> request = new TestRequest(url);
+        Result<Integer> result = request.execute();
+        Result<Integer> result2 = request.execute();
+
+        assertSame(result.getData(), result2.getData());
+        Cache cache = InstanceProvider.getClient(context).cache();
+        assertNotNull(cache);
+        assertEquals(1, cache.requestCount());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void shouldNotUseMemoryCache_WhenRequestingFreshData() throws IOException {
+        InstanceProvider.setMemoryCache(new MemoryCache(1024));
+        server.enqueue(integerJsonResponse(1));
+        server.enqueue(integerJsonResponse(2));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        Request<Integer> request = new TestRequest(url);
+        request.execute();
+
+        Bundle args = new Bundle();
+        args.putBoolean(BaseLiveData.REFRESH_COLD, true);
+        Result<Integer> result = request.execute(args);
+        assertEquals(2, (int) result.getData());
+
+        // The fresh data should now be in the memory cache.
+        Result<Integer> result2 = request.execute();
+        assertEquals(2, (int) result2.getData());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void shouldNotUseMemoryCache_WhenNoCacheDuration() throws IOException {
+        InstanceProvider.setMemoryCache(new MemoryCache(1024));
+        server.enqueue(integerJsonResponse(1));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        Request<Integer> request = new TestRequest(url, Duration.ZERO);
+        request.execute();
+        Result<Integer> result = request.execute();
+        assertEquals(1, (int) result.getData());
+
+        Cache cache = InstanceProvider.getClient(context).cache();
+        assertNotNull(cache);
+        assertEquals(2, cache.requestCount());
+    }
+
+    @Test
+    public void shouldUseSnapshot_WhenFreshDataAvailable() throws IOException {
+        InstanceProvider.setSnapshotStore(new SnapshotStore(folder.getRoot(), 1024, Runnable::run));
+        server.enqueue(integerJsonResponse(1));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+
+        new TestRequest(url).execute();
+        // A new request after a restart, with an empty memory cache.
+        Result<Integer> result = new TestRequest(url).execute();
+
+        assertEquals(1, (int) result.getData());
+        Cache cache = InstanceProvider.getClient(context).cache();
+        assertNotNull(cache);
+        assertEquals(1, cache.requestCount());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void shouldReportStaleSnapshot_WhenRevalidating() throws IOException {
+        InstanceProvider.setSnapshotStore(new SnapshotStore(folder.getRoot(), 1024, Runnable::run));
+        server.enqueue(integerJsonResponse(1));
+        server.start();
+        HttpUrl url = server.url("/fine.json");
+        TestRequest request = new TestRequest(url) {
+            @Override
+            protected boolean isStaleWhileRevalidate() {
+                return true;
+            }
+        };
+        request.execute();
+        File[] snapshots = folder.getRoot().listFiles();
+        assertNotNull(snapshots);
+        assertEquals(1, snapshots.length);
+        assertTrue(snapshots[0].setLastModified(0));
+
+        List<Result<Integer>> partials = new ArrayList<>();
+        Result<Integer> result = request.execute(new Bundle(), partials::add);
+
+        assertEquals(1, partials.size());
+        assertEquals(1, (int) partials.get(0).getData());
+        // The HTTP cache is still fresh, so no new network request is made.
+        assertEquals(1, (int) result.getData());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void shouldReportDecodedData_WhenStreaming() throws IOException {
+        server.enqueue(new MockResponse()
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .setBody("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15]"));
+        server.start();
+        HttpUrl url = server.url("/list.json");
+
+        Request<List<Integer>> request = new JsonArrayRequest<Integer>(context, Integer.class) {
+            @NonNull
+            @Override
+            protected String getAPIUrl() {
+                return url.toString();
+            }
+
+            @Override
+            protected StreamingList<?, List<Integer>> getStreamingList() {
+                return StreamingList.of(Integer.class);
+            }
+        };
+        List<Result<List<Integer>>> partials = new ArrayList<>();
+        Result<List<Integer>> result = request.execute(Bundle.EMPTY, partials::add);
+
+        assertEquals(1, partials.size());
+        assertFalse(partials.get(0).isDone());
+        assertEquals(10, partials.get(0).getData().size());
+        assertTrue(result.isDone());
+        assertEquals(15, result.getData().size());
+    }
+
     private static class TestRequest extends JsonOkHttpRequest<Integer> {
 
         private final HttpUrl url;
@@ -444,4 +647,16 @@ public class JsonOkHttpRequestTest {
             return CacheControl.FORCE_NETWORK;
         }
     }
-}
\ No newline at end of file
+
+    private static class StaleWhileRevalidateRequest extends TestRequest {
+
+        StaleWhileRevalidateRequest(HttpUrl url) {
+            super(url, Duration.ZERO);
+        }
+
+        @Override
+        protected boolean isStaleWhileRevalidate() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+@RunWith(AndroidJUnit4.class)
+public class MemoryCacheTest {
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed_WhenFull() {
+        MemoryCache cache = new MemoryCache(10);
+        cache.put("first", 1, 4, Long.MAX_VALUE);
+        cache.put("second", 2, 4, Long.MAX_VALUE);
+        // Use the first entry, so the second one is evicted.
+        assertNotNull(cache.get("first"));
+        cache.put("third", 3, 4, Long.MAX_VALUE);
+
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+        assertNotNull(cache.get("third"));
+    }
+
+    @Test
+    public void shouldKeepExpiredEntries() {
+        MemoryCache cache = new MemoryCache(10);
+        cache.put("first", 1, 4, 100);
+
+        MemoryCache.Entry entry = cache.get("first");
+        assertNotNull(entry);
+        assertTrue(entry.isFresh(99));
+        assertFalse(entry.isFresh(100));
+    }
+
+    @Test
+    public void shouldNotCache_WhenDisabled() {
+        MemoryCache cache = new MemoryCache(0);
+        cache.put("first", 1, 4, Long.MAX_VALUE);
+        assertNull(cache.get("first"));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+public class SingleFlightTest {
+
+    @Test
+    public void shouldShareCall_WhenConcurrent() throws Exception {
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> first = executor.submit(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return value;
+            }));
+
+            // Wait until the first call is in progress, then join it from another thread.
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            FutureTask<Object> second = new FutureTask<>(() -> singleFlight.execute("key", () -> {
+                calls.incrementAndGet();
+                return new Object();
+            }));
+            Thread thread = new Thread(second);
+            thread.start();
+            // Give the second thread time to start waiting.
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(value, first.get(5, TimeUnit.SECONDS));
+            assertSame(value, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotShareCall_WhenSequential() {
+        SingleFlight singleFlight = new SingleFlight();
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("key", calls::incrementAndGet);
+        singleFlight.execute("key", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldNotShareCall_WhenDifferentKey() {
+        SingleFlight singleFlight = new SingleFlight();
+
+        int first = singleFlight.execute("first", () -> 1);
+        int second = singleFlight.execute("second", () -> 2);
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrow_WhenCallThrows() {
+        SingleFlight singleFlight = new SingleFlight();
+        singleFlight.execute("key", () -> {
+            throw new IllegalStateException();
+        });
+    }
+
+    @Test
+    public void shouldReleaseWaiters_WhenCallThrowsError() throws Exception {
+        SingleFlight singleFlight = new SingleFlight();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Object> first = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                throw new StackOverflowError();
+            }));
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            FutureTask<Object> second = new FutureTask<>(() -> singleFlight.execute("key", Object::new));
+            new Thread(second).start();
+            Thread.sleep(100);
+            release.countDown();
+
+            try {
+                second.get(5, TimeUnit.SECONDS);
+                fail("The waiting call should fail as well.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof StackOverflowError);
+            }
+            try {
+                first.get(5, TimeUnit.SECONDS);
+                fail("The call should fail.");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof StackOverflowError);
+            }
+
+            // The failed call is forgotten.
+            assertEquals(1, (int) singleFlight.execute("key", () -> 1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
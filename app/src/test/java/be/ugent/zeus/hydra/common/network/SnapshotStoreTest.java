@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import be.ugent.zeus.hydra.association.event.EventList;
+import be.ugent.zeus.hydra.testing.Utils;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+public class SnapshotStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Moshi moshi = InstanceProvider.getMoshi();
+    private SnapshotStore store;
+
+    @Before
+    public void setUp() {
+        store = new SnapshotStore(folder.getRoot(), 1024 * 1024, Runnable::run);
+    }
+
+    @Test
+    public void shouldReadSameData_WhenWritten() throws IOException {
+        EventList events = Utils.readJson(moshi, "activiteiten.json", EventList.class);
+        JsonAdapter<EventList> adapter = moshi.adapter(EventList.class);
+        store.write("events", EventList.class, adapter, events, "etag", 1000);
+
+        SnapshotStore.Snapshot<EventList> snapshot = store.read("events", EventList.class, adapter);
+
+        assertNotNull(snapshot);
+        assertEquals(1000, snapshot.receivedAt);
+        assertEquals(adapter.toJson(events), adapter.toJson(snapshot.data));
+        // The names of the properties are only written once.
+        assertTrue(snapshot.size < adapter.toJson(events).length());
+    }
+
+    @Test
+    public void shouldNotReadSnapshot_WhenTypeChanged() {
+        store.write("list", Integer.class, moshi.adapter(Integer.class), 5, "etag", 1000);
+
+        assertNull(store.read("list", List.class, moshi.adapter(List.class)));
+        // The outdated snapshot is removed.
+        assertNull(store.read("list", Integer.class, moshi.adapter(Integer.class)));
+    }
+
+    @Test
+    public void shouldOnlyUpdateTime_WhenValidatorIsSame() {
+        JsonAdapter<List<Integer>> adapter = moshi.adapter(Types.newParameterizedType(List.class, Integer.class));
+        store.write("list", List.class, adapter, Arrays.asList(1, 2), "etag", 1000);
+        store.write("list", List.class, adapter, Collections.singletonList(3), "etag", 2000);
+
+        SnapshotStore.Snapshot<List<Integer>> snapshot = store.read("list", List.class, adapter);
+        assertNotNull(snapshot);
+        assertEquals(Arrays.asList(1, 2), snapshot.data);
+        assertEquals(2000, snapshot.receivedAt);
+
+        store.write("list", List.class, adapter, Collections.singletonList(3), "other", 3000);
+        snapshot = store.read("list", List.class, adapter);
+        assertNotNull(snapshot);
+        assertEquals(Collections.singletonList(3), snapshot.data);
+    }
+
+    @Test
+    public void shouldRemoveOldestSnapshots_WhenFull() {
+        JsonAdapter<String> adapter = moshi.adapter(String.class);
+        store = new SnapshotStore(folder.getRoot(), 150, Runnable::run);
+        String value = String.join("", Collections.nCopies(8, "0123456789"));
+        store.write("old", String.class, adapter, value, "etag", 1000);
+        store.write("new", String.class, adapter, value, "etag", 2000);
+
+        File[] files = folder.getRoot().listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        assertNull(store.read("old", String.class, adapter));
+        assertNotNull(store.read("new", String.class, adapter));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.squareup.moshi.JsonDataException;
+import com.squareup.moshi.Moshi;
+import com.squareup.moshi.Types;
+import okio.Buffer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+@RunWith(AndroidJUnit4.class)
+public class StreamingListTest {
+
+    private final Moshi moshi = InstanceProvider.getMoshi();
+
+    private static String numbers(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Test
+    public void shouldReportChunks_WhenResponseIsList() throws IOException {
+        Buffer source = new Buffer().writeUtf8(numbers(25));
+        List<List<Integer>> partials = new ArrayList<>();
+        Type type = Types.newParameterizedType(List.class, Integer.class);
+
+        List<Integer> result = StreamingList.of(Integer.class).decoder(moshi, type).decode(source, partials::add);
+
+        assertEquals(2, partials.size());
+        assertEquals(10, partials.get(0).size());
+        assertEquals(20, partials.get(1).size());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), partials.get(0));
+        assertNotNull(result);
+        assertEquals(25, result.size());
+        // The response is decoded in one pass.
+        assertTrue(source.exhausted());
+    }
+
+    @Test
+    public void shouldReportChunks_WhenListIsNested() throws IOException {
+        String json = "{\"other\": {\"entries\": " + numbers(12) + "}, "
+                + "\"page\": {\"total\": 12, \"entries\": " + numbers(12) + "}}";
+        Buffer source = new Buffer().writeUtf8(json);
+        List<Wrapper> partials = new ArrayList<>();
+
+        Wrapper result = new StreamingList<>(Integer.class, Wrapper::withEntries, "page", "entries")
+                .decoder(moshi, Wrapper.class)
+                .decode(source, partials::add);
+
+        // Only the list at the path is streamed.
+        assertEquals(1, partials.size());
+        assertEquals(10, partials.get(0).page.entries.size());
+        assertNotNull(result);
+        assertEquals(12, result.page.total);
+        assertEquals(12, result.page.entries.size());
+        assertEquals(12, result.other.entries.size());
+    }
+
+    @Test
+    public void shouldDecodeNormally_WhenListIsNotFound() throws IOException {
+        Buffer source = new Buffer().writeUtf8("{\"other\": {\"entries\": " + numbers(12) + "}}");
+        List<Wrapper> partials = new ArrayList<>();
+
+        Wrapper result = new StreamingList<>(Integer.class, Wrapper::withEntries, "page", "entries")
+                .decoder(moshi, Wrapper.class)
+                .decode(source, partials::add);
+
+        assertTrue(partials.isEmpty());
+        assertNotNull(result);
+        assertNull(result.page);
+        assertEquals(12, result.other.entries.size());
+    }
+
+    @Test
+    public void shouldUseOwnPartialFactory_WhenSamePathAndType() throws IOException {
+        String json = "{\"page\": {\"total\": 12, \"entries\": " + numbers(12) + "}}";
+        List<Wrapper> first = new ArrayList<>();
+        List<Wrapper> second = new ArrayList<>();
+
+        new StreamingList<>(Integer.class, Wrapper::withEntries, "page", "entries")
+                .decoder(moshi, Wrapper.class)
+                .decode(new Buffer().writeUtf8(json), first::add);
+        new StreamingList<>(Integer.class, entries -> {
+            Wrapper wrapper = Wrapper.withEntries(entries);
+            wrapper.page.total = -1;
+            return wrapper;
+        }, "page", "entries")
+                .decoder(moshi, Wrapper.class)
+                .decode(new Buffer().writeUtf8(json), second::add);
+
+        // The adapters are shared, but the partial data is created by each list.
+        assertEquals(1, first.size());
+        assertEquals(0, first.get(0).page.total);
+        assertEquals(1, second.size());
+        assertEquals(-1, second.get(0).page.total);
+    }
+
+    @Test(expected = JsonDataException.class)
+    public void shouldThrow_WhenResponseIsInvalid() throws IOException {
+        Buffer source = new Buffer().writeUtf8("[0, 1, 2, \"test\", 4]");
+        Type type = Types.newParameterizedType(List.class, Integer.class);
+
+        StreamingList.of(Integer.class).decoder(moshi, type).decode(source, partial -> {
+            // Not needed.
+        });
+    }
+
+    static final class Wrapper {
+        Page page;
+        Page other;
+
+        static Wrapper withEntries(List<Integer> entries) {
+            Wrapper wrapper = new Wrapper();
+            wrapper.page = new Page();
+            wrapper.page.entries = entries;
+            return wrapper;
+        }
+    }
+
+    static final class Page {
+        int total;
+        List<Integer> entries;
+    }
+}
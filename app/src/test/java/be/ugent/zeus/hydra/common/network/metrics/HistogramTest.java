@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Niko Strijbol
+ */
+public class HistogramTest {
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    @Test
+    public void shouldUseExponentialBuckets() {
+        assertEquals(0, Histogram.bucketOf(millis(0)));
+        assertEquals(1, Histogram.bucketOf(millis(1)));
+        assertEquals(2, Histogram.bucketOf(millis(3)));
+        assertEquals(3, Histogram.bucketOf(millis(4)));
+        assertEquals(Histogram.BUCKETS - 1, Histogram.bucketOf(millis(Long.MAX_VALUE / 1_000_000)));
+    }
+
+    @Test
+    public void shouldBoundPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 0; i < 9; i++) {
+            histogram.record(millis(10));
+        }
+        histogram.record(millis(300));
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(39, histogram.getMeanMillis(), 0.001);
+        assertEquals(16, histogram.getPercentileMillis(0.5));
+        assertEquals(16, histogram.getPercentileMillis(0.9));
+        assertEquals(300, histogram.getPercentileMillis(1));
+        assertEquals(300, histogram.getMaxMillis());
+    }
+
+    @Test
+    public void shouldIgnoreNegativeDurations() {
+        Histogram histogram = new Histogram();
+        histogram.record(-1);
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(0.5));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.network.metrics;
+
+import java.io.IOException;
+
+import be.ugent.zeus.hydra.common.network.Endpoints;
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.CacheStatus;
+import be.ugent.zeus.hydra.common.network.metrics.EndpointMetrics.Phase;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+public class NetworkMetricsTest {
+
+    private MockWebServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldGroupUrls_ByEndpoint() {
+        String first = NetworkMetrics.endpointOf(Endpoints.ZEUS_V2 + "resto/menu/nl/2022/10/17.json");
+        String second = NetworkMetrics.endpointOf(Endpoints.ZEUS_V2 + "resto/menu/nl/2022/10/18.json");
+        assertEquals("Zeus 2.0 resto/menu/nl/#/#/#.json", first);
+        assertEquals(first, second);
+        assertEquals("DSA activities", NetworkMetrics.endpointOf(Endpoints.DSA_V4 + "activities?page=2"));
+        assertEquals("https://example.com/a#", NetworkMetrics.endpointOf("https://example.com/a5#top"));
+    }
+
+    @Test
+    public void shouldRecordCalls() throws IOException {
+        NetworkMetrics metrics = new NetworkMetrics();
+        OkHttpClient client = new OkHttpClient.Builder()
+                .eventListenerFactory(metrics.getEventListenerFactory())
+                .build();
+        server.enqueue(new MockResponse().setBody("[1, 2, 3]"));
+        Request request = new Request.Builder().url(server.url("/test.json")).build();
+
+        try (Response response = client.newCall(request).execute()) {
+            assertNotNull(response.body());
+            response.body().string();
+        }
+
+        EndpointMetrics endpoint = metrics.forUrl(request.url().toString());
+        assertEquals(1, endpoint.getCalls());
+        assertEquals(0, endpoint.getFailedCalls());
+        assertEquals(1, endpoint.get(Phase.TTFB).getCount());
+        assertEquals(1, endpoint.get(Phase.BODY).getCount());
+        assertEquals(1, endpoint.get(Phase.TOTAL).getCount());
+        assertEquals(0, endpoint.get(Phase.TLS).getCount());
+        // There is no cache, so no cache events.
+        assertEquals(0, endpoint.getCount(CacheStatus.MISS));
+        assertTrue(metrics.getReport().contains(endpoint.getName()));
+    }
+
+    @Test
+    public void shouldSortEndpoints_BySlowest() {
+        NetworkMetrics metrics = new NetworkMetrics();
+        metrics.recordDecode("https://example.com/fast", 1_000_000);
+        metrics.recordDecode("https://example.com/slow", 50_000_000);
+        metrics.recordMemoryHit("https://example.com/fast");
+
+        assertEquals("https://example.com/slow", metrics.getEndpoints().get(0).getName());
+        assertEquals(1, metrics.forUrl("https://example.com/fast").getCount(CacheStatus.MEMORY));
+
+        metrics.reset();
+        assertTrue(metrics.getEndpoints().isEmpty());
+    }
+}
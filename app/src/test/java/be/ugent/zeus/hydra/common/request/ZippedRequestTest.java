@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.common.request;
+
+import android.util.Pair;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import be.ugent.zeus.hydra.common.arch.data.RequestScheduler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+@RunWith(AndroidJUnit4.class)
+public class ZippedRequestTest {
+
+    @Test
+    public void shouldCombineData_WhenBothSucceed() {
+        Request<Integer> first = args -> Result.Builder.fromData(1);
+        Request<String> second = args -> Result.Builder.fromData("two");
+
+        Result<Pair<Integer, String>> result = first.zip(second).execute();
+
+        assertTrue(result.hasData());
+        assertFalse(result.hasException());
+        assertEquals(1, (int) result.getData().first);
+        assertEquals("two", result.getData().second);
+    }
+
+    @Test
+    public void shouldReturnFirstError_WhenFirstFails() {
+        RequestException error = new RequestException("first");
+        Request<Integer> first = args -> Result.Builder.fromException(error);
+        Request<String> second = args -> Result.Builder.fromData("two");
+
+        Result<Pair<Integer, String>> result = first.zip(second).execute();
+
+        assertFalse(result.hasData());
+        assertSame(error, result.getError());
+    }
+
+    @Test
+    public void shouldReturnSecondError_WhenSecondFails() {
+        RequestException error = new RequestException("second");
+        Request<Integer> first = args -> Result.Builder.fromData(1);
+        Request<String> second = args -> Result.Builder.fromException(error);
+
+        Result<Pair<Integer, String>> result = first.zip(second).execute();
+
+        assertFalse(result.hasData());
+        assertSame(error, result.getError());
+    }
+
+    @Test
+    public void shouldExecuteConcurrently() {
+        // Both requests wait for each other, so this only completes if they run at the same time.
+        CountDownLatch latch = new CountDownLatch(2);
+        Request<Integer> first = args -> {
+            latch.countDown();
+            return await(latch, 1);
+        };
+        Request<Integer> second = args -> {
+            latch.countDown();
+            return await(latch, 2);
+        };
+
+        Result<Pair<Integer, Integer>> result = first.zip(second).execute();
+
+        assertTrue(result.hasData());
+        assertEquals(1, (int) result.getData().first);
+        assertEquals(2, (int) result.getData().second);
+    }
+
+    @Test
+    public void shouldUseCallerPriority() {
+        Request<Integer> first = args -> Result.Builder.fromData(RequestScheduler.getCurrentPriority());
+        Request<Integer> second = args -> Result.Builder.fromData(RequestScheduler.getCurrentPriority());
+
+        Result<Pair<Integer, Integer>> result = RequestScheduler.withPriority(RequestScheduler.Priority.PREFETCH,
+                () -> first.zip(second).execute());
+
+        assertTrue(result.hasData());
+        assertEquals(RequestScheduler.Priority.PREFETCH, (int) result.getData().first);
+        assertEquals(RequestScheduler.Priority.PREFETCH, (int) result.getData().second);
+        assertEquals(RequestScheduler.Priority.VISIBLE, RequestScheduler.getCurrentPriority());
+    }
+
+    @Test
+    public void shouldCancelSecond_WhenFirstThrows() throws InterruptedException {
+        // Keep all threads of the scheduler busy, so the second request cannot start.
+        RequestScheduler scheduler = RequestScheduler.getInstance();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 8; i++) {
+            scheduler.schedule(RequestScheduler.Priority.VISIBLE, "Blocker", () -> awaitQuietly(release));
+        }
+        AtomicBoolean secondExecuted = new AtomicBoolean();
+        IllegalStateException error = new IllegalStateException("first");
+        Request<Integer> first = args -> {
+            throw error;
+        };
+        Request<Integer> second = args -> {
+            secondExecuted.set(true);
+            return Result.Builder.fromData(2);
+        };
+
+        try {
+            RequestScheduler.withPriority(RequestScheduler.Priority.BACKGROUND, () -> first.zip(second).execute());
+            fail("The exception of the first request should be thrown.");
+        } catch (IllegalStateException e) {
+            assertSame(error, e);
+        }
+
+        // Work scheduled afterwards with the same priority runs after the second request would have.
+        CountDownLatch after = new CountDownLatch(1);
+        scheduler.schedule(RequestScheduler.Priority.BACKGROUND, "After", after::countDown);
+        release.countDown();
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+        assertFalse(secondExecuted.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Result<Integer> await(CountDownLatch latch, int value) {
+        try {
+            if (latch.await(5, TimeUnit.SECONDS)) {
+                return Result.Builder.fromData(value);
+            } else {
+                return Result.Builder.fromException(new RequestException("Not executed concurrently"));
+            }
+        } catch (InterruptedException e) {
+            return Result.Builder.fromException(new RequestException(e));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import android.os.Looper;
+import androidx.annotation.Nullable;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * @author Niko Strijbol
+ */
+@RunWith(AndroidJUnit4.class)
+public class DataContainerTest {
+
+    private static void waitFor(DataContainer<Integer> container, List<Integer> expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!expected.equals(container.getData()) && System.currentTimeMillis() < deadline) {
+            shadowOf(Looper.getMainLooper()).idle();
+            Thread.sleep(10);
+        }
+        assertEquals(expected, container.getData());
+    }
+
+    @Test
+    public void shouldApplyLatestUpdate_WhenUpdatesAreSubmittedRapidly() throws InterruptedException {
+        ListUpdateCallback callback = mock(ListUpdateCallback.class);
+        DataContainer<Integer> container = new DataContainer<>(callback);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestUpdate first = new TestUpdate(Collections.singletonList(1)) {
+            @Nullable
+            @Override
+            public List<Integer> getNewData(@Nullable List<Integer> existingData) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                return super.getNewData(existingData);
+            }
+        };
+        TestUpdate second = new TestUpdate(Collections.singletonList(2));
+        TestUpdate third = new TestUpdate(Arrays.asList(3, 3));
+
+        container.submitUpdate(first);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        container.submitUpdate(second);
+        container.submitUpdate(third);
+        release.countDown();
+
+        waitFor(container, Arrays.asList(3, 3));
+
+        assertTrue(first.cancelled.get());
+        assertEquals(0, second.calculated.get());
+        assertEquals(1, third.calculated.get());
+        verify(callback, times(1)).onInserted(0, 2);
+        verifyNoMoreInteractions(callback);
+    }
+
+    @Test
+    public void shouldNotInfluenceOtherContainers() throws InterruptedException {
+        DataContainer<Integer> first = new DataContainer<>(mock(ListUpdateCallback.class));
+        DataContainer<Integer> second = new DataContainer<>(mock(ListUpdateCallback.class));
+
+        for (int i = 0; i < 10; i++) {
+            first.submitUpdate(new TestUpdate(Collections.singletonList(i)));
+            second.submitUpdate(new TestUpdate(Collections.singletonList(i + 100)));
+        }
+
+        waitFor(first, Collections.singletonList(9));
+        waitFor(second, Collections.singletonList(109));
+    }
+
+    private static class TestUpdate implements AdapterUpdate<Integer> {
+
+        final AtomicInteger calculated = new AtomicInteger();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        private final List<Integer> data;
+
+        private TestUpdate(List<Integer> data) {
+            this.data = data;
+        }
+
+        @Nullable
+        @Override
+        public List<Integer> getNewData(@Nullable List<Integer> existingData) {
+            calculated.incrementAndGet();
+            return data;
+        }
+
+        @Override
+        public void applyUpdatesTo(ListUpdateCallback listUpdateCallback) {
+            listUpdateCallback.onInserted(0, data.size());
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.set(true);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.common.ui.recyclerview.adapters;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Niko Strijbol
+ */
+public class SearchIndexTest {
+
+    private static final List<String> ITEMS = Arrays.asList(
+            "Café Zeus",
+            "Bibliotheek Faculteit Ingenieurswetenschappen",
+            "Zeus WPI",
+            "Crème brûlée",
+            SearchableAdapter.joinForSearch("Vlaamse Technische Kring", "VTK")
+    );
+
+    private final SearchIndex<String> index = new SearchIndex<>(ITEMS, Function.identity());
+
+    @Test
+    public void normalize() {
+        assertEquals("creme brulee", SearchIndex.normalize("Crème Brûlée"));
+        assertEquals("zeus", SearchIndex.normalize("ZEUS"));
+        assertEquals("", SearchIndex.normalize(null));
+    }
+
+    @Test
+    public void shouldReturnAll_WhenQueryIsEmpty() {
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, index.search("", null));
+    }
+
+    @Test
+    public void shouldIgnoreAccents() {
+        assertArrayEquals(new int[]{0}, index.search(SearchIndex.normalize("cafe"), null));
+        assertArrayEquals(new int[]{3}, index.search(SearchIndex.normalize("BRULEE"), null));
+    }
+
+    @Test
+    public void shouldMatchSubstrings() {
+        assertArrayEquals(new int[]{0, 2}, index.search("zeus", null));
+        assertArrayEquals(new int[]{1}, index.search("teit", null));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, index.search("e", null));
+        assertArrayEquals(new int[]{4}, index.search("vtk", null));
+    }
+
+    @Test
+    public void shouldNotMatchAcrossParts() {
+        assertArrayEquals(new int[0], index.search("kringvtk", null));
+        assertArrayEquals(new int[0], index.search("xyz", null));
+    }
+
+    @Test
+    public void shouldOnlyReturnCandidates() {
+        int[] previous = index.search("ze", null);
+        assertArrayEquals(new int[]{0, 2}, previous);
+        assertArrayEquals(new int[]{2}, index.search("zeus w", previous));
+        assertArrayEquals(new int[]{0}, index.search("e", new int[]{0}));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import be.ugent.zeus.hydra.feed.cards.Card;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+public class FeedSegmentsTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.now();
+
+    @Test
+    public void shouldMergeSegments_WhenReplaced() {
+        FeedSegments segments = FeedSegments.EMPTY
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 5, 1))
+                .replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 3, 4));
+
+        assertEquals(
+                Arrays.asList(
+                        card(Card.Type.RESTO, 1),
+                        card(Card.Type.NEWS_ITEM, 3),
+                        card(Card.Type.NEWS_ITEM, 4),
+                        card(Card.Type.RESTO, 5)
+                ),
+                segments.getCards()
+        );
+    }
+
+    @Test
+    public void shouldOrderByType_WhenSamePriority() {
+        FeedSegments segments = FeedSegments.EMPTY
+                .replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 2))
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 2));
+
+        assertEquals(Arrays.asList(card(Card.Type.RESTO, 2), card(Card.Type.NEWS_ITEM, 2)), segments.getCards());
+    }
+
+    @Test
+    public void shouldCalculateChanges_WhenReplaced() {
+        FeedSegments old = FeedSegments.EMPTY
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 1, 4))
+                .replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 2, 3, 5));
+        FeedSegments segments = old.replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 0, 2, 6));
+
+        FeedList result = segments.getCards();
+        assertSame(old.getCards(), result.getPrevious());
+        assertEquals(
+                Arrays.asList(
+                        new FeedList.Change(false, 4, 1),
+                        new FeedList.Change(false, 2, 1),
+                        new FeedList.Change(true, 0, 1),
+                        new FeedList.Change(true, 4, 1)
+                ),
+                result.getChanges()
+        );
+    }
+
+    @Test
+    public void shouldRemoveSegment_WhenReplacedWithNothing() {
+        FeedSegments segments = FeedSegments.EMPTY
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 1))
+                .replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 2, 3))
+                .replace(Card.Type.NEWS_ITEM, Collections.emptyList());
+
+        assertEquals(Collections.singletonList(card(Card.Type.RESTO, 1)), segments.getCards());
+        assertEquals(Collections.singletonList(new FeedList.Change(false, 1, 2)), segments.getCards().getChanges());
+    }
+
+    @Test
+    public void shouldRemoveCards_WhenWithout() {
+        FeedSegments segments = FeedSegments.EMPTY
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 1, 4))
+                .replace(Card.Type.NEWS_ITEM, cards(Card.Type.NEWS_ITEM, 2, 3));
+
+        List<Card> removed = Arrays.asList(card(Card.Type.NEWS_ITEM, 3), card(Card.Type.URGENT_FM, 5));
+        FeedSegments result = segments.without(removed);
+
+        assertEquals(Arrays.asList(
+                card(Card.Type.RESTO, 1),
+                card(Card.Type.NEWS_ITEM, 2),
+                card(Card.Type.RESTO, 4)
+        ), result.getCards());
+        assertSame(segments, segments.without(Collections.singletonList(card(Card.Type.RESTO, 2))));
+    }
+
+    @Test
+    public void shouldReplaceCard_WhenContentChanged() {
+        FeedSegments old = FeedSegments.EMPTY
+                .replace(Card.Type.RESTO, cards(Card.Type.RESTO, 1))
+                .replace(Card.Type.LIBRARY, Collections.singletonList(card(Card.Type.LIBRARY, 2, "pending")));
+        Card complete = card(Card.Type.LIBRARY, 2, "complete");
+
+        FeedSegments segments = old.replace(Card.Type.LIBRARY, Collections.singletonList(complete));
+
+        assertEquals(Arrays.asList(card(Card.Type.RESTO, 1), complete), segments.getCards());
+        assertEquals(
+                Arrays.asList(new FeedList.Change(false, 1, 1), new FeedList.Change(true, 1, 1)),
+                segments.getCards().getChanges()
+        );
+    }
+
+    @Test
+    public void shouldKeepInstance_WhenRankUnchanged() {
+        FeedSegments segments = FeedSegments.EMPTY.replace(Card.Type.RESTO, cards(Card.Type.RESTO, 1, 2));
+
+        assertSame(segments, segments.rank(NOW));
+    }
+
+    @Test
+    public void shouldKeepOrderWithinSegment_WhenCreatedFromList() {
+        List<Card> cards = Arrays.asList(
+                card(Card.Type.RESTO, 1),
+                card(Card.Type.NEWS_ITEM, 2),
+                card(Card.Type.RESTO, 3)
+        );
+
+        assertEquals(cards, FeedSegments.of(cards).getCards());
+    }
+
+    private static List<Card> cards(@Card.Type int type, int... priorities) {
+        Card[] cards = new Card[priorities.length];
+        for (int i = 0; i < priorities.length; i++) {
+            cards[i] = card(type, priorities[i]);
+        }
+        return Arrays.asList(cards);
+    }
+
+    private static Card card(@Card.Type int type, int priority) {
+        return card(type, priority, "");
+    }
+
+    private static Card card(@Card.Type int type, int priority, String content) {
+        FixedCard card = new FixedCard(type, priority, content);
+        card.rank(NOW);
+        return card;
+    }
+
+    private static class FixedCard extends Card {
+
+        private final int type;
+        private final int priority;
+        private final String content;
+
+        private FixedCard(int type, int priority, String content) {
+            this.type = type;
+            this.priority = priority;
+            this.content = content;
+        }
+
+        @Override
+        public int getCardType() {
+            return type;
+        }
+
+        @Override
+        protected int calculatePriority(ZonedDateTime now) {
+            return priority;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return String.valueOf(priority);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, priority, content);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FixedCard)) {
+                return false;
+            }
+            FixedCard other = (FixedCard) obj;
+            return other.type == type && other.priority == priority && other.content.equals(content);
+        }
+
+        @Override
+        public String toString() {
+            return type + ":" + priority + content;
+        }
+    }
+}
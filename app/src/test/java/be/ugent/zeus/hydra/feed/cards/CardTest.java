@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed.cards;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Niko Strijbol
+ */
+public class CardTest {
+
+    @Test
+    public void shouldCachePriority_WhenRanked() {
+        ZonedDateTime now = ZonedDateTime.now();
+        TimedCard card = new TimedCard(now.plusHours(10));
+
+        assertTrue(card.rank(now));
+        assertEquals(10, card.getPriority());
+        assertEquals(10, card.getPriority());
+        assertEquals(1, card.calculations);
+    }
+
+    @Test
+    public void shouldReportChange_WhenRankedAgain() {
+        ZonedDateTime now = ZonedDateTime.now();
+        TimedCard card = new TimedCard(now.plusHours(10));
+        card.rank(now);
+
+        assertFalse(card.rank(now.plusMinutes(5)));
+        assertTrue(card.rank(now.plusHours(2)));
+        assertEquals(8, card.getPriority());
+    }
+
+    @Test
+    public void shouldRankOnFirstUse_WhenNotRanked() {
+        TimedCard card = new TimedCard(ZonedDateTime.now().plusHours(10));
+
+        assertTrue(card.getPriority() >= 9);
+        assertEquals(1, card.calculations);
+    }
+
+    @Test
+    public void shouldCompareCachedPriorities() {
+        ZonedDateTime now = ZonedDateTime.now();
+        TimedCard early = new TimedCard(now.plusHours(1));
+        TimedCard late = new TimedCard(now.plusHours(5));
+        early.rank(now);
+        late.rank(now);
+
+        assertTrue(early.compareTo(late) < 0);
+        assertTrue(late.compareTo(early) > 0);
+    }
+
+    private static class TimedCard extends Card {
+
+        private final ZonedDateTime time;
+        private int calculations;
+
+        private TimedCard(ZonedDateTime time) {
+            this.time = time;
+        }
+
+        @Override
+        public int getCardType() {
+            return Type.DEBUG;
+        }
+
+        @Override
+        protected int calculatePriority(ZonedDateTime now) {
+            calculations++;
+            return (int) Duration.between(now, time).toHours();
+        }
+
+        @Override
+        public String getIdentifier() {
+            return time.toString();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(time);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TimedCard && ((TimedCard) obj).time.equals(time);
+        }
+    }
+}
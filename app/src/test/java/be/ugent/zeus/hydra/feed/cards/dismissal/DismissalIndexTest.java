@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.feed.cards.dismissal;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import be.ugent.zeus.hydra.feed.cards.Card;
+import be.ugent.zeus.hydra.feed.commands.MemoryDismissalDao;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Niko Strijbol
+ */
+public class DismissalIndexTest {
+
+    private MemoryDismissalDao dao;
+    private DismissalIndex index;
+
+    @Before
+    public void setUp() {
+        dao = new MemoryDismissalDao();
+        dao.insert(new CardDismissal(new CardIdentifier(Card.Type.RESTO, "hidden"), Instant.now()));
+        dao.insert(new CardDismissal(new CardIdentifier(Card.Type.RESTO, "stale"), Instant.now()));
+        dao.insert(new CardDismissal(new CardIdentifier(Card.Type.NEWS_ITEM, "stale"), Instant.now()));
+        dao.insert(new CardDismissal(new CardIdentifier(Card.Type.ACTIVITY, "stale"), Instant.now()));
+        index = new DismissalIndex(dao);
+    }
+
+    @Test
+    public void shouldHideDismissedCards() {
+        Card hidden = mockCard(Card.Type.RESTO, "hidden");
+        Card shown = mockCard(Card.Type.RESTO, "shown");
+
+        List<Card> result = index.filter(Card.Type.RESTO, Arrays.asList(hidden, shown));
+
+        assertEquals(Collections.singletonList(shown), result);
+    }
+
+    @Test
+    public void shouldOnlyPruneStaleDismissalsOfFilteredTypes() {
+        index.filter(Card.Type.RESTO, Collections.singletonList(mockCard(Card.Type.RESTO, "hidden")));
+        index.filter(Card.Type.NEWS_ITEM, Collections.emptyList());
+
+        index.prune();
+
+        assertEquals(1, dao.getIdsForType(Card.Type.RESTO).size());
+        assertEquals("hidden", dao.getIdsForType(Card.Type.RESTO).get(0).getIdentifier());
+        assertTrue(dao.getIdsForType(Card.Type.NEWS_ITEM).isEmpty());
+        // The activities were not loaded, so their dismissals are kept.
+        assertEquals(1, dao.getIdsForType(Card.Type.ACTIVITY).size());
+    }
+
+    private static Card mockCard(@Card.Type int type, String identifier) {
+        Card card = mock(Card.class);
+        when(card.getCardType()).thenReturn(type);
+        when(card.getIdentifier()).thenReturn(identifier);
+        return card;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package be.ugent.zeus.hydra.feed.cards.library;
+
+import android.util.Pair;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import be.ugent.zeus.hydra.common.request.Result;
+import be.ugent.zeus.hydra.library.details.OpeningHours;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * @author Niko Strijbol
+ */
+@RunWith(RobolectricTestRunner.class)
+public class LibraryCardTest {
+
+    @Test
+    public void shouldNotBeEqual_WhenPendingHoursArrived() {
+        LibraryCard pending = card(new Result.Builder<Optional<OpeningHours>>()
+                .withData(Optional.empty())
+                .buildPartial());
+        LibraryCard complete = card(Result.Builder.fromData(Optional.empty()));
+
+        assertNotEquals(pending, complete);
+    }
+
+    @Test
+    public void shouldBeEqual_WhenSameHours() {
+        LibraryCard first = card(Result.Builder.fromData(Optional.empty()));
+        LibraryCard second = card(Result.Builder.fromData(Optional.empty()));
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    private static LibraryCard card(Result<Optional<OpeningHours>> hours) {
+        return new LibraryCard(Collections.singletonList(Pair.create("Library", hours)));
+    }
+}
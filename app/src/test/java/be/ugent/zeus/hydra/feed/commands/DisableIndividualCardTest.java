@@ -28,6 +28,7 @@ import androidx.annotation.NonNull;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Predicate;
 
 import be.ugent.zeus.hydra.common.reporting.Event;
 import be.ugent.zeus.hydra.common.reporting.Reporting;
@@ -38,9 +39,9 @@ import be.ugent.zeus.hydra.feed.cards.dismissal.CardIdentifier;
 import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
 import org.junit.Test;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Niko Strijbol
@@ -74,6 +75,27 @@ public class DisableIndividualCardTest {
         assertTrue(newDismissals.isEmpty());
     }
 
+    @Test
+    public void testHiddenCards() {
+        CardIdentifier identifier = new CardIdentifier(Card.Type.DEBUG, "test");
+        CardDismissal cardDismissal = new CardDismissal(identifier, Instant.now());
+        DismissalDao repository = new MemoryDismissalDao();
+        DisableIndividualCard disableIndividualCard = new DisableIndividualCard(cardDismissal, c -> repository);
+
+        Predicate<Card> hidden = disableIndividualCard.getHiddenCards();
+        assertNotNull(hidden);
+        assertTrue(hidden.test(mockCard(Card.Type.DEBUG, "test")));
+        assertFalse(hidden.test(mockCard(Card.Type.DEBUG, "other")));
+        assertFalse(hidden.test(mockCard(Card.Type.NEWS_ITEM, "test")));
+    }
+
+    private static Card mockCard(@Card.Type int type, String identifier) {
+        Card card = mock(Card.class);
+        when(card.getCardType()).thenReturn(type);
+        when(card.getIdentifier()).thenReturn(identifier);
+        return card;
+    }
+
     @SuppressWarnings("MismatchedQueryAndUpdateOfCollection")
     private static class MemoryTracker implements Tracker {
 
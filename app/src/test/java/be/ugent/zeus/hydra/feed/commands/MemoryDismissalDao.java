@@ -25,12 +25,12 @@ package be.ugent.zeus.hydra.feed.commands;
 import android.os.Build;
 import androidx.annotation.RequiresApi;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import be.ugent.zeus.hydra.feed.cards.Card;
 import be.ugent.zeus.hydra.feed.cards.dismissal.CardDismissal;
 import be.ugent.zeus.hydra.feed.cards.dismissal.CardIdentifier;
 import be.ugent.zeus.hydra.feed.cards.dismissal.DismissalDao;
@@ -66,17 +66,6 @@ public class MemoryDismissalDao extends DismissalDao {
         dismissals.add(cardDismissal);
     }
 
-    @Override
-    public void prune(int cardType, List<Card> allCards) {
-        List<CardDismissal> typeDismissals = getForType(cardType);
-        Set<CardIdentifier> cardSet = allCards.stream().map(c -> new CardIdentifier(c.getCardType(), c.getIdentifier())).collect(Collectors.toSet());
-        for (CardDismissal dismissal : typeDismissals) {
-            if (!cardSet.contains(dismissal.getIdentifier())) {
-                delete(dismissal);
-            }
-        }
-    }
-
     @Override
     public void delete(CardDismissal dismissal) {
         dismissals.remove(dismissal);
@@ -88,10 +77,17 @@ public class MemoryDismissalDao extends DismissalDao {
     }
 
     @Override
-    protected void deleteCard(int cardType, String id) {
+    public List<CardIdentifier> getAllIds() {
+        return dismissals.stream()
+                .map(CardDismissal::getIdentifier)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    protected void deleteCards(int cardType, Collection<String> ids) {
         dismissals.removeIf(cardDismissal -> {
             CardIdentifier identifier = cardDismissal.getIdentifier();
-            return identifier.getCardType() == cardType && identifier.getIdentifier().equals(id);
+            return identifier.getCardType() == cardType && ids.contains(identifier.getIdentifier());
         });
     }
 }
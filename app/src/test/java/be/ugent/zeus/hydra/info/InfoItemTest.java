@@ -24,12 +24,15 @@ package be.ugent.zeus.hydra.info;
 
 import android.os.Parcel;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 
 import be.ugent.zeus.hydra.common.MockParcel;
 import be.ugent.zeus.hydra.common.ModelTest;
+import be.ugent.zeus.hydra.common.network.InstanceProvider;
 import be.ugent.zeus.hydra.testing.Utils;
+import com.squareup.moshi.JsonAdapter;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -88,4 +91,13 @@ public class InfoItemTest extends ModelTest<InfoItem> {
         InfoItem restored = InfoItem.CREATOR.createFromParcel(parcel);
         assertThat(restored, samePropertyValuesAs(oneDeep));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldRoundTrip_withInfoItemAdapter() throws IOException {
+        JsonAdapter<InfoItem> adapter = InstanceProvider.getMoshi().adapter(InfoItem.class);
+
+        InfoItem decoded = adapter.fromJson(adapter.toJson(oneDeep));
+
+        assertEquals(oneDeep, decoded);
+    }
+}
@@ -22,6 +22,7 @@
 
 package be.ugent.zeus.hydra.resto.menu;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 
@@ -29,12 +30,19 @@ import be.ugent.zeus.hydra.R;
 import be.ugent.zeus.hydra.common.network.AbstractJsonRequestTest;
 import be.ugent.zeus.hydra.common.network.JsonOkHttpRequest;
 import be.ugent.zeus.hydra.resto.RestoMenu;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
 import static be.ugent.zeus.hydra.resto.menu.MenuRequest.OVERVIEW_URL;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Niko Strijbol
@@ -58,4 +66,25 @@ public class MenuRequestTest extends AbstractJsonRequestTest<List<RestoMenu>> {
         String expected = String.format(Locale.ROOT, OVERVIEW_URL, resto);
         Assert.assertEquals(expected, request.getAPIUrl());
     }
+
+    @Test
+    public void shouldSaveOnce_WhenServedFromMemory() throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.enqueue(new MockResponse()
+                .setBody(readData(getResourceFile(getRelativePath())))
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+        );
+        server.start();
+        MenuRequest request = spy(new MenuRequest(context));
+        HttpUrl originalUrl = HttpUrl.parse(request.getAPIUrl());
+        assertNotNull(originalUrl);
+        doReturn(server.url(originalUrl.encodedPath()).toString()).when(request).getAPIUrl();
+
+        assertTrue(request.execute().hasData());
+        // The second execution uses the memory cache.
+        assertTrue(request.execute().hasData());
+
+        verify(request, times(1)).onNetworkData(anyList());
+        server.shutdown();
+    }
 }
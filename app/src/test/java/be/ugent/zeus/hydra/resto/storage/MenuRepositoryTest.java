@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2022 The Hydra authors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package be.ugent.zeus.hydra.resto.storage;
+
+import android.content.Context;
+import androidx.annotation.RequiresApi;
+import androidx.arch.core.executor.testing.InstantTaskExecutorRule;
+import androidx.room.Room;
+import androidx.test.core.app.ApplicationProvider;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import be.ugent.zeus.hydra.TestApp;
+import be.ugent.zeus.hydra.common.database.Database;
+import be.ugent.zeus.hydra.resto.RestoMenu;
+import org.junit.*;
+import org.junit.runner.RunWith;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.LooperMode;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link MenuRepository}.
+ *
+ * @author Niko Strijbol
+ */
+// Request an older version of Android, since the SQLite version in Robolectric does not follow Android releases.
+@RequiresApi(api = 26)
+@RunWith(AndroidJUnit4.class)
+@LooperMode(LooperMode.Mode.PAUSED)
+@Config(application = TestApp.class)
+public class MenuRepositoryTest {
+
+    @Rule
+    public InstantTaskExecutorRule executorRule = new InstantTaskExecutorRule();
+
+    private Database database;
+    private MenuRepository repository;
+
+    private static RestoMenu menu(LocalDate date, String message) {
+        RestoMenu menu = new RestoMenu();
+        menu.setOpen(true);
+        menu.setDate(date);
+        menu.setMessage(message);
+        menu.setMeals(Collections.emptyList());
+        menu.setVegetables(Collections.singletonList("Wortels"));
+        return menu;
+    }
+
+    @Before
+    public void setUp() {
+        Context context = ApplicationProvider.getApplicationContext();
+        database = Room.inMemoryDatabaseBuilder(context, Database.class)
+                .allowMainThreadQueries()
+                .build();
+        repository = database.getMenuRepository();
+    }
+
+    @After
+    public void tearDown() {
+        database.clearAllTables();
+        database.close();
+    }
+
+    @Test
+    public void testSaveAndRead() {
+        LocalDate today = LocalDate.now();
+        List<RestoMenu> menus = Arrays.asList(menu(today.plusDays(1), "Morgen"), menu(today, "Vandaag"));
+        repository.save("nl", menus);
+
+        List<RestoMenu> stored = repository.getMenusFrom("nl", today);
+        assertEquals(Arrays.asList(menus.get(1), menus.get(0)), stored);
+        assertEquals(menus.get(0), repository.getMenu("nl", today.plusDays(1)));
+        assertNull(repository.getMenu("en", today));
+        assertTrue(repository.getMenusFrom("nl", today.plusDays(2)).isEmpty());
+    }
+
+    @Test
+    public void testWindow() {
+        LocalDate today = LocalDate.now();
+        repository.save("nl", Arrays.asList(
+                menu(today.minusDays(2), "Eergisteren"),
+                menu(today.minusDays(1), "Gisteren"),
+                menu(today, "Vandaag")
+        ));
+
+        List<RestoMenu> stored = repository.getMenus("nl", today.minusDays(1), today);
+        assertEquals(2, stored.size());
+        assertEquals("Gisteren", stored.get(0).getMessage());
+        assertEquals("Vandaag", stored.get(1).getMessage());
+    }
+
+    @Test
+    public void testUpsert() {
+        LocalDate today = LocalDate.now();
+        repository.save("nl", menu(today, "Oud"));
+        repository.save("nl", menu(today, "Nieuw"));
+
+        List<StoredMenu> stored = repository.getStored("nl", today, today);
+        assertEquals(1, stored.size());
+        assertEquals("Nieuw", repository.getMenu("nl", today).getMessage());
+    }
+
+    @Test
+    public void testUnchangedIsNotWritten() {
+        LocalDate today = LocalDate.now();
+        repository.save("nl", menu(today, "Vandaag"));
+        Instant first = repository.getStoredOn("nl", today).getFetchedAt();
+        repository.save("nl", menu(today, "Vandaag"));
+        assertEquals(first, repository.getStoredOn("nl", today).getFetchedAt());
+    }
+
+    @Test
+    public void testOldMenusArePruned() {
+        LocalDate today = LocalDate.now();
+        LocalDate old = today.minusDays(MenuRepository.HISTORY_DAYS + 1);
+        repository.save("nl", Arrays.asList(menu(old, "Lang geleden"), menu(today, "Vandaag")));
+
+        assertNull(repository.getMenu("nl", old));
+        assertNotNull(repository.getMenu("nl", today));
+    }
+}